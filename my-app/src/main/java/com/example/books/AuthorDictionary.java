@@ -0,0 +1,75 @@
+package com.example.books;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 저자명 사전. 처음 보는 저자명에 0부터 차례로 번호를 붙이고, 이후 같은 이름은 같은 번호와 같은 String 인스턴스를 돌려준다.
+ * 도서 수보다 저자 수가 훨씬 적으므로 저장소가 이 사전을 공유하면 도서마다 저자명 String 을 따로 들고 있지 않아도 되고,
+ * 저자 일치 검색은 문자열 대신 번호를 비교하면 된다. 번호는 지워지지 않는다.
+ */
+public class AuthorDictionary {
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] names = new String[64];
+    private int size; // assign 안에서만 바뀐다
+
+    /** 저자 번호 (없으면 새로 붙인다) */
+    public int idOf(String name) {
+        if (name == null) {
+            throw new IllegalArgumentException("저자명이 필요합니다");
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : assign(name);
+    }
+
+    /** 이미 있는 저자의 번호, 없으면 UNKNOWN */
+    public int find(String name) {
+        Integer id = name == null ? null : ids.get(name);
+        return id != null ? id : UNKNOWN;
+    }
+
+    public String nameOf(int id) {
+        String[] current = names;
+        if (id < 0 || id >= current.length || current[id] == null) {
+            throw new IllegalArgumentException("없는 저자 번호입니다: " + id);
+        }
+        return current[id];
+    }
+
+    /** 같은 이름이면 항상 같은 인스턴스 */
+    public String canonical(String name) {
+        return nameOf(idOf(name));
+    }
+
+    /** 이 사전의 저자 번호와 공유 저자명을 가진 도서 (이미 그렇다면 그대로) */
+    public Book intern(Book book) {
+        int id = idOf(book.getAuthor());
+        if (book.getAuthorId() == id && book.getAuthor() == nameOf(id)) {
+            return book;
+        }
+        return new Book(book.getIsbn(), book.getTitle(), book.getAuthor(), this);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    // 배열에 먼저 넣고 ids 에 게시하므로 ids 로 번호를 얻은 쪽은 항상 이름을 읽을 수 있다
+    private synchronized int assign(String name) {
+        Integer existing = ids.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        String[] current = names;
+        if (size == current.length) {
+            current = Arrays.copyOf(current, size * 2);
+        }
+        current[size] = name;
+        names = current;
+        ids.put(name, size);
+        return size++;
+    }
+}
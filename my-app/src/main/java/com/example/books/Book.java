@@ -1,49 +1,43 @@
 package com.example.books;
 
-import java.util.Objects;
-
 public class Book {
     private final String isbn;
+    private final long isbnKey;
     private final String title;
     private final String author;
+    private final int authorId;
     
     public Book(String isbn, String title, String author) {
-        validateIsbn(isbn);
+        this(isbn, title, author, null);
+    }
+    
+    // authors 가 있으면 저자명을 사전의 공유 인스턴스로 바꾸고 저자 번호를 함께 둔다
+    public Book(String isbn, String title, String author, AuthorDictionary authors) {
+        long isbnKey = validateIsbn(isbn);
         validateTitle(title);
         validateAuthor(author);
         
         this.isbn = isbn;
+        this.isbnKey = isbnKey;
         this.title = title;
-        this.author = author;
+        if (authors == null) {
+            this.author = author;
+            this.authorId = AuthorDictionary.UNKNOWN;
+        } else {
+            this.authorId = authors.idOf(author);
+            this.author = authors.nameOf(authorId);
+        }
     }
     
-    private void validateIsbn(String isbn) {
+    private long validateIsbn(String isbn) {
         if (isbn == null) {
             throw new IllegalArgumentException("ISBN은 필수입니다");
         }
-        if (isbn.trim().isEmpty()) {
-            throw new IllegalArgumentException("유효하지 않은 ISBN입니다");
-        }
-        
-        // 더 엄격한 ISBN 검증
-        String cleanIsbn = isbn.replaceAll("[^0-9X]", ""); // 숫자와 X만 남김
-        
-        // 길이 검증 (ISBN-10: 10자리, ISBN-13: 13자리)
-        if (cleanIsbn.length() != 10 && cleanIsbn.length() != 13) {
-            throw new IllegalArgumentException("유효하지 않은 ISBN입니다");
-        }
-        
-        // ISBN-13은 978 또는 979로 시작해야 함
-        if (cleanIsbn.length() == 13) {
-            if (!cleanIsbn.startsWith("978") && !cleanIsbn.startsWith("979")) {
-                throw new IllegalArgumentException("유효하지 않은 ISBN입니다");
-            }
-        }
-        
-        // 기본적인 형식 검증
-        if (!cleanIsbn.matches("^[0-9]{9}[0-9X]$") && !cleanIsbn.matches("^[0-9]{13}$")) {
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
             throw new IllegalArgumentException("유효하지 않은 ISBN입니다");
         }
+        return key;
     }
     
     private void validateTitle(String title) {
@@ -62,6 +56,11 @@ public class Book {
         return isbn;
     }
     
+    // 표기(하이픈, ISBN-10/13)와 관계없는 ISBN-13 숫자 키
+    public long getIsbnKey() {
+        return isbnKey;
+    }
+    
     public String getTitle() {
         return title;
     }
@@ -70,17 +69,22 @@ public class Book {
         return author;
     }
     
+    // AuthorDictionary 로 만들지 않은 도서는 AuthorDictionary.UNKNOWN
+    public int getAuthorId() {
+        return authorId;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Book book = (Book) o;
-        return Objects.equals(isbn, book.isbn);
+        return isbnKey == book.isbnKey;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(isbn);
+        return Long.hashCode(isbnKey);
     }
     
     @Override
@@ -0,0 +1,108 @@
+package com.example.books;
+
+/**
+ * ISBN 검증/정규화 유틸리티.
+ * 정규식이나 중간 문자열 없이 한 번의 순회로 ISBN-10, ISBN-13 형식과 체크 숫자를 함께 검증한다.
+ * 구분자는 '-' 와 공백만 허용하고, 'X' 는 ISBN-10 의 마지막 자리에만 올 수 있다.
+ * ISBN-13 은 978 또는 979 로 시작해야 한다.
+ */
+public final class Isbn {
+
+    private static final long ISBN10_PREFIX = 978_000_000_000L; // "978" + 9자리
+    private static final int ISBN10_PREFIX_SUM = 9 + 7 * 3 + 8;   // "978" 의 ISBN-13 가중합
+
+    private Isbn() {
+    }
+
+    public static boolean isValid(CharSequence isbn) {
+        return toKey(isbn) >= 0;
+    }
+
+    /**
+     * 구분자를 제거한 정규 형식 (ISBN-10 은 10자리, ISBN-13 은 13자리)
+     */
+    public static String normalize(CharSequence isbn) {
+        if (!isValid(isbn)) {
+            throw new IllegalArgumentException("유효하지 않은 ISBN입니다");
+        }
+        int length = 0;
+        for (int i = 0; i < isbn.length(); i++) {
+            if (!isSeparator(isbn.charAt(i))) {
+                length++;
+            }
+        }
+        char[] canonical = new char[length];
+        int position = 0;
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (!isSeparator(c)) {
+                canonical[position++] = c;
+            }
+        }
+        return new String(canonical);
+    }
+
+    /**
+     * ISBN-13 13자리를 그대로 담은 long 키 (ISBN-10 은 978 접두어 ISBN-13 으로 변환).
+     * 하이픈 유무나 ISBN-10/13 표기와 관계없이 같은 책이면 같은 키가 된다.
+     *
+     * @return 유효하지 않거나 null 이면 -1
+     */
+    public static long toKey(CharSequence isbn) {
+        if (isbn == null) {
+            return -1;
+        }
+        int digits = 0;
+        long number = 0;     // 읽은 숫자 전체 (ISBN-10 은 앞 9자리만 사용)
+        int sum10 = 0;
+        int sum13 = 0;
+        int bodySum13 = 0;   // ISBN-10 앞 9자리를 978 뒤에 붙였을 때의 ISBN-13 가중합
+        boolean checkX = false;
+        for (int i = 0; i < isbn.length(); i++) {
+            char c = isbn.charAt(i);
+            if (isSeparator(c)) {
+                continue;
+            }
+            if (checkX || digits == 13) {
+                return -1;
+            }
+            int value;
+            if (c >= '0' && c <= '9') {
+                value = c - '0';
+            } else if (c == 'X' && digits == 9) {
+                value = 10;
+                checkX = true;
+            } else {
+                return -1;
+            }
+            if (digits < 9) {
+                number = number * 10 + value;
+                bodySum13 += (digits & 1) == 0 ? value * 3 : value;
+            } else if (!checkX) {
+                number = number * 10 + value;
+            }
+            if (digits < 10) {
+                sum10 += value * (10 - digits);
+            }
+            sum13 += (digits & 1) == 0 ? value : value * 3;
+            digits++;
+        }
+        if (digits == 10) {
+            if (sum10 % 11 != 0) {
+                return -1;
+            }
+            long body = checkX ? number : number / 10;
+            int check = (10 - (ISBN10_PREFIX_SUM + bodySum13) % 10) % 10;
+            return (ISBN10_PREFIX + body) * 10 + check;
+        }
+        long prefix = number / 10_000_000_000L;
+        if (digits == 13 && !checkX && (prefix == 978 || prefix == 979) && sum13 % 10 == 0) {
+            return number;
+        }
+        return -1;
+    }
+
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ';
+    }
+}
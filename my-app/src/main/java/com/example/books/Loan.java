@@ -9,8 +9,9 @@ public class Loan {
     private final String isbn;
     private final LocalDate loanDate;
     private final LocalDate dueDate;
-    private LocalDate returnDate;
-    private LoanStatus status;
+    // 반납과 연체 전환이 서로 다른 스레드에서 일어나므로 상태 변경은 this 로 동기화하고 읽기는 volatile 로 본다
+    private volatile LocalDate returnDate;
+    private volatile LoanStatus status;
     
     public Loan(String id, String userId, String isbn, LocalDate loanDate, int loanPeriodDays) {
         if (id == null || id.trim().isEmpty()) {
@@ -37,7 +38,7 @@ public class Loan {
         this.status = LoanStatus.ACTIVE;
     }
     
-    public void returnBook(LocalDate returnDate) {
+    public synchronized void returnBook(LocalDate returnDate) {
         if (returnDate == null) {
             throw new IllegalArgumentException("반납일은 필수입니다");
         }
@@ -49,8 +50,15 @@ public class Loan {
         this.status = LoanStatus.RETURNED;
     }
     
+    public synchronized void markOverdue() {
+        if (status != LoanStatus.ACTIVE) {
+            throw new IllegalStateException("대출 중인 도서만 연체 처리할 수 있습니다");
+        }
+        this.status = LoanStatus.OVERDUE;
+    }
+    
     public boolean isOverdue(LocalDate currentDate) {
-        return status == LoanStatus.ACTIVE && currentDate.isAfter(dueDate);
+        return status != LoanStatus.RETURNED && currentDate.isAfter(dueDate);
     }
     
     public long getOverdueDays(LocalDate currentDate) {
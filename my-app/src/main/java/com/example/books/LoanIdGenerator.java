@@ -0,0 +1,6 @@
+package com.example.books;
+
+// 대출 ID 생성 전략 (생성한 ID 는 전역적으로 유일해야 한다)
+public interface LoanIdGenerator {
+    String nextId();
+}
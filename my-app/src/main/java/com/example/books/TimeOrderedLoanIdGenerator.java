@@ -0,0 +1,143 @@
+package com.example.books;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순으로 정렬되는 64비트 대출 ID 생성기.
+ * 상위부터 [밀리초 타임스탬프 42비트 | 노드 5비트 | 스트라이프 5비트 | 순번 12비트] 로 구성한다.
+ * 스레드는 스레드 ID 로 고른 스트라이프의 상태를 잠그고 순번을 받으므로, 스트라이프를 함께 쓰는 스레드끼리도 겹치지 않는다.
+ * 같은 JVM 안의 인스턴스는 노드별 상태를 공유하고, JVM 이 여럿이면 서로 다른 노드 ID 를 주어야 한다.
+ * 문자열은 Crockford Base32 13자리 고정 길이라서 문자열 순서가 숫자(생성 시각) 순서와 같다.
+ * 한 스트라이프에서 1ms 에 4096개를 넘기거나 시계가 뒤로 가면 타임스탬프를 앞당겨 단조 증가를 유지한다.
+ */
+public class TimeOrderedLoanIdGenerator implements LoanIdGenerator {
+    static final long EPOCH_MILLIS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 5;
+    private static final int STRIPE_BITS = 5;
+    private static final int SEQUENCE_BITS = 12;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + STRIPE_BITS + SEQUENCE_BITS;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final int STRIPE_COUNT = 1 << STRIPE_BITS;
+    private static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+    private static final State[][] SHARED_STATES = new State[MAX_NODE_ID + 1][];
+
+    static {
+        for (int node = 0; node <= MAX_NODE_ID; node++) {
+            SHARED_STATES[node] = newStripes();
+        }
+    }
+
+    private final LongSupplier currentMillis;
+    private final int nodeId;
+    private final State[] stripes;
+
+    public TimeOrderedLoanIdGenerator() {
+        this(0);
+    }
+
+    /** 여러 JVM 이 같은 저장소에 ID 를 만들 때는 JVM 마다 다른 nodeId (0 ~ MAX_NODE_ID) 를 준다 */
+    public TimeOrderedLoanIdGenerator(int nodeId) {
+        this(System::currentTimeMillis, nodeId, SHARED_STATES[checkNodeId(nodeId)]);
+    }
+
+    // 시계를 바꿔 끼우는 인스턴스는 공유 상태를 어지럽히지 않도록 자기 상태를 따로 둔다
+    TimeOrderedLoanIdGenerator(LongSupplier currentMillis) {
+        this(currentMillis, 0, newStripes());
+    }
+
+    private TimeOrderedLoanIdGenerator(LongSupplier currentMillis, int nodeId, State[] stripes) {
+        this.currentMillis = currentMillis;
+        this.nodeId = nodeId;
+        this.stripes = stripes;
+    }
+
+    @Override
+    public String nextId() {
+        return encode(nextLong());
+    }
+
+    public long nextLong() {
+        int stripe = (int) (Thread.currentThread().getId() & (STRIPE_COUNT - 1));
+        State state = stripes[stripe];
+        long millis;
+        int sequence;
+        synchronized (state) {
+            long now = currentMillis.getAsLong() - EPOCH_MILLIS;
+            if (now > state.lastMillis) {
+                state.lastMillis = now;
+                state.sequence = 0;
+            } else if (state.sequence < MAX_SEQUENCE) {
+                state.sequence++;
+            } else {
+                state.lastMillis++; // 순번 소진 : 대기하지 않고 다음 밀리초를 미리 사용
+                state.sequence = 0;
+            }
+            millis = state.lastMillis;
+            sequence = state.sequence;
+        }
+        return (millis << TIMESTAMP_SHIFT)
+            | ((long) nodeId << (STRIPE_BITS + SEQUENCE_BITS))
+            | ((long) stripe << SEQUENCE_BITS)
+            | sequence;
+    }
+
+    /** ID 가 만들어진 시각 (epoch 밀리초) */
+    public static long timestampOf(String id) {
+        return (decode(id) >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS;
+    }
+
+    static String encode(long value) {
+        char[] chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    static long decode(String id) {
+        if (id == null || id.length() != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("유효하지 않은 대출 ID입니다: " + id);
+        }
+        long value = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int digit = indexOf(id.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("유효하지 않은 대출 ID입니다: " + id);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int checkNodeId(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID 는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        return nodeId;
+    }
+
+    private static State[] newStripes() {
+        State[] stripes = new State[STRIPE_COUNT];
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new State();
+        }
+        return stripes;
+    }
+
+    private static final class State {
+        private long lastMillis = -1;
+        private int sequence;
+    }
+}
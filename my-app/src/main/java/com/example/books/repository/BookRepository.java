@@ -1,16 +1,83 @@
 package com.example.books.repository;
 
 import com.example.books.Book;
+import com.example.books.Isbn;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public interface BookRepository {
     void save(Book book);
+
+    // 같은 ISBN 이 없을 때만 저장하고 저장 여부를 돌려준다 (동시 호출에도 한 건만 저장되도록 구현체가 재정의한다)
+    default boolean saveIfAbsent(Book book) {
+        if (existsByIsbn(book.getIsbn())) {
+            return false;
+        }
+        save(book);
+        return true;
+    }
     Optional<Book> findByIsbn(String isbn);
     List<Book> findByTitle(String title);
     List<Book> findByAuthor(String author);
+
+    // 저자명이 정확히 같은 도서 (대소문자 구분)
+    default List<Book> findByAuthorExact(String author) {
+        List<Book> result = new ArrayList<>();
+        for (Book book : findByAuthor(author)) {
+            if (book.getAuthor().equals(author)) {
+                result.add(book);
+            }
+        }
+        return result;
+    }
+
+    // 초성/자모 검색을 지원하지 않는 구현체는 일반 제목 검색으로 대신한다
+    default List<Book> findByTitleHangul(String query) {
+        return findByTitle(query);
+    }
     List<Book> findAll();
+
+    // 여러 도서를 한 번에 조회한다 (키 : 요청한 ISBN 문자열, 없는 도서는 결과에서 빠짐)
+    default Map<String, Book> findAllByIsbns(Collection<String> isbns) {
+        Map<String, Book> result = new HashMap<>();
+        for (String isbn : isbns) {
+            findByIsbn(isbn).ifPresent(book -> result.put(isbn, book));
+        }
+        return result;
+    }
+    // ISBN 키(Book.getIsbnKey()) 순으로 afterIsbn 다음 도서부터 최대 limit 건 (afterIsbn 이 null 이면 처음부터)
+    default List<Book> findAllAfter(String afterIsbn, int limit) {
+        long after = afterKey(afterIsbn);
+        return findAll().stream()
+            .filter(book -> book.getIsbnKey() > after)
+            .sorted(Comparator.comparingLong(Book::getIsbnKey))
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    // 전체 도서를 하나씩 흘려보낸다. 정렬된 색인이 없는 구현체는 findAll 로 대신한다
+    default Stream<Book> stream() {
+        return findAll().stream();
+    }
     boolean existsByIsbn(String isbn);
     void deleteByIsbn(String isbn);
+
+    private static long afterKey(String afterIsbn) {
+        if (afterIsbn == null) {
+            return -1;
+        }
+        long key = Isbn.toKey(afterIsbn);
+        if (key < 0) {
+            throw new IllegalArgumentException("유효하지 않은 ISBN입니다: " + afterIsbn);
+        }
+        return key;
+    }
 }
 
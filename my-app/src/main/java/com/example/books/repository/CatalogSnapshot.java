@@ -0,0 +1,296 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * 변경되지 않는 도서 목록 버전 (array mapped trie).
+ * 키(Book.getIsbnKey(), 13자리라 2^45 미만)를 상위 비트부터 5비트씩 나눠 단계마다 최대 32갈래로 내려가며,
+ * 노드는 사용 중인 칸을 비트맵으로 표시하고 그 칸의 Book 또는 하위 Node 만 배열에 담는다.
+ * with / without 은 바뀐 경로의 노드만 새로 만들고 나머지는 이전 버전과 공유하므로 O(log32 n) 이다.
+ * 칸 순서가 키 순서와 같아서 순회는 ISBN 키 순이고, 페이지 조회는 시작 키까지 경로를 따라 내려가 이어서 읽는다.
+ */
+public final class CatalogSnapshot implements Iterable<Book> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int KEY_BITS = 45;
+    private static final int TOP_SHIFT = KEY_BITS - BITS;
+    private static final int MAX_DEPTH = KEY_BITS / BITS;
+    static final CatalogSnapshot EMPTY = new CatalogSnapshot(new Node(0, new Object[0]), 0);
+
+    private final Node root;
+    private final int size;
+
+    private CatalogSnapshot(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public Optional<Book> findByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        return key < 0 ? Optional.empty() : Optional.ofNullable(get(key));
+    }
+
+    Book get(long key) {
+        Node node = root;
+        for (int shift = TOP_SHIFT; ; shift -= BITS) {
+            int bit = bitFor(key, shift);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object entry = node.entries[node.index(bit)];
+            if (entry instanceof Book) {
+                Book book = (Book) entry;
+                return book.getIsbnKey() == key ? book : null;
+            }
+            node = (Node) entry;
+        }
+    }
+
+    CatalogSnapshot with(Book book) {
+        boolean[] added = new boolean[1];
+        Node updated = put(root, book, TOP_SHIFT, added);
+        return updated == root ? this : new CatalogSnapshot(updated, added[0] ? size + 1 : size);
+    }
+
+    CatalogSnapshot without(long key) {
+        Object updated = remove(root, key, TOP_SHIFT);
+        if (updated == root) {
+            return this;
+        }
+        Node newRoot = updated instanceof Book
+            ? new Node(bitFor(((Book) updated).getIsbnKey(), TOP_SHIFT), new Object[] {updated})
+            : (Node) updated;
+        return new CatalogSnapshot(newRoot, size - 1);
+    }
+
+    // 키가 after 보다 큰 도서를 키 순으로 최대 limit 건 (after 가 음수면 처음부터)
+    List<Book> after(long after, int limit) {
+        List<Book> page = new ArrayList<>(Math.min(limit, size));
+        collect(root, TOP_SHIFT, after, after >= 0, limit, page);
+        return page;
+    }
+
+    @Override
+    public Iterator<Book> iterator() {
+        return new EntryIterator(root);
+    }
+
+    @Override
+    public Spliterator<Book> spliterator() {
+        return Spliterators.spliterator(iterator(), size,
+            Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Book> action) {
+        forEach(root, action);
+    }
+
+    private static void forEach(Node node, Consumer<? super Book> action) {
+        for (Object entry : node.entries) {
+            if (entry instanceof Book) {
+                action.accept((Book) entry);
+            } else {
+                forEach((Node) entry, action);
+            }
+        }
+    }
+
+    // bounded 이면 이 노드가 after 의 경로 위에 있어 after 의 칸보다 앞선 칸을 건너뛴다
+    private static void collect(Node node, int shift, long after, boolean bounded, int limit, List<Book> page) {
+        int from = bounded ? (int) ((after >>> shift) & MASK) : 0;
+        int start = node.index(1 << from);
+        boolean onPath = bounded && (node.bitmap & (1 << from)) != 0;
+        for (int i = start; i < node.entries.length && page.size() < limit; i++) {
+            Object entry = node.entries[i];
+            boolean sameSlot = onPath && i == start;
+            if (entry instanceof Book) {
+                Book book = (Book) entry;
+                if (!sameSlot || book.getIsbnKey() > after) {
+                    page.add(book);
+                }
+            } else {
+                collect((Node) entry, shift - BITS, after, sameSlot, limit, page);
+            }
+        }
+    }
+
+    private static Node put(Node node, Book book, int shift, boolean[] added) {
+        int bit = bitFor(book.getIsbnKey(), shift);
+        int index = node.index(bit);
+        if ((node.bitmap & bit) == 0) {
+            added[0] = true;
+            Object[] entries = new Object[node.entries.length + 1];
+            System.arraycopy(node.entries, 0, entries, 0, index);
+            entries[index] = book;
+            System.arraycopy(node.entries, index, entries, index + 1, node.entries.length - index);
+            return new Node(node.bitmap | bit, entries);
+        }
+
+        Object entry = node.entries[index];
+        Object replacement;
+        if (entry instanceof Node) {
+            Node child = (Node) entry;
+            Node updated = put(child, book, shift - BITS, added);
+            if (updated == child) {
+                return node;
+            }
+            replacement = updated;
+        } else {
+            Book existing = (Book) entry;
+            if (existing == book) {
+                return node;
+            }
+            if (existing.getIsbnKey() == book.getIsbnKey()) {
+                replacement = book;
+            } else {
+                added[0] = true;
+                replacement = merge(existing, book, shift - BITS);
+            }
+        }
+        Object[] entries = node.entries.clone();
+        entries[index] = replacement;
+        return new Node(node.bitmap, entries);
+    }
+
+    // 키 앞부분이 같은 두 도서를 갈라지는 단계까지 내려가 한 노드로 묶는다
+    private static Node merge(Book first, Book second, int shift) {
+        int firstBit = bitFor(first.getIsbnKey(), shift);
+        int secondBit = bitFor(second.getIsbnKey(), shift);
+        if (firstBit == secondBit) {
+            return new Node(firstBit, new Object[] {merge(first, second, shift - BITS)});
+        }
+        Object[] entries = Integer.compareUnsigned(firstBit, secondBit) < 0
+            ? new Object[] {first, second}
+            : new Object[] {second, first};
+        return new Node(firstBit | secondBit, entries);
+    }
+
+    // 바뀌지 않았으면 node 그대로, 남은 항목이 도서 하나뿐이면 그 Book 을, 아니면 새 Node 를 돌려준다
+    private static Object remove(Node node, long key, int shift) {
+        int bit = bitFor(key, shift);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = node.index(bit);
+        Object entry = node.entries[index];
+        Object replacement;
+        if (entry instanceof Node) {
+            Node child = (Node) entry;
+            Object updated = remove(child, key, shift - BITS);
+            if (updated == child) {
+                return node;
+            }
+            replacement = updated;
+        } else {
+            if (((Book) entry).getIsbnKey() != key) {
+                return node;
+            }
+            replacement = null;
+        }
+
+        if (replacement != null) {
+            if (replacement instanceof Book && node.entries.length == 1 && shift < TOP_SHIFT) {
+                return replacement; // 하위 노드가 도서 하나로 줄면 위로 끌어올린다
+            }
+            Object[] entries = node.entries.clone();
+            entries[index] = replacement;
+            return new Node(node.bitmap, entries);
+        }
+        if (node.entries.length == 2 && shift < TOP_SHIFT) {
+            Object other = node.entries[index ^ 1];
+            if (other instanceof Book) {
+                return other;
+            }
+        }
+        Object[] entries = new Object[node.entries.length - 1];
+        System.arraycopy(node.entries, 0, entries, 0, index);
+        System.arraycopy(node.entries, index + 1, entries, index, entries.length - index);
+        return new Node(node.bitmap & ~bit, entries);
+    }
+
+    private static int bitFor(long key, int shift) {
+        return 1 << (int) ((key >>> shift) & MASK);
+    }
+
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] entries; // Book 또는 Node
+
+        private Node(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    // 깊이 우선 순회 (키 순). 키 45비트를 5비트씩 쓰므로 깊이는 최대 MAX_DEPTH 이다
+    private static final class EntryIterator implements Iterator<Book> {
+        private final Object[][] arrays = new Object[MAX_DEPTH][];
+        private final int[] positions = new int[MAX_DEPTH];
+        private int depth;
+        private Book next;
+
+        private EntryIterator(Node root) {
+            arrays[0] = root.entries;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Book next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Book current = next;
+            advance();
+            return current;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] entries = arrays[depth];
+                int position = positions[depth];
+                if (position == entries.length) {
+                    arrays[depth--] = null;
+                    continue;
+                }
+                positions[depth] = position + 1;
+                Object entry = entries[position];
+                if (entry instanceof Book) {
+                    next = (Book) entry;
+                    return;
+                }
+                depth++;
+                arrays[depth] = ((Node) entry).entries;
+                positions[depth] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한글 제목 검색 색인.
+ * 저장 시 제목을 초성 키("테스트 주도" → "ㅌㅅㅌㅈㄷ")와 자모 키("테스트" → "ㅌㅔㅅㅡㅌㅡ")로 분해해 두고
+ * 초성 키는 bigram, 자모 키는 trigram 단위 posting list 로 색인한다.
+ * - 초성만으로 된 검색어("ㅌㅅㅌ")는 초성 키에서 찾는다.
+ * - 그 외 검색어는 자모로 분해해 찾으므로 조합 중인 글자("테스ㅌ", "클리")도 검색된다.
+ * 공백은 무시하고 영문은 소문자로 비교한다.
+ * 삭제/덮어쓰기로 비운 문서 번호가 절반을 넘으면 남은 문서 번호를 앞으로 당긴다.
+ */
+public class HangulSearchIndex {
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char COMPAT_CONSONANT_FIRST = 'ㄱ';
+    private static final char COMPAT_CONSONANT_LAST = 'ㅎ';
+
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 겹모음/겹받침은 낱자로 풀어 두어야 조합 중인 글자와 맞출 수 있다 ("닭" → "ㄷㅏㄹㄱ" 은 "달" 로 시작)
+    private static final String[] JUNGSEONG = {
+        "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ",
+        "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+        "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ",
+        "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final Map<Character, String> COMPOUND_JAMO = new HashMap<>();
+
+    static {
+        String[] compounds = {
+            "ㄳㄱㅅ", "ㄵㄴㅈ", "ㄶㄴㅎ", "ㄺㄹㄱ", "ㄻㄹㅁ", "ㄼㄹㅂ", "ㄽㄹㅅ", "ㄾㄹㅌ", "ㄿㄹㅍ", "ㅀㄹㅎ", "ㅄㅂㅅ",
+            "ㅘㅗㅏ", "ㅙㅗㅐ", "ㅚㅗㅣ", "ㅝㅜㅓ", "ㅞㅜㅔ", "ㅟㅜㅣ", "ㅢㅡㅣ"
+        };
+        for (String compound : compounds) {
+            COMPOUND_JAMO.put(compound.charAt(0), compound.substring(1));
+        }
+    }
+
+    private static final int CHOSEONG_GRAM = 2;
+    private static final int JAMO_GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Entry> byIsbn = new HashMap<>(); // 키 : Book.getIsbnKey()
+    private final List<Entry> documents = new ArrayList<>(); // 문서 번호 → Entry (삭제 시 null)
+    private int deletedCount; // documents 의 null 개수
+    private final Map<Long, PostingList> choseongIndex = new HashMap<>();
+    private final Map<Long, PostingList> jamoIndex = new HashMap<>();
+
+    public void add(Book book) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = byIsbn.remove(book.getIsbnKey());
+            if (previous != null) {
+                unindex(previous);
+            }
+            Entry entry = new Entry(documents.size(), book);
+            documents.add(entry);
+            byIsbn.put(book.getIsbnKey(), entry);
+            for (Long gram : grams(entry.choseong, CHOSEONG_GRAM)) {
+                choseongIndex.computeIfAbsent(gram, key -> new PostingList()).add(entry.id);
+            }
+            for (Long gram : grams(entry.jamo, JAMO_GRAM)) {
+                jamoIndex.computeIfAbsent(gram, key -> new PostingList()).add(entry.id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long isbnKey) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = byIsbn.remove(isbnKey);
+            if (entry != null) {
+                unindex(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byIsbn.clear();
+            documents.clear();
+            deletedCount = 0;
+            choseongIndex.clear();
+            jamoIndex.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Book> search(String query) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        boolean choseongOnly = isChoseongOnly(normalized);
+        String key = choseongOnly ? normalized : jamo(normalized);
+        lock.readLock().lock();
+        try {
+            return choseongOnly
+                ? search(choseongIndex, key, CHOSEONG_GRAM, true)
+                : search(jamoIndex, key, JAMO_GRAM, false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 테스트용 : 삭제 표시를 포함한 문서 번호 수
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 제목의 초성 키 (공백 제거, 한글 음절은 초성, 그 외 문자는 소문자 그대로) */
+    static String choseong(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            builder.append(isSyllable(c) ? CHOSEONG.charAt((c - SYLLABLE_BASE) / 588) : c);
+        }
+        return builder.toString();
+    }
+
+    /** 제목의 자모 키 (공백 제거, 한글은 낱자 단위로 분해) */
+    static String jamo(String text) {
+        String normalized = normalize(text);
+        StringBuilder builder = new StringBuilder(normalized.length() * 3);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BASE;
+                builder.append(CHOSEONG.charAt(index / 588))
+                    .append(JUNGSEONG[(index % 588) / 28])
+                    .append(JONGSEONG[index % 28]);
+            } else {
+                String split = COMPOUND_JAMO.get(c);
+                if (split != null) {
+                    builder.append(split);
+                } else {
+                    builder.append(c);
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private List<Book> search(Map<Long, PostingList> index, String key, int gram, boolean choseongOnly) {
+        List<Book> result = new ArrayList<>();
+        if (key.length() < gram) {
+            for (Entry entry : documents) {
+                if (entry != null && entry.key(choseongOnly).contains(key)) {
+                    result.add(entry.book);
+                }
+            }
+            return result;
+        }
+
+        Set<Long> grams = grams(key, gram);
+        PostingList[] lists = new PostingList[grams.size()];
+        int i = 0;
+        for (Long value : grams) {
+            PostingList list = index.get(value);
+            if (list == null) {
+                return result;
+            }
+            lists[i++] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = lists[0];
+        for (int p = 0; p < smallest.size(); p++) {
+            int id = smallest.get(p);
+            if (containsInAll(lists, id)) {
+                Entry entry = documents.get(id);
+                if (entry.key(choseongOnly).contains(key)) {
+                    result.add(entry.book);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static boolean containsInAll(PostingList[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void unindex(Entry entry) {
+        removeFrom(choseongIndex, grams(entry.choseong, CHOSEONG_GRAM), entry.id);
+        removeFrom(jamoIndex, grams(entry.jamo, JAMO_GRAM), entry.id);
+        documents.set(entry.id, null);
+        if (++deletedCount * 2 > documents.size()) {
+            compact();
+        }
+    }
+
+    // 남은 문서를 순서대로 앞으로 당기고 posting list 의 번호도 바꾼다 (키는 다시 분해하지 않음)
+    private void compact() {
+        int[] newIds = new int[documents.size()];
+        int next = 0;
+        for (int id = 0; id < documents.size(); id++) {
+            Entry entry = documents.get(id);
+            if (entry != null) {
+                newIds[id] = next;
+                entry.id = next;
+                documents.set(next++, entry);
+            }
+        }
+        documents.subList(next, documents.size()).clear();
+        for (PostingList list : choseongIndex.values()) {
+            list.renumber(newIds);
+        }
+        for (PostingList list : jamoIndex.values()) {
+            list.renumber(newIds);
+        }
+        deletedCount = 0;
+    }
+
+    private static void removeFrom(Map<Long, PostingList> index, Set<Long> grams, int id) {
+        for (Long gram : grams) {
+            PostingList list = index.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    private static Set<Long> grams(String text, int gram) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + gram <= text.length(); i++) {
+            long value = 0;
+            for (int j = 0; j < gram; j++) {
+                value = (value << 16) | text.charAt(i + j);
+            }
+            grams.add(value);
+        }
+        return grams;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    private static boolean isChoseongOnly(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            // 겹받침(ㄳ, ㄺ 등)은 초성이 될 수 없으므로 자모 검색으로 보낸다
+            if (c < COMPAT_CONSONANT_FIRST || c > COMPAT_CONSONANT_LAST || COMPOUND_JAMO.containsKey(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private int id; // compact 시 바뀜
+        private final Book book;
+        private final String choseong;
+        private final String jamo;
+
+        private Entry(int id, Book book) {
+            this.id = id;
+            this.book = book;
+            this.choseong = HangulSearchIndex.choseong(book.getTitle());
+            this.jamo = HangulSearchIndex.jamo(book.getTitle());
+        }
+
+        private String key(boolean choseongOnly) {
+            return choseongOnly ? choseong : jamo;
+        }
+    }
+}
@@ -1,21 +1,55 @@
 package com.example.books.repository;
 
+import com.example.books.AuthorDictionary;
 import com.example.books.Book;
+import com.example.books.Isbn;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class InMemoryBookRepository implements BookRepository {
-    private final Map<String, Book> books = new ConcurrentHashMap<>();
+    // 키 : Book.getIsbnKey(). 키 순으로 정렬돼 있어 페이지 조회와 stream() 이 복사 없이 이어서 읽는다
+    private final ConcurrentSkipListMap<Long, Book> books = new ConcurrentSkipListMap<>();
+    private final HangulSearchIndex hangulIndex = new HangulSearchIndex();
+    // 쓰기끼리 줄을 세워 books 와 hangulIndex 를 함께 바꾼다. 읽기는 잠그지 않는다
+    private final Object writeLock = new Object();
+    private final AuthorDictionary authors;
+    
+    public InMemoryBookRepository() {
+        this(new AuthorDictionary());
+    }
+    
+    // 저장하는 도서의 저자명은 authors 의 공유 인스턴스로 바꿔 저장한다
+    public InMemoryBookRepository(AuthorDictionary authors) {
+        this.authors = authors;
+    }
     
     @Override
     public void save(Book book) {
-        books.put(book.getIsbn(), book);
+        Book stored = authors.intern(book);
+        synchronized (writeLock) {
+            books.put(stored.getIsbnKey(), stored);
+            hangulIndex.add(stored);
+        }
+    }
+    
+    @Override
+    public boolean saveIfAbsent(Book book) {
+        Book stored = authors.intern(book);
+        synchronized (writeLock) {
+            if (books.putIfAbsent(stored.getIsbnKey(), stored) != null) {
+                return false;
+            }
+            hangulIndex.add(stored);
+            return true;
+        }
     }
     
     @Override
     public Optional<Book> findByIsbn(String isbn) {
-        return Optional.ofNullable(books.get(isbn));
+        long key = Isbn.toKey(isbn);
+        return key < 0 ? Optional.empty() : Optional.ofNullable(books.get(key));
     }
     
     @Override
@@ -32,27 +66,85 @@ public class InMemoryBookRepository implements BookRepository {
             .collect(Collectors.toList());
     }
     
+    // 저자 번호만 비교한다
+    @Override
+    public List<Book> findByAuthorExact(String author) {
+        int authorId = authors.find(author);
+        if (authorId == AuthorDictionary.UNKNOWN) {
+            return new ArrayList<>();
+        }
+        return books.values().stream()
+            .filter(book -> book.getAuthorId() == authorId)
+            .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Book> findByTitleHangul(String query) {
+        return hangulIndex.search(query);
+    }
+    
     @Override
     public List<Book> findAll() {
         return new ArrayList<>(books.values());
     }
     
+    @Override
+    public List<Book> findAllAfter(String afterIsbn, int limit) {
+        Map<Long, Book> rest = books;
+        if (afterIsbn != null) {
+            long key = Isbn.toKey(afterIsbn);
+            if (key < 0) {
+                throw new IllegalArgumentException("유효하지 않은 ISBN입니다: " + afterIsbn);
+            }
+            rest = books.tailMap(key, false);
+        }
+        List<Book> page = new ArrayList<>(Math.min(limit, 1024));
+        for (Book book : rest.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(book);
+        }
+        return page;
+    }
+    
+    // 순회 중 변경은 반영될 수도 안 될 수도 있다 (weakly consistent). 병렬 스트림으로 나눠 읽을 수 있다
+    @Override
+    public Stream<Book> stream() {
+        return books.values().stream();
+    }
+    
     @Override
     public boolean existsByIsbn(String isbn) {
-        return books.containsKey(isbn);
+        long key = Isbn.toKey(isbn);
+        return key >= 0 && books.containsKey(key);
     }
     
     @Override
     public void deleteByIsbn(String isbn) {
-        books.remove(isbn);
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            books.remove(key);
+            hangulIndex.remove(key);
+        }
     }
     
     // 테스트용 메서드
     public void clear() {
-        books.clear();
+        synchronized (writeLock) {
+            books.clear();
+            hangulIndex.clear();
+        }
     }
     
     public int size() {
         return books.size();
     }
+    
+    public AuthorDictionary getAuthorDictionary() {
+        return authors;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.example.books.repository;
+
+import com.example.books.Isbn;
+import com.example.books.Loan;
+import com.example.books.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 색인을 유지하는 동시성 LoanRepository.
+ * id / 사용자 / ISBN / 상태별 색인과 함께 사용자별 활성 대출 수, ISBN별 활성 대출 표시를 유지해
+ * isBookAvailable, countActiveLoansByUserId 를 O(1) 로 처리하고,
+ * 반납 전 대출은 반납 예정일 순 색인에 두어 findOverdueLoans 가 기한이 지난 구간만 읽도록 한다.
+ * 반납되지 않은 대출(ACTIVE, OVERDUE)을 활성 대출로 본다.
+ * ISBN 은 Isbn.toKey 로 정규화하므로 하이픈 유무나 ISBN-10/13 표기와 관계없이 같은 도서로 찾는다.
+ * reserve 는 전역 락 없이 ISBN 표시(putIfAbsent)와 사용자 카운터(compareAndSet)를 차례로 선점해
+ * 같은 도서의 이중 대출과 대출 한도 초과를 막는다.
+ */
+public class InMemoryLoanRepository implements LoanRepository {
+    private final Map<String, Entry> byId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> byIsbn = new ConcurrentHashMap<>(); // 키 : Isbn.toKey
+    private final Map<String, Set<String>> byInvalidIsbn = new ConcurrentHashMap<>(); // Isbn.toKey 가 -1 인 ISBN 문자열
+    private final Map<LoanStatus, Set<String>> byStatus = new EnumMap<>(LoanStatus.class);
+    private final Map<String, AtomicInteger> activeCountByUser = new ConcurrentHashMap<>();
+    private final Map<Long, String> activeLoanByIsbn = new ConcurrentHashMap<>(); // ISBN 키 → 대출 ID
+    private final Map<String, String> activeLoanByInvalidIsbn = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<LocalDate, Set<String>> activeByDueDate = new ConcurrentSkipListMap<>();
+
+    public InMemoryLoanRepository() {
+        for (LoanStatus status : LoanStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    @Override
+    public void save(Loan loan) {
+        // 같은 대출의 저장은 id 단위로 직렬화되어 색인 갱신이 섞이지 않는다
+        // 상태는 한 번만 읽는다 (색인 도중 다른 스레드가 반납/연체 전환하면 색인과 indexedStatus 가 어긋남)
+        byId.compute(loan.getId(), (id, previous) -> {
+            LoanStatus status = loan.getStatus();
+            if (previous == null) {
+                index(loan, status);
+            } else {
+                reindex(loan, previous.indexedStatus, status);
+            }
+            return new Entry(loan, status);
+        });
+    }
+
+    @Override
+    public ReservationResult reserve(Loan loan, int maxActiveLoans) {
+        if (loan.getStatus() != LoanStatus.ACTIVE) {
+            throw new IllegalArgumentException("대출 중 상태의 대출만 예약할 수 있습니다");
+        }
+        if (byId.containsKey(loan.getId())) {
+            throw new IllegalArgumentException("이미 저장된 대출입니다: " + loan.getId());
+        }
+
+        // 1. 도서 선점 : 다른 활성 대출이 없을 때만 표시를 남긴다
+        if (!markActive(loan, true)) {
+            return ReservationResult.BOOK_UNAVAILABLE;
+        }
+
+        // 2. 사용자 한도 선점 : 한도 미만일 때만 카운터를 올린다
+        AtomicInteger count = activeCountByUser.computeIfAbsent(loan.getUserId(), key -> new AtomicInteger());
+        while (true) {
+            int current = count.get();
+            if (current >= maxActiveLoans) {
+                unmarkActive(loan);
+                return ReservationResult.LIMIT_EXCEEDED;
+            }
+            if (count.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+
+        // 3. 선점이 끝났으므로 나머지 색인에 추가
+        byId.compute(loan.getId(), (id, previous) -> {
+            indexLookups(loan, LoanStatus.ACTIVE);
+            activeByDueDate.computeIfAbsent(loan.getDueDate(), key -> ConcurrentHashMap.newKeySet()).add(id);
+            return new Entry(loan, LoanStatus.ACTIVE);
+        });
+        return ReservationResult.RESERVED;
+    }
+
+    @Override
+    public Optional<Loan> findById(String id) {
+        Entry entry = byId.get(id);
+        return entry == null ? Optional.empty() : Optional.of(entry.loan);
+    }
+
+    @Override
+    public List<Loan> findByUserId(String userId) {
+        return resolve(byUser.get(userId));
+    }
+
+    @Override
+    public List<Loan> findByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        return resolve(key < 0 ? byInvalidIsbn.get(isbn) : byIsbn.get(key));
+    }
+
+    @Override
+    public List<Loan> findByStatus(LoanStatus status) {
+        return resolve(byStatus.get(status));
+    }
+
+    @Override
+    public List<Loan> findOverdueLoans(LocalDate currentDate) {
+        List<Loan> result = new ArrayList<>();
+        for (Set<String> ids : activeByDueDate.headMap(currentDate, false).values()) {
+            for (Loan loan : resolve(ids)) {
+                if (loan.isOverdue(currentDate)) {
+                    result.add(loan);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean isBookAvailable(String isbn) {
+        long key = Isbn.toKey(isbn);
+        return key < 0 ? !activeLoanByInvalidIsbn.containsKey(isbn) : !activeLoanByIsbn.containsKey(key);
+    }
+
+    @Override
+    public int countActiveLoansByUserId(String userId) {
+        AtomicInteger count = activeCountByUser.get(userId);
+        return count == null ? 0 : count.get();
+    }
+
+    // 테스트용 메서드
+    public int size() {
+        return byId.size();
+    }
+
+    private void index(Loan loan, LoanStatus status) {
+        indexLookups(loan, status);
+        if (isActive(status)) {
+            activate(loan);
+        }
+    }
+
+    private void indexLookups(Loan loan, LoanStatus status) {
+        byUser.computeIfAbsent(loan.getUserId(), key -> ConcurrentHashMap.newKeySet()).add(loan.getId());
+        long isbnKey = Isbn.toKey(loan.getIsbn());
+        Set<String> ids = isbnKey < 0
+            ? byInvalidIsbn.computeIfAbsent(loan.getIsbn(), key -> ConcurrentHashMap.newKeySet())
+            : byIsbn.computeIfAbsent(isbnKey, key -> ConcurrentHashMap.newKeySet());
+        ids.add(loan.getId());
+        byStatus.get(status).add(loan.getId());
+    }
+
+    private void reindex(Loan loan, LoanStatus previousStatus, LoanStatus status) {
+        if (status == previousStatus) {
+            return;
+        }
+        byStatus.get(previousStatus).remove(loan.getId());
+        byStatus.get(status).add(loan.getId());
+        if (isActive(previousStatus) && !isActive(status)) {
+            deactivate(loan);
+        } else if (!isActive(previousStatus) && isActive(status)) {
+            activate(loan);
+        }
+    }
+
+    private void activate(Loan loan) {
+        activeCountByUser.computeIfAbsent(loan.getUserId(), key -> new AtomicInteger()).incrementAndGet();
+        markActive(loan, false);
+        activeByDueDate.computeIfAbsent(loan.getDueDate(), key -> ConcurrentHashMap.newKeySet()).add(loan.getId());
+    }
+
+    private void deactivate(Loan loan) {
+        activeCountByUser.get(loan.getUserId()).decrementAndGet();
+        unmarkActive(loan);
+        // 빈 날짜 묶음은 지우지 않는다 (동시에 같은 날짜로 추가되는 대출을 잃지 않도록, 날짜 수만큼만 남음)
+        Set<String> ids = activeByDueDate.get(loan.getDueDate());
+        if (ids != null) {
+            ids.remove(loan.getId());
+        }
+    }
+
+    private List<Loan> resolve(Collection<String> ids) {
+        if (ids == null) {
+            return new ArrayList<>();
+        }
+        List<Loan> result = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Entry entry = byId.get(id);
+            if (entry != null) {
+                result.add(entry.loan);
+            }
+        }
+        return result;
+    }
+
+    private static boolean isActive(LoanStatus status) {
+        return status != LoanStatus.RETURNED;
+    }
+
+    // ISBN 별 활성 대출 표시. 유효한 ISBN 은 표기와 관계없는 숫자 키로, 그 외에는 문자열 그대로 별도 맵에 둔다
+    // onlyIfAbsent 이면 다른 활성 대출이 없을 때만 표시하고 표시 여부를 돌려준다
+    private boolean markActive(Loan loan, boolean onlyIfAbsent) {
+        long key = Isbn.toKey(loan.getIsbn());
+        if (key < 0) {
+            return onlyIfAbsent
+                ? activeLoanByInvalidIsbn.putIfAbsent(loan.getIsbn(), loan.getId()) == null
+                : activeLoanByInvalidIsbn.put(loan.getIsbn(), loan.getId()) == null;
+        }
+        return onlyIfAbsent
+            ? activeLoanByIsbn.putIfAbsent(key, loan.getId()) == null
+            : activeLoanByIsbn.put(key, loan.getId()) == null;
+    }
+
+    private void unmarkActive(Loan loan) {
+        long key = Isbn.toKey(loan.getIsbn());
+        if (key < 0) {
+            activeLoanByInvalidIsbn.remove(loan.getIsbn(), loan.getId());
+        } else {
+            activeLoanByIsbn.remove(key, loan.getId());
+        }
+    }
+
+    private static final class Entry {
+        private final Loan loan;
+        private final LoanStatus indexedStatus; // 색인에 반영된 상태 (Loan 은 저장 전에 변경될 수 있음)
+
+        private Entry(Loan loan, LoanStatus indexedStatus) {
+            this.loan = loan;
+            this.indexedStatus = indexedStatus;
+        }
+    }
+}
@@ -15,4 +15,17 @@ public interface LoanRepository {
     List<Loan> findOverdueLoans(LocalDate currentDate);
     boolean isBookAvailable(String isbn);
     int countActiveLoansByUserId(String userId);
+
+    // 도서가 대출 중이 아니고 사용자의 활성 대출이 한도 미만일 때만 저장한다.
+    // 기본 구현은 확인과 저장 사이가 원자적이지 않으므로 동시 대출을 막으려면 구현체가 재정의해야 한다.
+    default ReservationResult reserve(Loan loan, int maxActiveLoans) {
+        if (!isBookAvailable(loan.getIsbn())) {
+            return ReservationResult.BOOK_UNAVAILABLE;
+        }
+        if (countActiveLoansByUserId(loan.getUserId()) >= maxActiveLoans) {
+            return ReservationResult.LIMIT_EXCEEDED;
+        }
+        save(loan);
+        return ReservationResult.RESERVED;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,597 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 메모리 매핑 파일에 도서를 저장하는 BookRepository. 재시작 후 파일을 매핑만 하면 바로 조회할 수 있다.
+ * 파일 구성 : [헤더 64바이트][색인 : slotCount × (ISBN 키 8 + 레코드 위치 8)][레코드 로그]
+ * - 색인은 ISBN 키(Book.getIsbnKey()) 기준 선형 탐사 해시 테이블이라 findByIsbn 은 매핑된 버퍼를 몇 칸 읽을 뿐이다.
+ * - 레코드는 [전체 길이][ISBN][제목][저자] (문자열은 길이 + UTF-8) 로 로그 끝에 덧붙이기만 한다.
+ *   덮어쓰기/삭제로 생긴 죽은 레코드가 로그의 절반을 넘으면 살아 있는 레코드만 새 파일로 옮겨 압축한다.
+ * 레코드를 먼저 쓰고 색인을 나중에 고치며, 디스크 반영은 flush()/close() 때 한다.
+ * 한 번에 매핑하므로 파일은 2GB 를 넘을 수 없다. 제목/저자 검색은 색인을 순회한다.
+ * 페이지 조회용으로 정렬된 키 배열을 힙에 두며, 처음 조회할 때 만들고 쓰기가 있으면 버린다.
+ * stream() 은 시작 시점의 키 배열을 구간으로 나눠 읽으므로 병렬로 나눌 수 있고, 그 사이 삭제된 도서는 건너뛴다.
+ */
+public class MappedFileBookRepository implements BookRepository, AutoCloseable {
+    private static final int MAGIC = 0x424B4331; // "BKC1"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SLOT_SIZE = 16;
+    private static final int MIN_SLOTS = 1024;
+    private static final long EMPTY = 0;
+    private static final long TOMBSTONE = -1;
+    static final long MIN_COMPACTION_BYTES = 64 * 1024;
+    private static final int MIN_SPLIT_KEYS = 1024;
+
+    // 헤더 필드 위치
+    private static final int SLOT_COUNT_AT = 8;
+    private static final int LIVE_COUNT_AT = 12;
+    private static final int TOMBSTONES_AT = 16;
+    private static final int DATA_END_AT = 24;
+    private static final int DEAD_BYTES_AT = 32;
+
+    private final Path file;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int slotCount;
+    private int liveCount;
+    private int tombstones;
+    private long dataEnd;
+    private long deadBytes;
+    private volatile long[] sortedKeys; // 쓰기 락 안에서만 null 로 바꾼다
+
+    public MappedFileBookRepository(Path file) {
+        this.file = file;
+        try {
+            if (!Files.exists(file) || Files.size(file) == 0) {
+                create(file, MIN_SLOTS);
+            }
+            open(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 파일을 열 수 없습니다: " + file, e);
+        }
+    }
+
+    @Override
+    public void save(Book book) {
+        lock.writeLock().lock();
+        try {
+            put(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean saveIfAbsent(Book book) {
+        lock.writeLock().lock();
+        try {
+            if (findSlot(book.getIsbnKey()) >= 0) {
+                return false;
+            }
+            put(book);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(key);
+            return slot < 0 ? Optional.empty() : Optional.of(readRecord(offsetAt(slot)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Book> findByTitle(String title) {
+        String query = title.toLowerCase(Locale.ROOT);
+        return scan(book -> book.getTitle().toLowerCase(Locale.ROOT).contains(query));
+    }
+
+    @Override
+    public List<Book> findByAuthor(String author) {
+        String query = author.toLowerCase(Locale.ROOT);
+        return scan(book -> book.getAuthor().toLowerCase(Locale.ROOT).contains(query));
+    }
+
+    @Override
+    public List<Book> findAll() {
+        return scan(book -> true);
+    }
+
+    @Override
+    public List<Book> findAllAfter(String afterIsbn, int limit) {
+        long after = -1;
+        if (afterIsbn != null) {
+            after = Isbn.toKey(afterIsbn);
+            if (after < 0) {
+                throw new IllegalArgumentException("유효하지 않은 ISBN입니다: " + afterIsbn);
+            }
+        }
+        lock.readLock().lock();
+        try {
+            long[] keys = sortedKeys();
+            int from = Arrays.binarySearch(keys, after);
+            from = from >= 0 ? from + 1 : -from - 1;
+            List<Book> page = new ArrayList<>(Math.min(limit, keys.length - from));
+            for (int i = from; i < keys.length && page.size() < limit; i++) {
+                page.add(readRecord(offsetAt(findSlot(keys[i]))));
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 키 배열을 복사하지 않고 한 권씩 레코드를 읽어 흘려보낸다
+    @Override
+    public Stream<Book> stream() {
+        lock.readLock().lock();
+        try {
+            long[] keys = sortedKeys();
+            return StreamSupport.stream(new KeySpliterator(keys, 0, keys.length), false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
+            return false;
+        }
+        lock.readLock().lock();
+        try {
+            return findSlot(key) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(key);
+            if (slot < 0) {
+                return;
+            }
+            deadBytes += buffer.getInt((int) offsetAt(slot));
+            buffer.putLong(slotPosition(slot), TOMBSTONE);
+            sortedKeys = null;
+            liveCount--;
+            tombstones++;
+            writeHeader();
+            compactIfWasteful();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 덮어쓰기/삭제로 생긴 죽은 레코드 바이트 수 */
+    public long getDeadBytes() {
+        lock.readLock().lock();
+        try {
+            return deadBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 살아 있는 레코드만 새 파일로 옮긴다. 색인 크기도 도서 수에 맞춰 다시 정한다 */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            rewrite(slotsFor(liveCount + 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 파일을 닫을 수 없습니다: " + file, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(Book book) {
+        // 색인 사용률(삭제 표시 포함)을 1/2 이하로 유지한다
+        if ((liveCount + tombstones + 1) * 2 > slotCount) {
+            rewrite(slotsFor(liveCount + 1));
+        }
+        byte[] isbn = book.getIsbn().getBytes(StandardCharsets.UTF_8);
+        byte[] title = book.getTitle().getBytes(StandardCharsets.UTF_8);
+        byte[] author = book.getAuthor().getBytes(StandardCharsets.UTF_8);
+        int length = 4 + 2 + isbn.length + 4 + title.length + 4 + author.length;
+        ensureCapacity(dataEnd + length);
+
+        int position = (int) dataEnd;
+        buffer.putInt(position, length);
+        position += 4;
+        buffer.putShort(position, (short) isbn.length);
+        buffer.put(position + 2, isbn);
+        position += 2 + isbn.length;
+        buffer.putInt(position, title.length);
+        buffer.put(position + 4, title);
+        position += 4 + title.length;
+        buffer.putInt(position, author.length);
+        buffer.put(position + 4, author);
+        long offset = dataEnd;
+        dataEnd += length;
+
+        long key = book.getIsbnKey();
+        int slot = findSlot(key);
+        if (slot >= 0) {
+            deadBytes += buffer.getInt((int) offsetAt(slot));
+        } else {
+            slot = freeSlot(key);
+            if (buffer.getLong(slotPosition(slot)) == TOMBSTONE) {
+                tombstones--;
+            }
+            buffer.putLong(slotPosition(slot), key);
+            liveCount++;
+            sortedKeys = null;
+        }
+        buffer.putLong(slotPosition(slot) + 8, offset);
+        writeHeader();
+        compactIfWasteful();
+    }
+
+    private void compactIfWasteful() {
+        long logBytes = dataEnd - dataStart(slotCount);
+        if (deadBytes >= MIN_COMPACTION_BYTES && deadBytes * 2 > logBytes) {
+            rewrite(slotsFor(liveCount + 1));
+        }
+    }
+
+    private List<Book> scan(Predicate<Book> filter) {
+        lock.readLock().lock();
+        try {
+            List<Book> result = new ArrayList<>();
+            for (int slot = 0; slot < slotCount; slot++) {
+                long key = buffer.getLong(slotPosition(slot));
+                if (key != EMPTY && key != TOMBSTONE) {
+                    Book book = readRecord(offsetAt(slot));
+                    if (filter.test(book)) {
+                        result.add(book);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 읽기 락 안에서 호출. 읽기끼리 동시에 만들 수는 있지만 결과는 같다
+    private long[] sortedKeys() {
+        long[] keys = sortedKeys;
+        if (keys == null) {
+            keys = new long[liveCount];
+            int count = 0;
+            for (int slot = 0; slot < slotCount; slot++) {
+                long key = buffer.getLong(slotPosition(slot));
+                if (key != EMPTY && key != TOMBSTONE) {
+                    keys[count++] = key;
+                }
+            }
+            Arrays.sort(keys);
+            sortedKeys = keys;
+        }
+        return keys;
+    }
+
+    // 읽기 락 안에서 키의 도서, 그 사이 삭제되었으면 null
+    private Book readByKey(long key) {
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(key);
+            return slot < 0 ? null : readRecord(offsetAt(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 키가 있는 칸 번호, 없으면 -1
+    private int findSlot(long key) {
+        int mask = slotCount - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long stored = buffer.getLong(slotPosition(slot));
+            if (stored == key) {
+                return slot;
+            }
+            if (stored == EMPTY) {
+                return -1;
+            }
+        }
+    }
+
+    // 키를 넣을 칸 (먼저 만난 삭제 표시 칸을 재사용)
+    private int freeSlot(long key) {
+        int mask = slotCount - 1;
+        for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+            long stored = buffer.getLong(slotPosition(slot));
+            if (stored == EMPTY || stored == TOMBSTONE) {
+                return slot;
+            }
+        }
+    }
+
+    private Book readRecord(long offset) {
+        int position = (int) offset + 4;
+        String isbn = readString(position + 2, buffer.getShort(position));
+        position += 2 + buffer.getShort(position);
+        String title = readString(position + 4, buffer.getInt(position));
+        position += 4 + buffer.getInt(position);
+        String author = readString(position + 4, buffer.getInt(position));
+        return new Book(isbn, title, author);
+    }
+
+    private String readString(int position, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // 살아 있는 레코드를 바이트 그대로 새 파일에 옮겨 적고 색인을 다시 만든 뒤에야 지금 파일과 바꾼다.
+    // 새 파일을 만들다 실패하면 지금 파일과 매핑은 그대로 쓸 수 있다
+    private void rewrite(int newSlotCount) {
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        long liveBytes = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            long key = buffer.getLong(slotPosition(slot));
+            if (key != EMPTY && key != TOMBSTONE) {
+                liveBytes += buffer.getInt((int) offsetAt(slot));
+            }
+        }
+        boolean created = false;
+        try {
+            create(compacted, newSlotCount);
+            created = true;
+            try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer out = target.map(FileChannel.MapMode.READ_WRITE, 0, dataStart(newSlotCount) + liveBytes);
+                copyLiveRecords(out, newSlotCount);
+                out.force();
+            }
+            FileChannel previous = channel;
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            created = false;
+            open(file);
+            previous.close();
+        } catch (IOException e) {
+            if (created) {
+                try {
+                    Files.deleteIfExists(compacted);
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new UncheckedIOException("도서 파일을 압축할 수 없습니다: " + file, e);
+        }
+    }
+
+    // 사용률 1/4 이하인 빈 색인이라 선형 탐사가 짧다
+    private void copyLiveRecords(MappedByteBuffer out, int newSlotCount) {
+        int mask = newSlotCount - 1;
+        long position = dataStart(newSlotCount);
+        int live = 0;
+        for (int slot = 0; slot < slotCount; slot++) {
+            long key = buffer.getLong(slotPosition(slot));
+            if (key == EMPTY || key == TOMBSTONE) {
+                continue;
+            }
+            int offset = (int) offsetAt(slot);
+            int length = buffer.getInt(offset);
+            out.put((int) position, buffer, offset, length);
+            int target = hash(key) & mask;
+            while (out.getLong(slotPosition(target)) != EMPTY) {
+                target = (target + 1) & mask;
+            }
+            out.putLong(slotPosition(target), key);
+            out.putLong(slotPosition(target) + 8, position);
+            position += length;
+            live++;
+        }
+        out.putInt(LIVE_COUNT_AT, live);
+        out.putInt(TOMBSTONES_AT, 0);
+        out.putLong(DATA_END_AT, position);
+        out.putLong(DEAD_BYTES_AT, 0);
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("도서 파일은 2GB 를 넘을 수 없습니다: " + file);
+        }
+        long newSize = Math.min(Integer.MAX_VALUE, Math.max(required, (long) buffer.capacity() * 2));
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, newSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("도서 파일을 늘릴 수 없습니다: " + file, e);
+        }
+    }
+
+    // 검사를 모두 통과한 뒤에야 필드를 바꾼다 (실패하면 지금 매핑을 그대로 둔다)
+    private void open(Path path) throws IOException {
+        FileChannel opened = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer mapped;
+        try {
+            mapped = opened.map(FileChannel.MapMode.READ_WRITE, 0, opened.size());
+            if (mapped.capacity() < HEADER_SIZE || mapped.getInt(0) != MAGIC) {
+                throw new IOException("도서 파일 형식이 아닙니다");
+            }
+            if (mapped.getInt(4) != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 도서 파일 버전입니다: " + mapped.getInt(4));
+            }
+        } catch (IOException e) {
+            opened.close();
+            throw e;
+        }
+        channel = opened;
+        buffer = mapped;
+        slotCount = buffer.getInt(SLOT_COUNT_AT);
+        liveCount = buffer.getInt(LIVE_COUNT_AT);
+        tombstones = buffer.getInt(TOMBSTONES_AT);
+        dataEnd = buffer.getLong(DATA_END_AT);
+        deadBytes = buffer.getLong(DEAD_BYTES_AT);
+    }
+
+    // 빈 색인과 헤더만 있는 파일을 만든다
+    private static void create(Path path, int slots) throws IOException {
+        long dataStart = dataStart(slots);
+        try (FileChannel created = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = created.map(FileChannel.MapMode.READ_WRITE, 0, dataStart);
+            header.putInt(0, MAGIC);
+            header.putInt(4, FORMAT_VERSION);
+            header.putInt(SLOT_COUNT_AT, slots);
+            header.putLong(DATA_END_AT, dataStart);
+            header.force();
+        }
+    }
+
+    private void writeHeader() {
+        buffer.putInt(LIVE_COUNT_AT, liveCount);
+        buffer.putInt(TOMBSTONES_AT, tombstones);
+        buffer.putLong(DATA_END_AT, dataEnd);
+        buffer.putLong(DEAD_BYTES_AT, deadBytes);
+    }
+
+    private long offsetAt(int slot) {
+        return buffer.getLong(slotPosition(slot) + 8);
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static long dataStart(int slots) {
+        return HEADER_SIZE + (long) slots * SLOT_SIZE;
+    }
+
+    // 사용률 1/4 에서 시작하는 2의 거듭제곱 칸 수
+    private static int slotsFor(int books) {
+        int slots = MIN_SLOTS;
+        while (slots < books * 4L) {
+            slots <<= 1;
+        }
+        return slots;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // 정렬된 키 배열의 [index, end) 구간. 키 수 기준으로 반씩 나눈다
+    private final class KeySpliterator implements Spliterator<Book> {
+        private final long[] keys;
+        private int index;
+        private final int end;
+
+        private KeySpliterator(long[] keys, int index, int end) {
+            this.keys = keys;
+            this.index = index;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Book> action) {
+            while (index < end) {
+                Book book = readByKey(keys[index++]);
+                if (book != null) {
+                    action.accept(book);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<Book> trySplit() {
+            int mid = (index + end) >>> 1;
+            if (mid - index < MIN_SPLIT_KEYS) {
+                return null;
+            }
+            KeySpliterator prefix = new KeySpliterator(keys, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return end - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.books.repository;
+
+import java.util.Arrays;
+
+/**
+ * 문서 번호를 오름차순으로 담는 정수 목록 (n-gram 역색인용).
+ * 문서 번호는 증가하는 순서로만 추가되므로 별도 정렬 없이 이진 탐색할 수 있다.
+ */
+final class PostingList {
+    private int[] ids = new int[4];
+    private int size;
+
+    void add(int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size++] = id;
+    }
+
+    boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    boolean remove(int id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        size--;
+        return true;
+    }
+
+    // 삭제된 문서를 비우고 번호를 앞으로 당길 때 사용. newIds 는 증가 함수이므로 정렬 순서가 유지된다
+    void renumber(int[] newIds) {
+        for (int i = 0; i < size; i++) {
+            ids[i] = newIds[ids[i]];
+        }
+    }
+
+    int get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+}
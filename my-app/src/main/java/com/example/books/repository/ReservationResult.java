@@ -0,0 +1,5 @@
+package com.example.books.repository;
+
+public enum ReservationResult {
+    RESERVED, BOOK_UNAVAILABLE, LIMIT_EXCEEDED
+}
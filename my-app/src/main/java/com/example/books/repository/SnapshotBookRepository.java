@@ -0,0 +1,133 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 읽기 위주 환경용 도서 저장소.
+ * 도서 목록을 변경되지 않는 CatalogSnapshot 으로 들고 있고, 쓰기는 새 버전을 만들어 volatile 필드에 게시한다.
+ * 읽기는 volatile 읽기 한 번으로 현재 버전을 잡으므로 락도 복사도 없이 일관된 목록을 순회한다.
+ * 쓰기끼리는 writeLock 으로 줄을 세운다. 초성/자모 검색 색인은 두지 않는다 (findByTitleHangul 은 일반 제목 검색).
+ */
+public class SnapshotBookRepository implements BookRepository {
+    private final Object writeLock = new Object();
+    private volatile CatalogSnapshot current = CatalogSnapshot.EMPTY;
+
+    /** 현재 도서 목록 버전. 이후 쓰기의 영향을 받지 않는다 */
+    public CatalogSnapshot snapshot() {
+        return current;
+    }
+
+    @Override
+    public void save(Book book) {
+        synchronized (writeLock) {
+            current = current.with(book);
+        }
+    }
+
+    /** 여러 도서를 한 버전으로 게시한다. 읽기는 전부 반영 전이나 전부 반영 후만 본다 */
+    public void saveAll(Collection<Book> books) {
+        synchronized (writeLock) {
+            CatalogSnapshot next = current;
+            for (Book book : books) {
+                next = next.with(book);
+            }
+            current = next;
+        }
+    }
+
+    @Override
+    public boolean saveIfAbsent(Book book) {
+        synchronized (writeLock) {
+            if (current.get(book.getIsbnKey()) != null) {
+                return false;
+            }
+            current = current.with(book);
+            return true;
+        }
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbn) {
+        return current.findByIsbn(isbn);
+    }
+
+    @Override
+    public List<Book> findByTitle(String title) {
+        String query = title.toLowerCase(Locale.ROOT);
+        List<Book> result = new ArrayList<>();
+        current.forEach(book -> {
+            if (book.getTitle().toLowerCase(Locale.ROOT).contains(query)) {
+                result.add(book);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<Book> findByAuthor(String author) {
+        String query = author.toLowerCase(Locale.ROOT);
+        List<Book> result = new ArrayList<>();
+        current.forEach(book -> {
+            if (book.getAuthor().toLowerCase(Locale.ROOT).contains(query)) {
+                result.add(book);
+            }
+        });
+        return result;
+    }
+
+    // List 를 돌려줘야 하므로 복사한다. 복사 없이 순회하려면 snapshot() 을 쓴다
+    @Override
+    public List<Book> findAll() {
+        CatalogSnapshot snapshot = current;
+        List<Book> result = new ArrayList<>(snapshot.size());
+        snapshot.forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public List<Book> findAllAfter(String afterIsbn, int limit) {
+        long after = -1;
+        if (afterIsbn != null) {
+            after = Isbn.toKey(afterIsbn);
+            if (after < 0) {
+                throw new IllegalArgumentException("유효하지 않은 ISBN입니다: " + afterIsbn);
+            }
+        }
+        return current.after(after, limit);
+    }
+
+    // 현재 버전을 복사 없이 ISBN 키 순으로 흘려보낸다
+    @Override
+    public Stream<Book> stream() {
+        return StreamSupport.stream(current.spliterator(), false);
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        return current.findByIsbn(isbn).isPresent();
+    }
+
+    @Override
+    public void deleteByIsbn(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key < 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            current = current.without(key);
+        }
+    }
+
+    public int size() {
+        return current.size();
+    }
+}
@@ -0,0 +1,421 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 제목/저자 부분 문자열 검색을 trigram 역색인으로 처리하는 BookRepository.
+ * 저장 시 소문자로 정규화한 제목/저자의 trigram 마다 문서 번호 목록(posting list)을 유지하고,
+ * 검색 시 검색어 trigram 들의 목록을 교집합한 뒤 후보만 contains 로 확인한다.
+ * 3글자 미만 검색어는 정규화해 둔 문자열을 순회한다.
+ * 삭제/덮어쓰기로 비운 문서 번호가 절반을 넘으면 남은 문서 번호를 앞으로 당겨 목록이 계속 늘어나지 않게 한다.
+ * ISBN 색인은 키 순으로 정렬해 두어 페이지 조회가 시작 키부터 이어서 읽는다.
+ * stream() 도 키 구간을 페이지 단위로 읽으며, 병렬 처리 시 키 구간을 반으로 나눈다.
+ */
+public class TrigramIndexedBookRepository implements BookRepository {
+    private static final int GRAM = 3;
+    private static final int STREAM_PAGE_SIZE = 256;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<Long, Entry> byIsbn = new TreeMap<>(); // 키 : Book.getIsbnKey()
+    private final List<Entry> documents = new ArrayList<>(); // 문서 번호 → Entry (삭제 시 null)
+    private int deletedCount; // documents 의 null 개수
+    private final Map<Long, PostingList> titleIndex = new HashMap<>();
+    private final Map<Long, PostingList> authorIndex = new HashMap<>();
+
+    @Override
+    public void save(Book book) {
+        lock.writeLock().lock();
+        try {
+            Entry previous = byIsbn.remove(book.getIsbnKey());
+            if (previous != null) {
+                unindex(previous);
+            }
+            Entry entry = new Entry(documents.size(), book);
+            documents.add(entry);
+            byIsbn.put(book.getIsbnKey(), entry);
+            index(titleIndex, entry.title, entry.id);
+            index(authorIndex, entry.author, entry.id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean saveIfAbsent(Book book) {
+        lock.writeLock().lock();
+        try {
+            if (byIsbn.containsKey(book.getIsbnKey())) {
+                return false;
+            }
+            save(book);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Book> findByIsbn(String isbn) {
+        lock.readLock().lock();
+        try {
+            Entry entry = byIsbn.get(Isbn.toKey(isbn));
+            return entry == null ? Optional.empty() : Optional.of(entry.book);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Book> findAllByIsbns(Collection<String> isbns) {
+        Map<String, Book> result = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String isbn : isbns) {
+                Entry entry = byIsbn.get(Isbn.toKey(isbn));
+                if (entry != null) {
+                    result.put(isbn, entry.book);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Book> findByTitle(String title) {
+        return search(titleIndex, normalize(title), true);
+    }
+
+    @Override
+    public List<Book> findByAuthor(String author) {
+        return search(authorIndex, normalize(author), false);
+    }
+
+    @Override
+    public List<Book> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Book> result = new ArrayList<>(byIsbn.size());
+            for (Entry entry : byIsbn.values()) {
+                result.add(entry.book);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Book> findAllAfter(String afterIsbn, int limit) {
+        long after = -1;
+        if (afterIsbn != null) {
+            after = Isbn.toKey(afterIsbn);
+            if (after < 0) {
+                throw new IllegalArgumentException("유효하지 않은 ISBN입니다: " + afterIsbn);
+            }
+        }
+        lock.readLock().lock();
+        try {
+            List<Book> page = new ArrayList<>(Math.min(limit, byIsbn.size()));
+            for (Entry entry : byIsbn.tailMap(after, false).values()) {
+                if (page.size() == limit) {
+                    break;
+                }
+                page.add(entry.book);
+            }
+            return page;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체를 복사하지 않고 읽기 락을 페이지마다 잡았다 풀며 흘려보낸다 (시작 이후 마지막 키 뒤에 추가된 도서는 빠짐)
+    @Override
+    public Stream<Book> stream() {
+        lock.readLock().lock();
+        try {
+            if (byIsbn.isEmpty()) {
+                return Stream.empty();
+            }
+            return StreamSupport.stream(new KeyRangeSpliterator(-1, byIsbn.lastKey(), byIsbn.size()), false);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean existsByIsbn(String isbn) {
+        lock.readLock().lock();
+        try {
+            return byIsbn.containsKey(Isbn.toKey(isbn));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteByIsbn(String isbn) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = byIsbn.remove(Isbn.toKey(isbn));
+            if (entry != null) {
+                unindex(entry);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 테스트용 메서드
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            byIsbn.clear();
+            documents.clear();
+            deletedCount = 0;
+            titleIndex.clear();
+            authorIndex.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return byIsbn.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 테스트용 : 삭제 표시를 포함한 문서 번호 수
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Book> search(Map<Long, PostingList> index, String query, boolean title) {
+        lock.readLock().lock();
+        try {
+            List<Book> result = new ArrayList<>();
+            if (query.length() < GRAM) {
+                for (Entry entry : documents) {
+                    if (entry != null && entry.field(title).contains(query)) {
+                        result.add(entry.book);
+                    }
+                }
+                return result;
+            }
+
+            Set<Long> grams = trigrams(query);
+            PostingList[] lists = new PostingList[grams.size()];
+            int i = 0;
+            for (Long gram : grams) {
+                PostingList list = index.get(gram);
+                if (list == null) {
+                    return result;
+                }
+                lists[i++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+
+            PostingList smallest = lists[0];
+            for (int p = 0; p < smallest.size(); p++) {
+                int id = smallest.get(p);
+                if (containsInAll(lists, id)) {
+                    Entry entry = documents.get(id);
+                    // trigram 이 모두 있어도 순서/연속성이 다를 수 있으므로 최종 확인
+                    if (entry.field(title).contains(query)) {
+                        result.add(entry.book);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static boolean containsInAll(PostingList[] lists, int id) {
+        for (int i = 1; i < lists.length; i++) {
+            if (!lists[i].contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void index(Map<Long, PostingList> index, String text, int id) {
+        for (Long gram : trigrams(text)) {
+            index.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    private void unindex(Entry entry) {
+        removeFrom(titleIndex, entry.title, entry.id);
+        removeFrom(authorIndex, entry.author, entry.id);
+        documents.set(entry.id, null);
+        if (++deletedCount * 2 > documents.size()) {
+            compact();
+        }
+    }
+
+    // 남은 문서를 순서대로 앞으로 당기고 posting list 의 번호도 바꾼다 (trigram 은 다시 계산하지 않음)
+    private void compact() {
+        int[] newIds = new int[documents.size()];
+        int next = 0;
+        for (int id = 0; id < documents.size(); id++) {
+            Entry entry = documents.get(id);
+            if (entry != null) {
+                newIds[id] = next;
+                entry.id = next;
+                documents.set(next++, entry);
+            }
+        }
+        documents.subList(next, documents.size()).clear();
+        for (PostingList list : titleIndex.values()) {
+            list.renumber(newIds);
+        }
+        for (PostingList list : authorIndex.values()) {
+            list.renumber(newIds);
+        }
+        deletedCount = 0;
+    }
+
+    private static void removeFrom(Map<Long, PostingList> index, String text, int id) {
+        for (Long gram : trigrams(text)) {
+            PostingList list = index.get(gram);
+            if (list != null && list.remove(id) && list.size() == 0) {
+                index.remove(gram);
+            }
+        }
+    }
+
+    private static Set<Long> trigrams(String text) {
+        Set<Long> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private int id; // compact 시 바뀜
+        private final Book book;
+        private final String title;
+        private final String author;
+
+        private Entry(int id, Book book) {
+            this.id = id;
+            this.book = book;
+            this.title = normalize(book.getTitle());
+            this.author = normalize(book.getAuthor());
+        }
+
+        private String field(boolean title) {
+            return title ? this.title : this.author;
+        }
+    }
+
+    // ISBN 키 (after, last] 구간. 읽은 만큼 after 를 당기고, 나눌 때는 키 값의 가운데에서 자른다
+    private final class KeyRangeSpliterator implements Spliterator<Book> {
+        private long after;
+        private final long last;
+        private long estimate;
+        private List<Book> page = new ArrayList<>();
+        private int position;
+
+        private KeyRangeSpliterator(long after, long last, long estimate) {
+            this.after = after;
+            this.last = last;
+            this.estimate = estimate;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Book> action) {
+            if (position == page.size() && !fill()) {
+                return false;
+            }
+            action.accept(page.get(position++));
+            return true;
+        }
+
+        private boolean fill() {
+            if (after >= last) {
+                return false;
+            }
+            lock.readLock().lock();
+            try {
+                page = new ArrayList<>(STREAM_PAGE_SIZE);
+                position = 0;
+                for (Map.Entry<Long, Entry> entry : byIsbn.subMap(after, false, last, true).entrySet()) {
+                    if (page.size() == STREAM_PAGE_SIZE) {
+                        break;
+                    }
+                    page.add(entry.getValue().book);
+                    after = entry.getKey();
+                }
+                if (page.size() < STREAM_PAGE_SIZE) {
+                    after = last; // 구간 끝까지 읽음
+                }
+                return !page.isEmpty();
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        @Override
+        public Spliterator<Book> trySplit() {
+            // 이미 읽어 둔 페이지가 있으면 그 앞뒤로 나눌 수 없다
+            if (position < page.size() || estimate < 2L * STREAM_PAGE_SIZE || last - after < 2) {
+                return null;
+            }
+            long mid = after + (last - after) / 2;
+            KeyRangeSpliterator prefix = new KeyRangeSpliterator(after, mid, estimate / 2);
+            after = mid;
+            estimate -= prefix.estimate;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+}
@@ -1,12 +1,24 @@
 package com.example.books.repository;
 
 import com.example.books.User;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserRepository {
     void save(User user);
     Optional<User> findById(String id);
     List<User> findAll();
+
+    // 여러 사용자를 한 번에 조회한다 (없는 사용자는 결과에서 빠짐)
+    default Map<String, User> findAllByIds(Collection<String> ids) {
+        Map<String, User> result = new HashMap<>();
+        for (String id : ids) {
+            findById(id).ifPresent(user -> result.put(id, user));
+        }
+        return result;
+    }
     boolean existsById(String id);
 }
\ No newline at end of file
@@ -0,0 +1,445 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.User;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 알림 발송을 호출 스레드에서 분리하는 NotificationService 데코레이터.
+ * 메시지는 크기가 정해진 큐에 넣고 작업 스레드가 최대 batchSize 개씩 꺼내 위임 대상에 발송한다.
+ * 큐가 가득 찼을 때의 동작은 OverflowPolicy 로 정한다.
+ * - BLOCK : 자리가 날 때까지 호출 스레드가 기다린다.
+ * - DROP_OLDEST : 가장 오래된 메시지를 버리고 넣는다.
+ * - SPILL_TO_DISK : 파일에 기록해 두었다가 큐가 절반 이하로 줄면 작업 스레드가 batchSize 개씩 이어서 발송한다 (순서는 보장하지 않음).
+ *   파일을 읽지 못하면 오류를 세고 다시 시도하며, 연속으로 MAX_SPILL_READ_ATTEMPTS 번 실패하면 남은 기록을 발송 실패로 처리한다.
+ * close 는 새 메시지를 거부하고 큐와 파일에 남은 메시지를 모두 발송한 뒤 반환한다.
+ */
+public class AsyncNotificationService implements NotificationService, AutoCloseable {
+
+    public enum OverflowPolicy { BLOCK, DROP_OLDEST, SPILL_TO_DISK }
+
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final long POLL_INTERVAL_MS = 100;
+    static final int MAX_SPILL_READ_ATTEMPTS = 3;
+
+    private final NotificationService delegate;
+    private final BlockingQueue<Message> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Path spillFile;
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final Object spillLock = new Object();
+    private DataOutputStream spillOutput; // spillLock 으로 보호
+    private long spillReadOffset; // spillLock 으로 보호. 다음에 읽을 기록의 파일 내 위치
+    private int spillReadFailures; // spillLock 으로 보호. 연속으로 읽기에 실패한 횟수
+    private final AtomicInteger spilledPending = new AtomicInteger();
+
+    private volatile boolean closed;
+    private final AtomicInteger submitting = new AtomicInteger(); // 큐에 넣는 중인 호출 수 (종료 시 유실 방지)
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder spilledCount = new LongAdder();
+    private final LongAdder spillErrorCount = new LongAdder();
+    private final LongAdder sendLatencyTotalNanos = new LongAdder();
+    private final AtomicLong maxSendLatencyNanos = new AtomicLong();
+
+    public AsyncNotificationService(NotificationService delegate, int capacity, int workerCount,
+                                    OverflowPolicy overflowPolicy) {
+        this(delegate, capacity, workerCount, DEFAULT_BATCH_SIZE, overflowPolicy, null);
+    }
+
+    public AsyncNotificationService(NotificationService delegate, int capacity, int workerCount, int batchSize,
+                                    OverflowPolicy overflowPolicy, Path spillFile) {
+        if (capacity <= 0 || workerCount <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("큐 크기, 작업 스레드 수, 배치 크기는 1 이상이어야 합니다");
+        }
+        if (overflowPolicy == OverflowPolicy.SPILL_TO_DISK && spillFile == null) {
+            throw new IllegalArgumentException("SPILL_TO_DISK 정책에는 기록할 파일이 필요합니다");
+        }
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.spillFile = spillFile;
+
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::drain, "notification-worker-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @Override
+    public void sendLoanConfirmation(User user, Book book) {
+        submit(new Message(Kind.LOAN_CONFIRMATION, user, book, 0));
+    }
+
+    @Override
+    public void sendReturnConfirmation(User user, Book book) {
+        submit(new Message(Kind.RETURN_CONFIRMATION, user, book, 0));
+    }
+
+    @Override
+    public void sendOverdueNotification(User user, Book book, long overdueDays) {
+        submit(new Message(Kind.OVERDUE, user, book, overdueDays));
+    }
+
+    @Override
+    public void sendDueDateReminder(User user, Book book, int daysUntilDue) {
+        submit(new Message(Kind.DUE_DATE_REMINDER, user, book, daysUntilDue));
+    }
+
+    @Override
+    public void sendOverdueDigest(User user, Map<Book, Long> overdueDaysByBook) {
+        submit(new Message(user, new LinkedHashMap<>(overdueDaysByBook)));
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        boolean interrupted = false;
+        for (Thread worker : workers) {
+            while (worker.isAlive()) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        synchronized (spillLock) {
+            closeSpillOutput();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 메트릭
+    public int getQueueDepth() { return queue.size(); }
+    public int getSpilledPending() { return spilledPending.get(); }
+    public long getSentCount() { return sentCount.sum(); }
+    public long getFailedCount() { return failedCount.sum(); }
+    public long getDroppedCount() { return droppedCount.sum(); }
+    public long getSpilledCount() { return spilledCount.sum(); }
+    public long getSpillErrorCount() { return spillErrorCount.sum(); }
+    public long getMaxSendLatencyNanos() { return maxSendLatencyNanos.get(); }
+
+    public long getAverageSendLatencyNanos() {
+        long sends = sentCount.sum() + failedCount.sum();
+        return sends == 0 ? 0 : sendLatencyTotalNanos.sum() / sends;
+    }
+
+    private void submit(Message message) {
+        submitting.incrementAndGet();
+        try {
+            if (closed) {
+                throw new IllegalStateException("종료된 알림 서비스입니다");
+            }
+            switch (overflowPolicy) {
+                case BLOCK:
+                    putBlocking(message);
+                    break;
+                case DROP_OLDEST:
+                    while (!queue.offer(message)) {
+                        if (queue.poll() != null) {
+                            droppedCount.increment();
+                        }
+                    }
+                    break;
+                case SPILL_TO_DISK:
+                    if (!queue.offer(message)) {
+                        spill(message);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("알 수 없는 정책입니다: " + overflowPolicy);
+            }
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    private void putBlocking(Message message) {
+        try {
+            queue.put(message);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("알림 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    private void drain() {
+        List<Message> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Message first;
+            try {
+                first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                first = null; // 종료 여부는 아래에서 판단
+            }
+            if (first != null) {
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendAll(batch);
+                batch.clear();
+            }
+            if (spilledPending.get() > 0 && queue.size() <= capacity / 2) {
+                replaySpilled();
+            }
+            if (closed && submitting.get() == 0 && queue.isEmpty() && spilledPending.get() == 0) {
+                return;
+            }
+        }
+    }
+
+    private void sendAll(List<Message> batch) {
+        for (Message message : batch) {
+            long start = System.nanoTime();
+            try {
+                message.sendTo(delegate);
+                sentCount.increment();
+            } catch (RuntimeException e) {
+                failedCount.increment(); // 한 건의 실패가 작업 스레드를 멈추지 않도록 기록만 한다
+            }
+            long elapsed = System.nanoTime() - start;
+            sendLatencyTotalNanos.add(elapsed);
+            maxSendLatencyNanos.accumulateAndGet(elapsed, Math::max);
+        }
+    }
+
+    // 기록마다 길이를 앞에 붙여, 읽는 쪽이 어디까지 읽었는지 바이트 단위로 기억할 수 있게 한다
+    private void spill(Message message) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try {
+            message.writeTo(new DataOutputStream(record));
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림을 파일에 기록하지 못했습니다: " + spillFile, e);
+        }
+        synchronized (spillLock) {
+            try {
+                if (spillOutput == null) {
+                    spillOutput = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(
+                        spillFile, StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+                }
+                spillOutput.writeInt(record.size());
+                record.writeTo(spillOutput);
+                spillOutput.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException("알림을 파일에 기록하지 못했습니다: " + spillFile, e);
+            }
+            spilledPending.incrementAndGet();
+            spilledCount.increment();
+        }
+    }
+
+    // 작업 스레드가 멈추지 않도록 파일 오류는 여기서 기록만 한다
+    private void replaySpilled() {
+        List<Message> messages;
+        try {
+            messages = readSpilled();
+        } catch (IOException | UncheckedIOException e) {
+            spillErrorCount.increment();
+            abandonSpilledIfRepeated();
+            return;
+        }
+        sendAll(messages);
+    }
+
+    // 지난번에 멈춘 위치부터 최대 batchSize 개를 읽는다. 모두 읽었으면 파일을 지우고 처음부터 다시 쓴다
+    private List<Message> readSpilled() throws IOException {
+        synchronized (spillLock) {
+            List<Message> messages = new ArrayList<>();
+            int pending = spilledPending.get();
+            if (pending == 0) {
+                return messages;
+            }
+            try (FileChannel channel = FileChannel.open(spillFile, StandardOpenOption.READ)) {
+                channel.position(spillReadOffset);
+                DataInputStream input = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+                while (messages.size() < batchSize && messages.size() < pending) {
+                    int length = input.readInt();
+                    if (length <= 0) {
+                        throw new IOException("손상된 알림 기록입니다 (위치 " + spillReadOffset + ")");
+                    }
+                    byte[] record = new byte[length];
+                    input.readFully(record);
+                    messages.add(Message.readFrom(new DataInputStream(new ByteArrayInputStream(record))));
+                    spillReadOffset += Integer.BYTES + length;
+                }
+            } catch (IOException e) {
+                if (messages.isEmpty()) {
+                    throw e;
+                }
+                // 읽은 만큼은 발송하고, 같은 오류는 다음 읽기에서 다시 만난다
+            }
+            spillReadFailures = 0;
+            if (spilledPending.addAndGet(-messages.size()) == 0) {
+                resetSpillFile();
+            }
+            return messages;
+        }
+    }
+
+    private void abandonSpilledIfRepeated() {
+        synchronized (spillLock) {
+            if (++spillReadFailures < MAX_SPILL_READ_ATTEMPTS) {
+                return;
+            }
+            failedCount.add(spilledPending.getAndSet(0));
+            spillReadFailures = 0;
+            try {
+                resetSpillFile();
+            } catch (UncheckedIOException e) {
+                spillErrorCount.increment();
+            }
+        }
+    }
+
+    // spillLock 안에서 호출. 지우지 못하면 파일과 읽을 위치를 그대로 두고 이어서 쓴다
+    private void resetSpillFile() {
+        closeSpillOutput();
+        try {
+            Files.deleteIfExists(spillFile);
+            spillReadOffset = 0;
+        } catch (IOException e) {
+            spillErrorCount.increment();
+        }
+    }
+
+    private void closeSpillOutput() {
+        if (spillOutput == null) {
+            return;
+        }
+        try {
+            spillOutput.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("알림 파일을 닫지 못했습니다: " + spillFile, e);
+        } finally {
+            spillOutput = null;
+        }
+    }
+
+    private enum Kind { LOAN_CONFIRMATION, RETURN_CONFIRMATION, OVERDUE, DUE_DATE_REMINDER, OVERDUE_DIGEST }
+
+    private static final class Message {
+        private final Kind kind;
+        private final User user;
+        private final Book book;
+        private final long days;
+        private final Map<Book, Long> digest; // OVERDUE_DIGEST 일 때만 사용
+
+        private Message(Kind kind, User user, Book book, long days) {
+            this.kind = kind;
+            this.user = user;
+            this.book = book;
+            this.days = days;
+            this.digest = null;
+        }
+
+        private Message(User user, Map<Book, Long> digest) {
+            this.kind = Kind.OVERDUE_DIGEST;
+            this.user = user;
+            this.book = null;
+            this.days = 0;
+            this.digest = digest;
+        }
+
+        private void sendTo(NotificationService target) {
+            switch (kind) {
+                case LOAN_CONFIRMATION:
+                    target.sendLoanConfirmation(user, book);
+                    break;
+                case RETURN_CONFIRMATION:
+                    target.sendReturnConfirmation(user, book);
+                    break;
+                case OVERDUE:
+                    target.sendOverdueNotification(user, book, days);
+                    break;
+                case DUE_DATE_REMINDER:
+                    target.sendDueDateReminder(user, book, (int) days);
+                    break;
+                case OVERDUE_DIGEST:
+                    target.sendOverdueDigest(user, digest);
+                    break;
+                default:
+                    throw new IllegalStateException("알 수 없는 알림입니다: " + kind);
+            }
+        }
+
+        private void writeTo(DataOutputStream output) throws IOException {
+            output.writeByte(kind.ordinal());
+            output.writeUTF(user.getId());
+            output.writeUTF(user.getName());
+            output.writeUTF(user.getEmail());
+            output.writeInt(user.getMaxLoanCount());
+            if (kind == Kind.OVERDUE_DIGEST) {
+                output.writeInt(digest.size());
+                for (Map.Entry<Book, Long> entry : digest.entrySet()) {
+                    writeBook(output, entry.getKey());
+                    output.writeLong(entry.getValue());
+                }
+            } else {
+                writeBook(output, book);
+                output.writeLong(days);
+            }
+        }
+
+        private static Message readFrom(DataInputStream input) throws IOException {
+            int ordinal = input.readByte();
+            if (ordinal < 0 || ordinal >= Kind.values().length) {
+                throw new IOException("알 수 없는 알림 종류입니다: " + ordinal);
+            }
+            Kind kind = Kind.values()[ordinal];
+            User user = new User(input.readUTF(), input.readUTF(), input.readUTF(), input.readInt());
+            if (kind == Kind.OVERDUE_DIGEST) {
+                int size = input.readInt();
+                Map<Book, Long> digest = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    digest.put(readBook(input), input.readLong());
+                }
+                return new Message(user, digest);
+            }
+            return new Message(kind, user, readBook(input), input.readLong());
+        }
+
+        private static void writeBook(DataOutputStream output, Book book) throws IOException {
+            output.writeUTF(book.getIsbn());
+            output.writeUTF(book.getTitle());
+            output.writeUTF(book.getAuthor());
+        }
+
+        private static Book readBook(DataInputStream input) throws IOException {
+            return new Book(input.readUTF(), input.readUTF(), input.readUTF());
+        }
+    }
+}
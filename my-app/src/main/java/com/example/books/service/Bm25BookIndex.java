@@ -0,0 +1,232 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목/저자 BM25 관련도 검색 색인.
+ * 제목과 저자를 CatalogTokenizer 로 나눈 단어마다 (문서 번호, 단어 빈도) posting list 를 유지하고,
+ * 검색어의 각 단어 posting list 를 따라가며 BM25 점수를 누적한 뒤 크기 limit 의 최소 힙으로 상위 결과만 고른다.
+ * 여러 단어 검색어는 OR 로 처리하며 더 많은 단어가 맞을수록 점수가 높아진다.
+ * BookService.addCatalogListener 로 등록하면 도서 등록/삭제가 반영된다.
+ */
+public class Bm25BookIndex implements CatalogListener {
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docIdByIsbn = new HashMap<>(); // 키 : Book.getIsbnKey()
+    private final List<Document> documents = new ArrayList<>(); // 문서 번호 → Document (삭제 시 null)
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+    private long totalLength;
+    private int documentCount;
+
+    @Override
+    public void onRegistered(Book book) {
+        add(book);
+    }
+
+    @Override
+    public void onRemoved(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key >= 0) {
+            remove(key);
+        }
+    }
+
+    public void add(Book book) {
+        List<String> tokens = CatalogTokenizer.tokenize(book.getTitle());
+        tokens.addAll(CatalogTokenizer.tokenize(book.getAuthor()));
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = docIdByIsbn.remove(book.getIsbnKey());
+            if (previous != null) {
+                unindex(previous);
+            }
+            int docId = documents.size();
+            Postings[] terms = new Postings[frequencies.size()];
+            int next = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                Postings postings = postingsByTerm.computeIfAbsent(entry.getKey(), Postings::new);
+                postings.add(docId, entry.getValue());
+                terms[next++] = postings;
+            }
+            documents.add(new Document(book, tokens.size(), terms));
+            docIdByIsbn.put(book.getIsbnKey(), docId);
+            totalLength += tokens.size();
+            documentCount++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long isbnKey) {
+        lock.writeLock().lock();
+        try {
+            Integer docId = docIdByIsbn.remove(isbnKey);
+            if (docId != null) {
+                unindex(docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 관련도가 높은 순으로 최대 limit 건. 점수가 같으면 먼저 등록된 도서가 앞선다 */
+    public List<SearchHit> search(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어가 필요합니다");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("결과 수는 1 이상이어야 합니다");
+        }
+        Set<String> terms = new LinkedHashSet<>(CatalogTokenizer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            if (documentCount == 0) {
+                return new ArrayList<>();
+            }
+            double averageLength = (double) totalLength / documentCount;
+            Map<Integer, double[]> scores = new HashMap<>();
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - postings.size + 0.5) / (postings.size + 0.5));
+                for (int i = 0; i < postings.size; i++) {
+                    int docId = postings.docIds[i];
+                    int frequency = postings.frequencies[i];
+                    double norm = K1 * (1 - B + B * documents.get(docId).length / averageLength);
+                    double score = idf * frequency * (K1 + 1) / (frequency + norm);
+                    scores.computeIfAbsent(docId, key -> new double[1])[0] += score;
+                }
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<SearchHit> topK(Map<Integer, double[]> scores, int limit) {
+        // 루트가 현재 상위 limit 건 중 가장 낮은 결과
+        PriorityQueue<ScoredDoc> heap = new PriorityQueue<>(limit + 1);
+        for (Map.Entry<Integer, double[]> entry : scores.entrySet()) {
+            ScoredDoc candidate = new ScoredDoc(entry.getKey(), entry.getValue()[0]);
+            if (heap.size() < limit) {
+                heap.add(candidate);
+            } else if (candidate.compareTo(heap.peek()) > 0) {
+                heap.poll();
+                heap.add(candidate);
+            }
+        }
+        List<SearchHit> hits = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ScoredDoc doc = heap.poll();
+            hits.add(new SearchHit(documents.get(doc.docId).book, doc.score));
+        }
+        Collections.reverse(hits);
+        return hits;
+    }
+
+    private void unindex(int docId) {
+        Document document = documents.get(docId);
+        for (Postings postings : document.terms) {
+            if (postings.remove(docId) && postings.size == 0) {
+                postingsByTerm.remove(postings.term);
+            }
+        }
+        documents.set(docId, null);
+        totalLength -= document.length;
+        documentCount--;
+    }
+
+    private static final class Document {
+        private final Book book;
+        private final int length;
+        private final Postings[] terms; // 단어 문자열은 Postings 한 곳에만 둔다
+
+        private Document(Book book, int length, Postings[] terms) {
+            this.book = book;
+            this.length = length;
+            this.terms = terms;
+        }
+    }
+
+    // 문서 번호 오름차순 (문서 번호, 빈도) 목록
+    private static final class Postings {
+        private final String term;
+        private int[] docIds = new int[2];
+        private int[] frequencies = new int[2];
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private boolean remove(int docId) {
+            int index = Arrays.binarySearch(docIds, 0, size, docId);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(docIds, index + 1, docIds, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+
+    private static final class ScoredDoc implements Comparable<ScoredDoc> {
+        private final int docId;
+        private final double score;
+
+        private ScoredDoc(int docId, double score) {
+            this.docId = docId;
+            this.score = score;
+        }
+
+        // 점수가 높을수록, 같으면 먼저 등록된 문서일수록 크다
+        @Override
+        public int compareTo(ScoredDoc other) {
+            int byScore = Double.compare(score, other.score);
+            return byScore != 0 ? byScore : Integer.compare(other.docId, docId);
+        }
+    }
+}
@@ -3,21 +3,154 @@ package com.example.books.service;
 import com.example.books.Book;
 import com.example.books.repository.BookRepository;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
 
 public class BookService {
+    static final double ISBN_FILTER_FALSE_POSITIVE_RATE = 0.01;
+    private static final int MIN_ISBN_FILTER_CAPACITY = 1024;
+
     private final BookRepository bookRepository;
+    private final List<CatalogListener> catalogListeners = new CopyOnWriteArrayList<>();
+    // 변경(저장 + 알림)은 읽기 락, 리스너 설치(전체 전달 + 추가)는 쓰기 락 : 설치 중 변경이 빠지거나 두 번 가지 않는다
+    private final ReadWriteLock catalogLock = new ReentrantReadWriteLock();
+    private volatile IsbnBloomFilter isbnFilter; // registerAll 첫 호출 때 만든다
+    private final SearchResultCache searchCache; // 없으면 캐시하지 않는다
     
     public BookService(BookRepository bookRepository) {
+        this(bookRepository, null);
+    }
+    
+    // 제목/저자 검색 결과를 최대 searchCacheSize 건, searchCacheTtl 동안 캐시한다
+    public BookService(BookRepository bookRepository, int searchCacheSize, Duration searchCacheTtl) {
+        this(bookRepository, new SearchResultCache(searchCacheSize, searchCacheTtl));
+    }
+    
+    BookService(BookRepository bookRepository, SearchResultCache searchCache) {
         this.bookRepository = bookRepository;
+        this.searchCache = searchCache;
+    }
+    
+    // 등록 시점의 전체 도서를 먼저 전달한 뒤 이후 변경을 알린다. 전달하는 동안 등록/삭제는 기다린다
+    public void addCatalogListener(CatalogListener listener) {
+        catalogLock.writeLock().lock();
+        try {
+            for (Book book : bookRepository.findAll()) {
+                listener.onRegistered(book);
+            }
+            catalogListeners.add(listener);
+        } finally {
+            catalogLock.writeLock().unlock();
+        }
     }
     
     public void register(Book book) {
         if (bookRepository.existsByIsbn(book.getIsbn())) {
             throw new DuplicateBookException("이미 등록된 도서입니다: " + book.getIsbn());
         }
-        bookRepository.save(book);
+        catalogLock.readLock().lock();
+        try {
+            bookRepository.save(book);
+            IsbnBloomFilter filter = isbnFilter;
+            if (filter != null) {
+                filter.add(book.getIsbnKey());
+            }
+            invalidateSearches(book);
+            for (CatalogListener listener : catalogListeners) {
+                listener.onRegistered(book);
+            }
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 여러 도서를 한 번에 등록하고 도서별 결과를 돌려준다. 중복이 있어도 예외 없이 나머지를 등록한다.
+     * 요청 안에서 ISBN 이 반복되면 처음 것만 등록하고, 이미 등록된 ISBN 인지는 블룸 필터로 먼저 거른 뒤
+     * 필터가 있을 수도 있다고 한 도서만 findAllByIsbns 로 한 번에 확인한다.
+     * 저장은 saveIfAbsent 로 하므로 그 사이 다른 등록이 끼어들어도 같은 ISBN 이 두 번 저장되지 않는다.
+     */
+    public BulkRegistrationReport registerAll(Collection<Book> books) {
+        if (books == null) {
+            throw new IllegalArgumentException("등록할 도서 목록이 필요합니다");
+        }
+        List<Book> batch = new ArrayList<>(books);
+        List<BulkRegistrationReport.Outcome> outcomes = new ArrayList<>(batch.size());
+        IsbnBloomFilter filter = isbnFilter(batch.size());
+
+        Map<Long, Book> firstByKey = new HashMap<>();
+        List<String> possiblyRegistered = new ArrayList<>();
+        for (Book book : batch) {
+            if (book == null) {
+                throw new IllegalArgumentException("등록할 도서가 필요합니다");
+            }
+            if (firstByKey.putIfAbsent(book.getIsbnKey(), book) != null) {
+                outcomes.add(BulkRegistrationReport.Outcome.DUPLICATE_IN_BATCH);
+                continue;
+            }
+            outcomes.add(null);
+            if (filter.mightContain(book.getIsbnKey())) {
+                possiblyRegistered.add(book.getIsbn());
+            }
+        }
+        Map<String, Book> registered = possiblyRegistered.isEmpty()
+            ? new HashMap<>()
+            : bookRepository.findAllByIsbns(possiblyRegistered);
+
+        List<Book> added = new ArrayList<>();
+        catalogLock.readLock().lock();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                if (outcomes.get(i) != null) {
+                    continue;
+                }
+                Book book = batch.get(i);
+                if (!registered.containsKey(book.getIsbn()) && bookRepository.saveIfAbsent(book)) {
+                    filter.add(book.getIsbnKey());
+                    added.add(book);
+                    outcomes.set(i, BulkRegistrationReport.Outcome.REGISTERED);
+                } else {
+                    outcomes.set(i, BulkRegistrationReport.Outcome.ALREADY_REGISTERED);
+                }
+            }
+            if (searchCache != null) {
+                searchCache.invalidate(added); // 검색 캐시는 요청마다 한 번만 훑는다
+            }
+            for (CatalogListener listener : catalogListeners) {
+                for (Book book : added) {
+                    listener.onRegistered(book);
+                }
+            }
+        } finally {
+            catalogLock.readLock().unlock();
+        }
+        return new BulkRegistrationReport(batch, outcomes);
+    }
+    
+    // 필터가 없거나 이번 요청까지 담기에 작으면 현재 도서 목록으로 다시 만든다.
+    // 만드는 사이 다른 경로로 저장된 ISBN 이 빠지더라도 saveIfAbsent 가 걸러 준다
+    private synchronized IsbnBloomFilter isbnFilter(int incoming) {
+        IsbnBloomFilter filter = isbnFilter;
+        if (filter != null && filter.hasRoomFor(incoming)) {
+            return filter;
+        }
+        List<Book> catalog = bookRepository.findAll();
+        int capacity = Math.max(MIN_ISBN_FILTER_CAPACITY, 2 * (catalog.size() + incoming));
+        filter = new IsbnBloomFilter(capacity, ISBN_FILTER_FALSE_POSITIVE_RATE);
+        for (Book book : catalog) {
+            filter.add(book.getIsbnKey());
+        }
+        isbnFilter = filter;
+        return filter;
     }
     
     public Optional<Book> findByIsbn(String isbn) {
@@ -31,24 +164,80 @@ public class BookService {
         if (title == null || title.trim().isEmpty()) {
             throw new IllegalArgumentException("검색할 제목이 필요합니다");
         }
-        return bookRepository.findByTitle(title);
+        return search(SearchResultCache.Kind.TITLE, title);
+    }
+    
+    public List<Book> searchByHangul(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색할 제목이 필요합니다");
+        }
+        return bookRepository.findByTitleHangul(query);
     }
     
     public List<Book> searchByAuthor(String author) {
         if (author == null || author.trim().isEmpty()) {
             throw new IllegalArgumentException("검색할 저자명이 필요합니다");
         }
-        return bookRepository.findByAuthor(author);
+        return search(SearchResultCache.Kind.AUTHOR, author);
+    }
+    
+    private List<Book> search(SearchResultCache.Kind kind, String query) {
+        if (searchCache == null) {
+            return find(kind, query);
+        }
+        List<Book> cached = searchCache.get(kind, query);
+        if (cached != null) {
+            return cached;
+        }
+        long version = searchCache.version();
+        List<Book> result = find(kind, query);
+        searchCache.put(kind, query, result, version);
+        return result;
+    }
+    
+    private List<Book> find(SearchResultCache.Kind kind, String query) {
+        return kind == SearchResultCache.Kind.TITLE
+            ? bookRepository.findByTitle(query)
+            : bookRepository.findByAuthor(query);
+    }
+    
+    private void invalidateSearches(Book book) {
+        if (searchCache != null) {
+            searchCache.invalidate(book);
+        }
     }
     
     public List<Book> findAllBooks() {
         return bookRepository.findAll();
     }
     
+    // 키셋 페이지 조회 : 이전 페이지의 마지막 ISBN 을 afterIsbn 으로 넘긴다 (첫 페이지는 null)
+    public List<Book> findAllBooks(String afterIsbn, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("조회 개수는 1 이상이어야 합니다");
+        }
+        return bookRepository.findAllAfter(afterIsbn, limit);
+    }
+    
+    public Stream<Book> streamAllBooks() {
+        return bookRepository.stream();
+    }
+    
     public void removeBook(String isbn) {
         if (!bookRepository.existsByIsbn(isbn)) {
             throw new BookNotFoundException("존재하지 않는 도서입니다: " + isbn);
         }
-        bookRepository.deleteByIsbn(isbn);
+        // 캐시에서 지울 검색어를 고르려면 삭제 전 제목/저자가 필요하다
+        Optional<Book> removed = searchCache == null ? Optional.empty() : bookRepository.findByIsbn(isbn);
+        catalogLock.readLock().lock();
+        try {
+            bookRepository.deleteByIsbn(isbn);
+            removed.ifPresent(this::invalidateSearches);
+            for (CatalogListener listener : catalogListeners) {
+                listener.onRemoved(isbn);
+            }
+        } finally {
+            catalogLock.readLock().unlock();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// BookService.registerAll 결과 (요청한 순서대로 도서별 처리 결과)
+public class BulkRegistrationReport {
+    public enum Outcome {
+        REGISTERED, ALREADY_REGISTERED, DUPLICATE_IN_BATCH
+    }
+
+    private final List<Book> books;
+    private final List<Outcome> outcomes;
+
+    BulkRegistrationReport(List<Book> books, List<Outcome> outcomes) {
+        this.books = Collections.unmodifiableList(books);
+        this.outcomes = Collections.unmodifiableList(outcomes);
+    }
+
+    public int size() { return books.size(); }
+    public Book getBook(int index) { return books.get(index); }
+    public Outcome getOutcome(int index) { return outcomes.get(index); }
+    public List<Outcome> getOutcomes() { return outcomes; }
+
+    public int count(Outcome outcome) {
+        return Collections.frequency(outcomes, outcome);
+    }
+
+    public List<Book> getRegistered() {
+        return filter(true);
+    }
+
+    // 이미 등록돼 있었거나 같은 요청 안에서 반복된 도서
+    public List<Book> getDuplicates() {
+        return filter(false);
+    }
+
+    private List<Book> filter(boolean registered) {
+        List<Book> result = new ArrayList<>();
+        for (int i = 0; i < books.size(); i++) {
+            if ((outcomes.get(i) == Outcome.REGISTERED) == registered) {
+                result.add(books.get(i));
+            }
+        }
+        return result;
+    }
+}
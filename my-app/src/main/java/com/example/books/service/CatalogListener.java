@@ -0,0 +1,9 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+// 도서가 등록/삭제된 뒤 호출된다 (검색 색인 등 파생 구조 갱신용)
+public interface CatalogListener {
+    void onRegistered(Book book);
+    void onRemoved(String isbn);
+}
@@ -0,0 +1,27 @@
+package com.example.books.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 제목/저자를 검색어 단위로 나눈다 : 글자/숫자가 아닌 문자로 구분하고 영문은 소문자로
+final class CatalogTokenizer {
+
+    private CatalogTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
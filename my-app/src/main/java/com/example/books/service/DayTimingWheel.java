@@ -0,0 +1,167 @@
+package com.example.books.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일 단위 계층형 타이밍 휠.
+ * 단계마다 64칸이며 0단계 한 칸은 1일, k단계 한 칸은 64^k 일을 나타낸다.
+ * 예약은 남은 일수에 맞는 단계의 칸에 넣고, 하위 단계가 한 바퀴 돌 때 상위 단계의 칸을 한 단계 아래로 다시 나눈다.
+ * 각 칸은 이중 연결 리스트라서 예약/취소는 O(1), 하루 진행은 그날 만료되는 항목 수(와 분할 비용)에 비례한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 보호해야 한다.
+ */
+class DayTimingWheel<T> {
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4; // 64^4 일(약 4만 5천 년)까지 표현, 그 이상은 최상위 단계에서 다시 나눔
+
+    private final List<List<Timer<T>>> wheels; // [단계][칸] → 칸의 센티널
+    private final Timer<T> expired = Timer.sentinel(); // 이미 지난 날짜로 예약된 항목 (다음 진행 때 만료)
+    private long currentDay;
+    private int size;
+
+    DayTimingWheel(long startDay) {
+        this.currentDay = startDay;
+        this.wheels = new ArrayList<>(LEVELS);
+        for (int level = 0; level < LEVELS; level++) {
+            List<Timer<T>> slots = new ArrayList<>(WHEEL_SIZE);
+            for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+                slots.add(Timer.sentinel());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    long currentDay() {
+        return currentDay;
+    }
+
+    int size() {
+        return size;
+    }
+
+    Timer<T> schedule(long day, T payload) {
+        Timer<T> timer = new Timer<>(this, day, payload);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /** currentDay 다음 날부터 day 까지 하루씩 진행하며 만료된 항목을 만료일 순으로 돌려준다 */
+    List<T> advanceTo(long day) {
+        List<T> fired = new ArrayList<>();
+        drainInto(expired, fired);
+        while (currentDay < day) {
+            currentDay++;
+            cascade();
+            drainInto(expired, fired); // 분할 중 오늘 날짜로 내려온 항목
+            drainInto(slot(0, currentDay), fired);
+        }
+        return fired;
+    }
+
+    // 상위 단계부터 분할해야 위에서 내려온 항목이 같은 날 아래 단계에서도 다시 나뉜다
+    private void cascade() {
+        int top = 0;
+        while (top + 1 < LEVELS && (currentDay & ((1L << (WHEEL_BITS * (top + 1))) - 1)) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            Timer<T> head = slot(level, currentDay);
+            Timer<T> timer = head.next;
+            head.prev = head; // 칸을 비운 뒤 다시 배치 (같은 칸으로 돌아와도 이번 순회에 섞이지 않도록)
+            head.next = head;
+            while (timer != head) {
+                Timer<T> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                place(timer);
+                timer = next;
+            }
+        }
+    }
+
+    private void place(Timer<T> timer) {
+        long delta = timer.day - currentDay;
+        if (delta <= 0) {
+            timer.linkBefore(expired);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < 1L << (WHEEL_BITS * (level + 1))) {
+                timer.linkBefore(slot(level, timer.day));
+                return;
+            }
+        }
+        // 범위를 넘는 항목은 최상위 단계의 가장 먼 칸에 두었다가 분할될 때 다시 배치
+        int top = LEVELS - 1;
+        long farthest = currentDay + (1L << (WHEEL_BITS * LEVELS)) - 1;
+        timer.linkBefore(slot(top, farthest));
+    }
+
+    // level 단계에서 day 가 속한 칸의 센티널
+    private Timer<T> slot(int level, long day) {
+        return wheels.get(level).get((int) ((day >>> (WHEEL_BITS * level)) & WHEEL_MASK));
+    }
+
+    private void drainInto(Timer<T> head, List<T> fired) {
+        Timer<T> timer = head.next;
+        while (timer != head) {
+            Timer<T> next = timer.next;
+            timer.unlink();
+            size--;
+            fired.add(timer.payload);
+            timer = next;
+        }
+    }
+
+    static final class Timer<T> {
+        private final DayTimingWheel<T> wheel;
+        private final long day;
+        private final T payload;
+        private Timer<T> prev;
+        private Timer<T> next;
+
+        private Timer(DayTimingWheel<T> wheel, long day, T payload) {
+            this.wheel = wheel;
+            this.day = day;
+            this.payload = payload;
+        }
+
+        private static <T> Timer<T> sentinel() {
+            Timer<T> head = new Timer<>(null, 0, null);
+            head.prev = head;
+            head.next = head;
+            return head;
+        }
+
+        long day() {
+            return day;
+        }
+
+        /** 아직 만료되지 않았으면 휠에서 빼고 true 를 돌려준다 */
+        boolean cancel() {
+            if (next == null) {
+                return false;
+            }
+            unlink();
+            wheel.size--;
+            return true;
+        }
+
+        private void linkBefore(Timer<T> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
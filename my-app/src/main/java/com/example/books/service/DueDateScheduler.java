@@ -0,0 +1,176 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.Loan;
+import com.example.books.LoanStatus;
+import com.example.books.User;
+import com.example.books.repository.BookRepository;
+import com.example.books.repository.LoanRepository;
+import com.example.books.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 반납 예정일 기준으로 반납 알림과 연체 전환을 예약하는 스케줄러.
+ * 대출마다 (반납 예정일 - reminderDaysBefore) 일에 sendDueDateReminder 를, 반납 예정일 다음 날에 OVERDUE 전환을
+ * DayTimingWheel 에 예약하고, 반납되면 두 예약을 O(1) 로 취소한다.
+ * tick 은 매일 한 번 호출하며 그날 만료되는 대출만 처리한다.
+ * LoanService.addLoanListener 로 등록하면 대출/반납 시 자동으로 예약/취소된다.
+ */
+public class DueDateScheduler implements LoanListener {
+    private final LoanRepository loanRepository;
+    private final UserRepository userRepository;
+    private final BookRepository bookRepository;
+    private final NotificationService notificationService;
+    private final int reminderDaysBefore;
+
+    private final DayTimingWheel<Event> wheel;
+    private final Map<String, Scheduled> scheduledByLoanId = new HashMap<>();
+
+    public DueDateScheduler(LoanRepository loanRepository,
+                            UserRepository userRepository,
+                            BookRepository bookRepository,
+                            NotificationService notificationService,
+                            int reminderDaysBefore,
+                            LocalDate today) {
+        if (reminderDaysBefore < 0) {
+            throw new IllegalArgumentException("알림 일수는 0 이상이어야 합니다");
+        }
+        this.loanRepository = loanRepository;
+        this.userRepository = userRepository;
+        this.bookRepository = bookRepository;
+        this.notificationService = notificationService;
+        this.reminderDaysBefore = reminderDaysBefore;
+        this.wheel = new DayTimingWheel<>(today.toEpochDay());
+    }
+
+    // 재시작 시 저장소의 대출 중인 대출을 다시 예약
+    public synchronized void registerActiveLoans() {
+        for (Loan loan : loanRepository.findByStatus(LoanStatus.ACTIVE)) {
+            register(loan);
+        }
+    }
+
+    public synchronized void register(Loan loan) {
+        if (loan.getStatus() != LoanStatus.ACTIVE || scheduledByLoanId.containsKey(loan.getId())) {
+            return;
+        }
+        long dueDay = loan.getDueDate().toEpochDay();
+        // 알림일이 이미 지났더라도 반납 예정일 전이면 다음 tick 에 보낸다
+        long reminderDay = Math.max(dueDay - reminderDaysBefore, wheel.currentDay() + 1);
+        DayTimingWheel.Timer<Event> reminder = reminderDay <= dueDay
+            ? wheel.schedule(reminderDay, new Event(loan, EventType.REMINDER))
+            : null;
+        DayTimingWheel.Timer<Event> overdue = wheel.schedule(dueDay + 1, new Event(loan, EventType.OVERDUE));
+        scheduledByLoanId.put(loan.getId(), new Scheduled(reminder, overdue));
+    }
+
+    public synchronized boolean cancel(String loanId) {
+        Scheduled scheduled = scheduledByLoanId.remove(loanId);
+        if (scheduled == null) {
+            return false;
+        }
+        if (scheduled.reminder != null) {
+            scheduled.reminder.cancel();
+        }
+        scheduled.overdue.cancel();
+        return true;
+    }
+
+    /** today 까지 진행하며 만료된 반납 알림을 보내고 연체된 대출을 OVERDUE 로 저장한다. 처리한 건수를 돌려준다 */
+    public int tick(LocalDate today) {
+        List<Event> fired;
+        synchronized (this) {
+            fired = wheel.advanceTo(today.toEpochDay());
+            for (Event event : fired) {
+                if (event.type == EventType.OVERDUE) {
+                    scheduledByLoanId.remove(event.loan.getId());
+                }
+            }
+        }
+
+        List<Loan> reminders = new ArrayList<>();
+        for (Event event : fired) {
+            Loan loan = event.loan;
+            if (loan.getStatus() != LoanStatus.ACTIVE) {
+                continue; // 예약 이후 반납되었지만 아직 취소되지 않은 경우
+            }
+            if (event.type == EventType.OVERDUE) {
+                try {
+                    loan.markOverdue();
+                } catch (IllegalStateException e) {
+                    continue; // 확인 직후 다른 스레드에서 반납됨
+                }
+                loanRepository.save(loan);
+            } else if (!today.isAfter(loan.getDueDate())) {
+                reminders.add(loan); // 여러 날을 한 번에 진행해 반납 예정일이 지났다면 알림 대신 연체 처리만 한다
+            }
+        }
+        sendReminders(reminders, today);
+        return fired.size();
+    }
+
+    public synchronized int scheduledCount() {
+        return scheduledByLoanId.size();
+    }
+
+    private void sendReminders(List<Loan> loans, LocalDate today) {
+        if (loans.isEmpty()) {
+            return;
+        }
+        Set<String> userIds = new HashSet<>();
+        Set<String> isbns = new HashSet<>();
+        for (Loan loan : loans) {
+            userIds.add(loan.getUserId());
+            isbns.add(loan.getIsbn());
+        }
+        Map<String, User> users = userRepository.findAllByIds(userIds);
+        Map<String, Book> books = bookRepository.findAllByIsbns(isbns);
+        for (Loan loan : loans) {
+            User user = users.get(loan.getUserId());
+            Book book = books.get(loan.getIsbn());
+            if (user != null && book != null) {
+                int daysUntilDue = (int) (loan.getDueDate().toEpochDay() - today.toEpochDay());
+                notificationService.sendDueDateReminder(user, book, daysUntilDue);
+            }
+        }
+    }
+
+    @Override
+    public void onLoaned(Loan loan) {
+        register(loan);
+    }
+
+    @Override
+    public void onReturned(Loan loan) {
+        cancel(loan.getId());
+    }
+
+    private enum EventType { REMINDER, OVERDUE }
+
+    private static final class Event {
+        private final Loan loan;
+        private final EventType type;
+
+        private Event(Loan loan, EventType type) {
+            this.loan = loan;
+            this.type = type;
+        }
+    }
+
+    private static final class Scheduled {
+        private final DayTimingWheel.Timer<Event> reminder; // 알림일이 없으면 null
+        private final DayTimingWheel.Timer<Event> overdue;
+
+        private Scheduled(DayTimingWheel.Timer<Event> reminder, DayTimingWheel.Timer<Event> overdue) {
+            this.reminder = reminder;
+            this.overdue = overdue;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 오타를 허용하는 제목/저자 검색.
+ * 제목과 저자의 단어를 LevenshteinTrie 사전에 넣어 두고, 검색어의 각 단어와 편집 거리 maxEdits 이내인 단어의 도서를 찾는다.
+ * 여러 단어 검색어는 모든 단어가 (오타 포함) 맞는 도서만 돌려주며, 편집 거리 합이 작은 순으로 정렬한다.
+ * 짧은 단어는 허용 오타를 줄인다 (1글자는 0, 2글자는 최대 1) — 그렇지 않으면 거의 모든 단어가 맞기 때문이다.
+ * BookService.addCatalogListener 로 등록하면 도서 등록/삭제가 반영된다.
+ */
+public class FuzzyBookSearch implements CatalogListener {
+    public static final int MAX_EDITS = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LevenshteinTrie dictionary = new LevenshteinTrie();
+    private final List<Set<Long>> booksByTerm = new ArrayList<>(); // 단어 번호 → 도서 키 (키 : Book.getIsbnKey())
+    private final Map<Long, Book> books = new HashMap<>();
+    private final Map<Long, Set<Integer>> termsByBook = new HashMap<>();
+
+    @Override
+    public void onRegistered(Book book) {
+        add(book);
+    }
+
+    @Override
+    public void onRemoved(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key >= 0) {
+            remove(key);
+        }
+    }
+
+    public void add(Book book) {
+        Set<String> tokens = new LinkedHashSet<>(CatalogTokenizer.tokenize(book.getTitle()));
+        tokens.addAll(CatalogTokenizer.tokenize(book.getAuthor()));
+
+        lock.writeLock().lock();
+        try {
+            unindex(book.getIsbnKey());
+            Set<Integer> termIds = new HashSet<>();
+            for (String token : tokens) {
+                int termId = dictionary.add(token);
+                while (booksByTerm.size() <= termId) {
+                    booksByTerm.add(null);
+                }
+                if (booksByTerm.get(termId) == null) {
+                    booksByTerm.set(termId, new HashSet<>());
+                }
+                booksByTerm.get(termId).add(book.getIsbnKey());
+                termIds.add(termId);
+            }
+            books.put(book.getIsbnKey(), book);
+            termsByBook.put(book.getIsbnKey(), termIds);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long isbnKey) {
+        lock.writeLock().lock();
+        try {
+            unindex(isbnKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Book> search(String query, int maxEdits) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("검색어가 필요합니다");
+        }
+        if (maxEdits < 0 || maxEdits > MAX_EDITS) {
+            throw new IllegalArgumentException("허용 오타 수는 0~" + MAX_EDITS + " 사이여야 합니다");
+        }
+        Set<String> tokens = new LinkedHashSet<>(CatalogTokenizer.tokenize(query));
+        if (tokens.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> totalDistance = null;
+            for (String token : tokens) {
+                Map<Long, Integer> distances = match(token, Math.min(maxEdits, token.length() - 1));
+                if (totalDistance == null) {
+                    totalDistance = distances;
+                } else {
+                    Map<Long, Integer> both = new HashMap<>();
+                    for (Map.Entry<Long, Integer> entry : totalDistance.entrySet()) {
+                        Integer distance = distances.get(entry.getKey());
+                        if (distance != null) {
+                            both.put(entry.getKey(), entry.getValue() + distance);
+                        }
+                    }
+                    totalDistance = both;
+                }
+                if (totalDistance.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(totalDistance.entrySet());
+            ranked.sort(Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(entry -> books.get(entry.getKey()).getTitle(), Comparator.naturalOrder()));
+            List<Book> result = new ArrayList<>(ranked.size());
+            for (Map.Entry<Long, Integer> entry : ranked) {
+                result.add(books.get(entry.getKey()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 검색어 한 단어에 맞는 도서별 최소 편집 거리
+    private Map<Long, Integer> match(String token, int maxEdits) {
+        Map<Long, Integer> distances = new HashMap<>();
+        for (LevenshteinTrie.Match match : dictionary.search(token, maxEdits)) {
+            Set<Long> keys = booksByTerm.get(match.termId);
+            if (keys == null) {
+                continue;
+            }
+            for (Long key : keys) {
+                distances.merge(key, match.distance, Math::min);
+            }
+        }
+        return distances;
+    }
+
+    // 사전의 단어는 지우지 않고 도서 연결만 끊는다 (같은 단어가 다시 등록되면 재사용)
+    private void unindex(long isbnKey) {
+        Set<Integer> termIds = termsByBook.remove(isbnKey);
+        if (termIds == null) {
+            return;
+        }
+        for (Integer termId : termIds) {
+            Set<Long> keys = booksByTerm.get(termId);
+            keys.remove(isbnKey);
+            if (keys.isEmpty()) {
+                booksByTerm.set(termId, null);
+            }
+        }
+        books.remove(isbnKey);
+    }
+}
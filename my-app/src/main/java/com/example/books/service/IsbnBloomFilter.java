@@ -0,0 +1,78 @@
+package com.example.books.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ISBN 키(Book.getIsbnKey()) 블룸 필터.
+ * mightContain 이 false 면 확실히 없는 키이고, true 면 실제로 있는지 따로 확인해야 한다.
+ * 예상 키 수 capacity 와 오탐률 falsePositiveRate 로 비트 수와 해시 수를 정하며,
+ * 해시 두 개를 섞어 k 개의 위치를 만든다 (Kirsch-Mitzenmacher). 비트는 CAS 로 켜므로 동시에 add 해도 된다.
+ * 삭제는 지원하지 않는다 — 지운 키가 남아 있어도 오탐만 늘 뿐 누락은 생기지 않는다.
+ */
+class IsbnBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger added = new AtomicInteger();
+
+    IsbnBloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("예상 키 수는 1 이상이어야 합니다");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("오탐률은 0과 1 사이여야 합니다");
+        }
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) Math.max(1, (optimalBits + 63) / 64));
+        this.bitCount = (long) bits.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.capacity = capacity;
+    }
+
+    void add(long key) {
+        long hash = mix(key);
+        long first = hash >>> 32;
+        long second = hash & 0xffffffffL;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+        added.incrementAndGet();
+    }
+
+    boolean mightContain(long key) {
+        long hash = mix(key);
+        long first = hash >>> 32;
+        long second = hash & 0xffffffffL;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(first + i * second, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** incoming 개를 더 넣어도 예상 키 수 안에 드는지 (넘으면 오탐률이 올라간다) */
+    boolean hasRoomFor(int incoming) {
+        return (long) added.get() + incoming <= capacity;
+    }
+
+    // 64비트 섞기 (MurmurHash3 fmix64)
+    private static long mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
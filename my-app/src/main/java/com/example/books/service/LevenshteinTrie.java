@@ -0,0 +1,142 @@
+package com.example.books.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 편집 거리 검색용 단어 사전.
+ * 단어를 배열 기반 trie(첫 자식 / 다음 형제)에 저장하고, 검색 시 trie 를 깊이 우선으로 내려가며
+ * 검색어에 대한 Levenshtein 오토마톤의 상태(편집 거리 DP 한 행)를 갱신한다.
+ * 한 행은 거리 maxEdits 이내가 가능한 대각선 띠만 계산하고,
+ * 그 최솟값이 maxEdits 를 넘으면 그 아래 단어는 모두 거리 초과이므로 하위 트리 전체를 건너뛴다.
+ * 노드마다 객체를 만들지 않아 단어 100만 개 규모에서도 메모리를 적게 쓴다. 동기화하지 않는다.
+ */
+class LevenshteinTrie {
+    private static final int NONE = -1;
+
+    private char[] labels = new char[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int[] termIds = new int[1024];
+    private int nodeCount;
+    private int maxTermLength;
+    private final List<String> terms = new ArrayList<>();
+
+    LevenshteinTrie() {
+        newNode('\0'); // 루트
+    }
+
+    /** 단어를 추가하고 단어 번호를 돌려준다 (이미 있으면 기존 번호) */
+    int add(String term) {
+        int node = 0;
+        for (int i = 0; i < term.length(); i++) {
+            node = childOrCreate(node, term.charAt(i));
+        }
+        if (termIds[node] == NONE) {
+            maxTermLength = Math.max(maxTermLength, term.length());
+            termIds[node] = terms.size();
+            terms.add(term);
+        }
+        return termIds[node];
+    }
+
+    String term(int termId) {
+        return terms.get(termId);
+    }
+
+    int termCount() {
+        return terms.size();
+    }
+
+    /** query 와의 편집 거리가 maxEdits 이하인 단어 */
+    List<Match> search(String query, int maxEdits) {
+        List<Match> matches = new ArrayList<>();
+        char[] chars = query.toCharArray();
+        int[][] rows = new int[maxTermLength + 1][chars.length + 1]; // 깊이별 DP 행
+        for (int j = 0; j <= chars.length; j++) {
+            rows[0][j] = Math.min(j, maxEdits + 1);
+        }
+        for (int child = firstChild[0]; child != NONE; child = nextSibling[child]) {
+            visit(child, 1, chars, maxEdits, rows, matches);
+        }
+        return matches;
+    }
+
+    private void visit(int node, int depth, char[] query, int maxEdits, int[][] rows, List<Match> matches) {
+        int[] previous = rows[depth - 1];
+        int[] row = rows[depth];
+        char label = labels[node];
+        int limit = maxEdits + 1; // 이 값 이상은 모두 거리 초과로 본다
+        // 편집 거리 maxEdits 이내가 될 수 있는 대각선 띠 [depth - maxEdits, depth + maxEdits] 만 계산
+        int from = Math.max(1, depth - maxEdits);
+        int to = Math.min(query.length, depth + maxEdits);
+        if (from > to) {
+            return;
+        }
+        row[0] = Math.min(depth, limit);
+        row[from - 1] = from == 1 ? row[0] : limit;
+        int rowMin = limit;
+        for (int j = from; j <= to; j++) {
+            int substitute = previous[j - 1] + (query[j - 1] == label ? 0 : 1);
+            int value = Math.min(Math.min(substitute, previous[j] + 1), Math.min(row[j - 1] + 1, limit));
+            row[j] = value;
+            rowMin = Math.min(rowMin, value);
+        }
+        if (to < query.length) {
+            row[to + 1] = limit; // 다음 깊이가 읽는 띠 바깥 칸
+        }
+        if (rowMin > maxEdits) {
+            return;
+        }
+        int distance = query.length >= from && query.length <= to ? row[query.length] : limit;
+        if (termIds[node] != NONE && distance <= maxEdits) {
+            matches.add(new Match(termIds[node], distance));
+        }
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            visit(child, depth + 1, query, maxEdits, rows, matches);
+        }
+    }
+
+    private int childOrCreate(int parent, char label) {
+        int last = NONE;
+        for (int child = firstChild[parent]; child != NONE; child = nextSibling[child]) {
+            if (labels[child] == label) {
+                return child;
+            }
+            last = child;
+        }
+        int created = newNode(label);
+        if (last == NONE) {
+            firstChild[parent] = created;
+        } else {
+            nextSibling[last] = created;
+        }
+        return created;
+    }
+
+    private int newNode(char label) {
+        if (nodeCount == labels.length) {
+            int capacity = nodeCount * 2;
+            labels = Arrays.copyOf(labels, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            termIds = Arrays.copyOf(termIds, capacity);
+        }
+        labels[nodeCount] = label;
+        firstChild[nodeCount] = NONE;
+        nextSibling[nodeCount] = NONE;
+        termIds[nodeCount] = NONE;
+        return nodeCount++;
+    }
+
+    static final class Match {
+        final int termId;
+        final int distance;
+
+        Match(int termId, int distance) {
+            this.termId = termId;
+            this.distance = distance;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.books.service;
+
+import com.example.books.Loan;
+
+// 대출/반납이 저장된 뒤 호출된다
+public interface LoanListener {
+    void onLoaned(Loan loan);
+    void onReturned(Loan loan);
+}
@@ -3,21 +3,36 @@ package com.example.books.service;
 import com.example.books.Book;
 import com.example.books.User;
 import com.example.books.Loan;
+import com.example.books.LoanIdGenerator;
 import com.example.books.LoanStatus;
+import com.example.books.TimeOrderedLoanIdGenerator;
 import com.example.books.repository.BookRepository;
 import com.example.books.repository.UserRepository;
 import com.example.books.repository.LoanRepository;
+import com.example.books.repository.ReservationResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 public class LoanService {
+    static final int OVERDUE_BATCH_SIZE = 500;
+    
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final LoanRepository loanRepository;
     private final NotificationService notificationService;
     private final int defaultLoanPeriodDays;
+    private final Executor notificationExecutor;
+    private final LoanIdGenerator loanIdGenerator;
+    private final List<LoanListener> loanListeners = new CopyOnWriteArrayList<>();
     
     public LoanService(BookRepository bookRepository, 
                       UserRepository userRepository,
@@ -31,11 +46,38 @@ public class LoanService {
                       LoanRepository loanRepository,
                       NotificationService notificationService,
                       int defaultLoanPeriodDays) {
+        this(bookRepository, userRepository, loanRepository, notificationService, defaultLoanPeriodDays, Runnable::run);
+    }
+    
+    // notificationExecutor : 연체 알림 발송에 사용 (기본값은 호출 스레드에서 순서대로 발송)
+    public LoanService(BookRepository bookRepository, 
+                      UserRepository userRepository,
+                      LoanRepository loanRepository,
+                      NotificationService notificationService,
+                      int defaultLoanPeriodDays,
+                      Executor notificationExecutor) {
+        this(bookRepository, userRepository, loanRepository, notificationService, defaultLoanPeriodDays,
+             notificationExecutor, new TimeOrderedLoanIdGenerator());
+    }
+    
+    public LoanService(BookRepository bookRepository, 
+                      UserRepository userRepository,
+                      LoanRepository loanRepository,
+                      NotificationService notificationService,
+                      int defaultLoanPeriodDays,
+                      Executor notificationExecutor,
+                      LoanIdGenerator loanIdGenerator) {
         this.bookRepository = bookRepository;
         this.userRepository = userRepository;
         this.loanRepository = loanRepository;
         this.notificationService = notificationService;
         this.defaultLoanPeriodDays = defaultLoanPeriodDays;
+        this.notificationExecutor = notificationExecutor;
+        this.loanIdGenerator = loanIdGenerator;
+    }
+    
+    public void addLoanListener(LoanListener listener) {
+        loanListeners.add(listener);
     }
     
     public Loan loanBook(String userId, String isbn) {
@@ -58,10 +100,19 @@ public class LoanService {
             throw new LoanLimitExceededException("대출 한도를 초과했습니다. 현재: " + currentLoanCount + "/" + user.getMaxLoanCount());
         }
         
-        // 대출 처리
-        String loanId = UUID.randomUUID().toString();
+        // 대출 처리 (확인 이후 다른 요청이 먼저 대출했을 수 있으므로 저장소에서 원자적으로 다시 확인)
+        String loanId = loanIdGenerator.nextId();
         Loan loan = new Loan(loanId, userId, isbn, LocalDate.now(), defaultLoanPeriodDays);
-        loanRepository.save(loan);
+        ReservationResult result = loanRepository.reserve(loan, user.getMaxLoanCount());
+        if (result == ReservationResult.BOOK_UNAVAILABLE) {
+            throw new BookNotAvailableException("현재 대출 중인 도서입니다: " + isbn);
+        }
+        if (result == ReservationResult.LIMIT_EXCEEDED) {
+            // 저장소가 확인한 대출 수는 알 수 없으므로 한도만 알린다
+            throw new LoanLimitExceededException("대출 한도를 초과했습니다. 한도: " + user.getMaxLoanCount());
+        }
+        
+        notifyListeners(loan, true);
         
         // 알림 발송
         notificationService.sendLoanConfirmation(user, book);
@@ -73,12 +124,13 @@ public class LoanService {
         Loan loan = loanRepository.findById(loanId)
             .orElseThrow(() -> new LoanNotFoundException("대출 정보를 찾을 수 없습니다: " + loanId));
         
-        if (loan.getStatus() != LoanStatus.ACTIVE) {
+        if (loan.getStatus() == LoanStatus.RETURNED) {
             throw new InvalidLoanStatusException("이미 반납된 도서입니다");
         }
         
         loan.returnBook(LocalDate.now());
         loanRepository.save(loan);
+        notifyListeners(loan, false);
         
         // 알림 발송
         User user = userRepository.findById(loan.getUserId()).orElseThrow();
@@ -97,15 +149,110 @@ public class LoanService {
         return loanRepository.findOverdueLoans(LocalDate.now());
     }
     
-    public void sendOverdueNotifications() {
+    public int sendOverdueNotifications() {
         List<Loan> overdueLoans = getOverdueLoans();
+        LocalDate today = LocalDate.now();
+        int sent = 0;
+        
+        // 대출 건마다 사용자/도서를 조회하지 않고 묶음 단위로 한 번에 조회한 뒤 알림은 병렬로 발송
+        for (int from = 0; from < overdueLoans.size(); from += OVERDUE_BATCH_SIZE) {
+            List<Loan> batch = overdueLoans.subList(from, Math.min(from + OVERDUE_BATCH_SIZE, overdueLoans.size()));
+            Map<String, User> users = userRepository.findAllByIds(userIdsOf(batch));
+            Map<String, Book> books = bookRepository.findAllByIsbns(isbnsOf(batch));
+            
+            List<Runnable> sends = new ArrayList<>(batch.size());
+            for (Loan loan : batch) {
+                User user = users.get(loan.getUserId());
+                Book book = books.get(loan.getIsbn());
+                if (user == null || book == null) {
+                    continue; // 탈퇴한 사용자나 삭제된 도서는 알림 대상에서 제외
+                }
+                long overdueDays = loan.getOverdueDays(today);
+                sends.add(() -> notificationService.sendOverdueNotification(user, book, overdueDays));
+            }
+            sent += dispatch(sends);
+        }
+        return sent;
+    }
+    
+    // 연체 대출을 사용자별로 묶어 사용자당 한 번만 알린다
+    public int sendOverdueDigests() {
+        Map<String, List<Loan>> loansByUser = new LinkedHashMap<>();
+        for (Loan loan : getOverdueLoans()) {
+            loansByUser.computeIfAbsent(loan.getUserId(), key -> new ArrayList<>()).add(loan);
+        }
+        List<List<Loan>> groups = new ArrayList<>(loansByUser.values());
+        LocalDate today = LocalDate.now();
+        int sent = 0;
         
-        for (Loan loan : overdueLoans) {
-            User user = userRepository.findById(loan.getUserId()).orElseThrow();
-            Book book = bookRepository.findByIsbn(loan.getIsbn()).orElseThrow();
-            long overdueDays = loan.getOverdueDays(LocalDate.now());
+        for (int from = 0; from < groups.size(); from += OVERDUE_BATCH_SIZE) {
+            List<List<Loan>> batch = groups.subList(from, Math.min(from + OVERDUE_BATCH_SIZE, groups.size()));
+            List<Loan> batchLoans = new ArrayList<>();
+            for (List<Loan> loans : batch) {
+                batchLoans.addAll(loans);
+            }
+            Map<String, User> users = userRepository.findAllByIds(userIdsOf(batchLoans));
+            Map<String, Book> books = bookRepository.findAllByIsbns(isbnsOf(batchLoans));
             
-            notificationService.sendOverdueNotification(user, book, overdueDays);
+            List<Runnable> sends = new ArrayList<>(batch.size());
+            for (List<Loan> loans : batch) {
+                User user = users.get(loans.get(0).getUserId());
+                if (user == null) {
+                    continue;
+                }
+                Map<Book, Long> overdueDaysByBook = new LinkedHashMap<>();
+                for (Loan loan : loans) {
+                    Book book = books.get(loan.getIsbn());
+                    if (book != null) {
+                        overdueDaysByBook.put(book, loan.getOverdueDays(today));
+                    }
+                }
+                if (!overdueDaysByBook.isEmpty()) {
+                    sends.add(() -> notificationService.sendOverdueDigest(user, overdueDaysByBook));
+                }
+            }
+            sent += dispatch(sends);
+        }
+        return sent;
+    }
+    
+    // 대출/반납은 이미 저장되었으므로 리스너 오류로 요청을 실패시키지 않는다 (재시도하면 BOOK_UNAVAILABLE 이 됨)
+    private void notifyListeners(Loan loan, boolean loaned) {
+        for (LoanListener listener : loanListeners) {
+            try {
+                if (loaned) {
+                    listener.onLoaned(loan);
+                } else {
+                    listener.onReturned(loan);
+                }
+            } catch (RuntimeException ignored) {
+                // 다음 리스너와 알림 발송은 계속 진행
+            }
+        }
+    }
+    
+    private int dispatch(List<Runnable> sends) {
+        List<CompletableFuture<Void>> pending = new ArrayList<>(sends.size());
+        for (Runnable send : sends) {
+            pending.add(CompletableFuture.runAsync(send, notificationExecutor));
+        }
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0])).join();
+        return pending.size();
+    }
+    
+    private static Set<String> userIdsOf(List<Loan> loans) {
+        Set<String> userIds = new HashSet<>();
+        for (Loan loan : loans) {
+            userIds.add(loan.getUserId());
+        }
+        return userIds;
+    }
+    
+    private static Set<String> isbnsOf(List<Loan> loans) {
+        Set<String> isbns = new HashSet<>();
+        for (Loan loan : loans) {
+            isbns.add(loan.getIsbn());
         }
+        return isbns;
     }
-}
\ No newline at end of file
+}
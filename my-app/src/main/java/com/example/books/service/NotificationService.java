@@ -4,9 +4,18 @@ import com.example.books.Book;
 import com.example.books.User;
 import com.example.books.Loan;
 
+import java.util.Map;
+
 public interface NotificationService {
     void sendLoanConfirmation(User user, Book book);
     void sendReturnConfirmation(User user, Book book);
     void sendOverdueNotification(User user, Book book, long overdueDays);
     void sendDueDateReminder(User user, Book book, int daysUntilDue);
+
+    // 한 사용자의 연체 도서를 한 번에 알린다 (키 : 도서, 값 : 연체 일수). 묶음 발송을 지원하지 않으면 건별로 발송한다
+    default void sendOverdueDigest(User user, Map<Book, Long> overdueDaysByBook) {
+        for (Map.Entry<Book, Long> entry : overdueDaysByBook.entrySet()) {
+            sendOverdueNotification(user, entry.getKey(), entry.getValue());
+        }
+    }
 }
\ No newline at end of file
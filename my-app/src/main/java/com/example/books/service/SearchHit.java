@@ -0,0 +1,21 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+public class SearchHit {
+    private final Book book;
+    private final double score;
+
+    public SearchHit(Book book, double score) {
+        this.book = book;
+        this.score = score;
+    }
+
+    public Book getBook() { return book; }
+    public double getScore() { return score; }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.3f)", book.getTitle(), score);
+    }
+}
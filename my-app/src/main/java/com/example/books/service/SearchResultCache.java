@@ -0,0 +1,171 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * 제목/저자 검색 결과 캐시.
+ * 키는 (검색 종류, 소문자로 바꾼 검색어) 이고, 최대 maxEntries 건을 LRU 로 유지하며 ttl 이 지난 결과는 버린다.
+ * 도서가 등록/삭제되면 그 도서의 제목(저자)에 검색어가 포함되는 — 즉 결과가 바뀌는 — 항목만 지운다.
+ * 검색 도중 도서가 바뀌었으면 그 결과는 저장하지 않는다 (version 비교).
+ */
+class SearchResultCache {
+    enum Kind {
+        TITLE, AUTHOR
+    }
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Key, Entry> entries;
+    private long version;
+    private long hits;
+    private long misses;
+
+    SearchResultCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    SearchResultCache(int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("캐시 유지 시간은 0보다 커야 합니다");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > SearchResultCache.this.maxEntries;
+            }
+        };
+    }
+
+    static String normalize(String query) {
+        return query.toLowerCase(Locale.ROOT);
+    }
+
+    /** 캐시된 결과의 복사본, 없거나 만료됐으면 null */
+    synchronized List<Book> get(Kind kind, String query) {
+        Key key = new Key(kind, normalize(query));
+        Entry entry = entries.get(key);
+        if (entry != null && nanoClock.getAsLong() - entry.storedAt >= ttlNanos) {
+            entries.remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return new ArrayList<>(entry.books);
+    }
+
+    /** 검색 전에 읽어 두었다가 put 에 넘긴다 */
+    synchronized long version() {
+        return version;
+    }
+
+    synchronized void put(Kind kind, String query, List<Book> books, long readVersion) {
+        if (readVersion != version) {
+            return;
+        }
+        entries.put(new Key(kind, normalize(query)),
+            new Entry(Collections.unmodifiableList(new ArrayList<>(books)), nanoClock.getAsLong()));
+    }
+
+    /** 등록/삭제된 도서가 결과에 들어가거나 빠질 검색어만 지운다 */
+    void invalidate(Book book) {
+        invalidate(List.of(book));
+    }
+
+    /**
+     * 여러 도서가 한꺼번에 바뀌었을 때 항목을 한 번만 훑는다.
+     * 캐시 크기보다 많은 도서가 바뀌면 대부분의 검색어가 걸리므로 전부 비운다.
+     */
+    synchronized void invalidate(Collection<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        version++;
+        if (books.size() > maxEntries) {
+            entries.clear();
+            return;
+        }
+        List<String> titles = new ArrayList<>(books.size());
+        List<String> authors = new ArrayList<>(books.size());
+        for (Book book : books) {
+            titles.add(normalize(book.getTitle()));
+            authors.add(normalize(book.getAuthor()));
+        }
+        Iterator<Key> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            Key key = keys.next();
+            for (String field : key.kind == Kind.TITLE ? titles : authors) {
+                if (field.contains(key.query)) {
+                    keys.remove();
+                    break;
+                }
+            }
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getHitCount() {
+        return hits;
+    }
+
+    synchronized long getMissCount() {
+        return misses;
+    }
+
+    private static final class Key {
+        private final Kind kind;
+        private final String query;
+
+        private Key(Kind kind, String query) {
+            this.kind = kind;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return kind == key.kind && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, query);
+        }
+    }
+
+    private static final class Entry {
+        private final List<Book> books;
+        private final long storedAt;
+
+        private Entry(List<Book> books, long storedAt) {
+            this.books = books;
+            this.storedAt = storedAt;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 제목 접두어 자동 완성.
+ * 정규화한 제목(소문자, 연속 공백은 하나로)을 trie 에 넣고, 노드마다 그 아래 제목 중 인기도 상위 topN 개를 미리 계산해 둔다.
+ * 따라서 complete 는 접두어 길이만큼 내려간 뒤 저장된 목록을 복사할 뿐이다.
+ * 등록/인기도 증가는 경로 위 노드 목록에 끼워 넣고, 삭제/인기도 감소는 경로를 아래에서부터 자식 목록으로 다시 계산한다.
+ * 인기도가 같으면 제목 순이다. BookService.addCatalogListener 로 등록하면 도서 등록/삭제가 반영된다.
+ */
+public class TitleAutocomplete implements CatalogListener {
+    private static final Comparator<Candidate> RANKING = Comparator
+        .comparingLong((Candidate candidate) -> candidate.popularity).reversed()
+        .thenComparing(candidate -> candidate.book.getTitle())
+        .thenComparingLong(candidate -> candidate.book.getIsbnKey());
+
+    private final int topN;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    private final Map<Long, Candidate> candidates = new HashMap<>(); // 키 : Book.getIsbnKey()
+
+    public TitleAutocomplete(int topN) {
+        if (topN <= 0) {
+            throw new IllegalArgumentException("완성 개수는 1 이상이어야 합니다");
+        }
+        this.topN = topN;
+    }
+
+    @Override
+    public void onRegistered(Book book) {
+        add(book);
+    }
+
+    @Override
+    public void onRemoved(String isbn) {
+        long key = Isbn.toKey(isbn);
+        if (key >= 0) {
+            remove(key);
+        }
+    }
+
+    public void add(Book book) {
+        lock.writeLock().lock();
+        try {
+            long popularity = 0;
+            Candidate previous = candidates.get(book.getIsbnKey());
+            if (previous != null) {
+                popularity = previous.popularity; // 제목 변경 등 재등록 시 인기도 유지
+                unindex(previous);
+            }
+            Candidate candidate = new Candidate(book, normalize(book.getTitle()).trim(), popularity);
+            candidates.put(book.getIsbnKey(), candidate);
+
+            Node node = root;
+            offer(node, candidate);
+            for (int i = 0; i < candidate.key.length(); i++) {
+                node = node.childOrCreate(candidate.key.charAt(i));
+                offer(node, candidate);
+            }
+            node.terminal.add(candidate);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long isbnKey) {
+        lock.writeLock().lock();
+        try {
+            Candidate candidate = candidates.get(isbnKey);
+            if (candidate != null) {
+                unindex(candidate);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordSelection(String isbn) {
+        lock.writeLock().lock();
+        try {
+            Candidate candidate = candidates.get(Isbn.toKey(isbn));
+            if (candidate != null) {
+                setPopularity(candidate, candidate.popularity + 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setPopularity(String isbn, long popularity) {
+        lock.writeLock().lock();
+        try {
+            Candidate candidate = candidates.get(Isbn.toKey(isbn));
+            if (candidate != null) {
+                setPopularity(candidate, popularity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** prefix 로 시작하는 제목 중 인기도 상위 최대 limit 건 (limit 은 topN 까지) */
+    public List<Book> complete(String prefix, int limit) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("접두어가 필요합니다");
+        }
+        String key = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            List<Book> result = new ArrayList<>();
+            if (node == null) {
+                return result;
+            }
+            for (int i = 0; i < node.top.size() && i < limit; i++) {
+                result.add(node.top.get(i).book);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void setPopularity(Candidate candidate, long popularity) {
+        long previous = candidate.popularity;
+        candidate.popularity = popularity;
+        List<Node> path = path(candidate.key);
+        if (popularity >= previous) {
+            for (Node node : path) {
+                node.top.remove(candidate);
+                offer(node, candidate);
+            }
+        } else {
+            recompute(path);
+        }
+    }
+
+    private void unindex(Candidate candidate) {
+        candidates.remove(candidate.book.getIsbnKey());
+        List<Node> path = path(candidate.key);
+        path.get(path.size() - 1).terminal.remove(candidate);
+        recompute(path);
+    }
+
+    // 아래에서부터 자기 제목 + 자식들의 상위 목록을 합쳐 다시 계산한다
+    private void recompute(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            List<Candidate> merged = new ArrayList<>(node.terminal);
+            for (int c = 0; c < node.childCount; c++) {
+                merged.addAll(node.children[c].top);
+            }
+            merged.sort(RANKING);
+            node.top = new ArrayList<>(merged.subList(0, Math.min(topN, merged.size())));
+        }
+    }
+
+    private void offer(Node node, Candidate candidate) {
+        List<Candidate> top = node.top;
+        int index = 0;
+        while (index < top.size() && RANKING.compare(top.get(index), candidate) < 0) {
+            index++;
+        }
+        if (index < topN) {
+            top.add(index, candidate);
+            if (top.size() > topN) {
+                top.remove(top.size() - 1);
+            }
+        }
+    }
+
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i));
+            path.add(node);
+        }
+        return path;
+    }
+
+    private static String normalize(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = builder.length() > 0;
+            } else {
+                if (space) {
+                    builder.append(' ');
+                    space = false;
+                }
+                builder.append(c);
+            }
+        }
+        // 끝 공백은 유지해야 "클린 " 처럼 단어를 마친 접두어도 구분된다
+        if (space) {
+            builder.append(' ');
+        }
+        return builder.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Candidate {
+        private final Book book;
+        private final String key;
+        private long popularity;
+
+        private Candidate(Book book, String key, long popularity) {
+            this.book = book;
+            this.key = key;
+            this.popularity = popularity;
+        }
+    }
+
+    // 자식은 글자 순으로 정렬된 배열에 두고 이진 탐색한다
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private int childCount;
+        private List<Candidate> top = new ArrayList<>();
+        private final List<Candidate> terminal = new ArrayList<>(1);
+
+        private Node child(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char label) {
+            int index = Arrays.binarySearch(labels, 0, childCount, label);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            if (childCount == labels.length) {
+                int capacity = Math.max(2, childCount * 2);
+                labels = Arrays.copyOf(labels, capacity);
+                children = Arrays.copyOf(children, capacity);
+            }
+            System.arraycopy(labels, insertAt, labels, insertAt + 1, childCount - insertAt);
+            System.arraycopy(children, insertAt, children, insertAt + 1, childCount - insertAt);
+            Node created = new Node();
+            labels[insertAt] = label;
+            children[insertAt] = created;
+            childCount++;
+            return created;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * BorrowAnalytics 클래스
+ * ------------------------------
+ * - LibraryService.borrowBook 이벤트를 받아 기간(window)별 인기 도서 / 다대출 회원을 집계
+ * - 전체 대출 이력을 다시 읽지 않고, 고정 메모리 스트리밍 자료구조로 바로 답함
+ *   · Top-K      : SpaceSavingTopK (capacity 개 카운터)
+ *   · 임의 키 횟수 : CountMinSketch  (epsilon / delta)
+ * - 기간은 대출일(loanDate) 기준 windowDays 일 단위로 나누고, 월요일(1970-01-05)을 기준점으로 정렬
+ *   → windowDays = 7 이면 월~일 주간 통계
+ * - 최근 retainedWindows 개 기간만 보관하고, 그보다 오래된 대출 이벤트는 버림(droppedCount)
+ *
+ * 메모리 상한 (기간 1개당, 기간 수 × 2 종류)
+ *   capacity × (카운터 + 해시 항목) + depth × width × 8 byte
+ * 정확도는 SpaceSavingTopK, CountMinSketch 주석 참고
+ * File Path : library/analytics/BorrowAnalytics.java
+ */
+package com.example.library.analytics;
+
+import com.example.library.model.Loan;
+import com.example.library.service.LoanEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class BorrowAnalytics implements LoanEventListener {
+    private static final long WINDOW_ANCHOR_EPOCH_DAY = LocalDate.of(1970, 1, 5).toEpochDay(); // 월요일
+
+    private final int windowDays;
+    private final int retainedWindows;
+    private final int capacity;
+    private final double epsilon;
+    private final double delta;
+
+    private final TreeMap<Long, Window> windows = new TreeMap<>(); // 기간 번호 → 집계
+    private long droppedCount; // 보관 기간보다 오래되어 버린 이벤트 수
+
+    /**
+     * 주간(7일) 기간, 최근 8주 보관, 카운터 1,000개, 오차 0.1% / 확률 99%
+     */
+    public BorrowAnalytics() {
+        this(7, 8, 1_000, 0.001, 0.01);
+    }
+
+    /**
+     * @param windowDays      기간 1개의 일 수 (7 = 주간)
+     * @param retainedWindows 보관할 최근 기간 수
+     * @param capacity        Space-Saving 카운터 수 (Top-K 정확도)
+     * @param epsilon         Count-Min 허용 오차 비율
+     * @param delta           Count-Min 오차 한도 초과 확률
+     */
+    public BorrowAnalytics(int windowDays, int retainedWindows, int capacity, double epsilon, double delta) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("기간 일 수는 1 이상이어야 합니다");
+        }
+        if (retainedWindows <= 0) {
+            throw new IllegalArgumentException("보관 기간 수는 1 이상이어야 합니다");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다");
+        }
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon, delta 는 0과 1 사이여야 합니다");
+        }
+        this.windowDays = windowDays;
+        this.retainedWindows = retainedWindows;
+        this.capacity = capacity;
+        this.epsilon = epsilon;
+        this.delta = delta;
+    }
+
+    @Override
+    public void onBorrowed(Loan loan) {
+        record(loan.getBook().getIsbn(), loan.getMember().getMemberId(), loan.getLoanDate());
+    }
+
+    /**
+     * 대출 1건 기록
+     */
+    public synchronized void record(String isbn, String memberId, LocalDate loanDate) {
+        long windowId = windowOf(loanDate);
+        Window window = windows.get(windowId);
+        if (window == null) {
+            if (!windows.isEmpty() && windowId <= windows.lastKey() - retainedWindows) {
+                droppedCount++; // 이미 보관 범위를 벗어난 과거 기간
+                return;
+            }
+            window = new Window();
+            windows.put(windowId, window);
+            while (windows.size() > retainedWindows) {
+                windows.pollFirstEntry();
+            }
+        }
+        window.titles.add(isbn);
+        window.titleCounts.add(isbn, 1);
+        window.borrowers.add(memberId);
+        window.borrowerCounts.add(memberId, 1);
+    }
+
+    /**
+     * date 가 속한 기간의 대출 많은 도서(ISBN) 상위 k개
+     */
+    public synchronized List<HeavyHitter> topTitles(int k, LocalDate date) {
+        Window window = windows.get(windowOf(date));
+        return window == null ? List.of() : window.titles.top(k);
+    }
+
+    /**
+     * date 가 속한 기간의 대출 많은 회원 상위 k개
+     */
+    public synchronized List<HeavyHitter> topBorrowers(int k, LocalDate date) {
+        Window window = windows.get(windowOf(date));
+        return window == null ? List.of() : window.borrowers.top(k);
+    }
+
+    /**
+     * date 가 속한 기간의 특정 도서 대출 횟수 추정값 (실제 값 이상)
+     */
+    public synchronized long estimateTitleCount(String isbn, LocalDate date) {
+        Window window = windows.get(windowOf(date));
+        return window == null ? 0 : window.titleCounts.estimate(isbn);
+    }
+
+    /**
+     * date 가 속한 기간의 특정 회원 대출 횟수 추정값 (실제 값 이상)
+     */
+    public synchronized long estimateBorrowerCount(String memberId, LocalDate date) {
+        Window window = windows.get(windowOf(date));
+        return window == null ? 0 : window.borrowerCounts.estimate(memberId);
+    }
+
+    /**
+     * date 가 속한 기간의 시작일
+     */
+    public LocalDate windowStart(LocalDate date) {
+        return LocalDate.ofEpochDay(WINDOW_ANCHOR_EPOCH_DAY + windowOf(date) * windowDays);
+    }
+
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * 보관 중인 기간 시작일 → 해당 기간 누적 대출 수
+     */
+    public synchronized Map<LocalDate, Long> windowTotals() {
+        TreeMap<LocalDate, Long> totals = new TreeMap<>();
+        windows.forEach((id, window) -> totals.put(
+                LocalDate.ofEpochDay(WINDOW_ANCHOR_EPOCH_DAY + id * windowDays), window.titles.getTotalCount()));
+        return totals;
+    }
+
+    // ===== Private Helper Methods =====
+
+    private long windowOf(LocalDate date) {
+        return Math.floorDiv(date.toEpochDay() - WINDOW_ANCHOR_EPOCH_DAY, windowDays);
+    }
+
+    /** 기간 1개의 집계 자료구조 */
+    private final class Window {
+        private final SpaceSavingTopK titles = new SpaceSavingTopK(capacity);
+        private final CountMinSketch titleCounts = new CountMinSketch(epsilon, delta);
+        private final SpaceSavingTopK borrowers = new SpaceSavingTopK(capacity);
+        private final CountMinSketch borrowerCounts = new CountMinSketch(epsilon, delta);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * CountMinSketch 클래스
+ * ------------------------------
+ * - 고정 크기(depth × width) 카운터 표로 임의 키의 등장 횟수를 근사하는 스트리밍 자료구조
+ * - 메모리는 키 종류 수와 무관하게 depth × width × 8 byte 로 고정
+ *
+ * 정확도 보장 (Cormode & Muthukrishnan)
+ * - width = ⌈e / epsilon⌉, depth = ⌈ln(1 / delta)⌉ 로 만들면
+ * - 항상   estimate(key) ≥ 실제 횟수           (과소 추정 없음)
+ * - 확률 1 - delta 이상으로 estimate(key) ≤ 실제 횟수 + epsilon × N   (N = 전체 누적 횟수)
+ * - 키는 문자 전체를 64bit 로 해시한 뒤 행마다 다른 seed 로 다시 섞어 열을 고름
+ *   (String.hashCode 를 쓰면 32bit 가 같은 키끼리 모든 행에서 충돌해 행을 늘려도 오차가 줄지 않음)
+ * - 스레드 안전하지 않음 → 호출하는 쪽에서 동기화
+ * File Path : library/analytics/CountMinSketch.java
+ */
+package com.example.library.analytics;
+
+public class CountMinSketch {
+    private final int width;
+    private final int depth;
+    private final long[][] table;
+    private final long[] seeds;
+    private long totalCount; // 전체 누적 횟수 N
+
+    /**
+     * @param epsilon 허용 오차 비율 (0 < epsilon < 1), 작을수록 width 증가
+     * @param delta   오차 한도를 넘을 확률 (0 < delta < 1), 작을수록 depth 증가
+     */
+    public CountMinSketch(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1)) {
+            throw new IllegalArgumentException("epsilon 은 0과 1 사이여야 합니다");
+        }
+        if (!(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("delta 는 0과 1 사이여야 합니다");
+        }
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.table = new long[depth][width];
+        this.seeds = new long[depth];
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = mix(0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    /**
+     * 키의 등장 횟수를 count 만큼 증가
+     */
+    public void add(String key, long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("증가량은 0 이상이어야 합니다");
+        }
+        long hash = hash64(key);
+        for (int i = 0; i < depth; i++) {
+            table[i][index(hash, i)] += count;
+        }
+        totalCount += count;
+    }
+
+    /**
+     * 키의 등장 횟수 추정값 (실제 값 이상, 오차 한도는 클래스 주석 참고)
+     */
+    public long estimate(String key) {
+        long hash = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, table[i][index(hash, i)]);
+        }
+        return min;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 행마다 다른 seed 로 섞은 해시를 열 번호로 변환 */
+    private int index(long hash, int row) {
+        long h = mix(hash ^ seeds[row]);
+        return (int) ((h >>> 1) % width);
+    }
+
+    /** 키의 모든 문자를 64bit 로 누적 (FNV-1a) 한 뒤 비트 섞기 */
+    private static long hash64(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            h ^= key.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h ^ key.length());
+    }
+
+    /** 64bit 해시 비트 섞기 (MurmurHash3 fmix64) */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * HeavyHitter 클래스
+ * ------------------------------
+ * - Top-K 조회 결과 1건 (키, 추정 횟수, 최대 과대 추정 오차)
+ * - 실제 횟수는 항상 [count - error, count] 범위 안에 있음
+ * File Path : library/analytics/HeavyHitter.java
+ */
+package com.example.library.analytics;
+
+import java.util.Objects;
+
+public class HeavyHitter {
+    private final String key;   // ISBN 또는 회원 ID
+    private final long count;   // 추정 횟수 (실제 값 이상)
+    private final long error;   // 과대 추정될 수 있는 최대 크기
+
+    public HeavyHitter(String key, long count, long error) {
+        this.key = key;
+        this.count = count;
+        this.error = error;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getError() {
+        return error;
+    }
+
+    /**
+     * 실제 횟수의 하한 (count - error)
+     */
+    public long getGuaranteedCount() {
+        return count - error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HeavyHitter that = (HeavyHitter) o;
+        return count == that.count && error == that.error && Objects.equals(key, that.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, count, error);
+    }
+
+    @Override
+    public String toString() {
+        return key + "=" + count + "(±" + error + ")";
+    }
+}
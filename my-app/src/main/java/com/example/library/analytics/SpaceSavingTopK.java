@@ -0,0 +1,177 @@
+/**
+ * SpaceSavingTopK 클래스
+ * ------------------------------
+ * - Space-Saving 알고리즘(Metwally et al.)으로 자주 등장하는 키(heavy hitter)를 추적
+ * - 최대 capacity 개의 카운터만 유지 → 메모리는 키 종류 수와 무관하게 고정
+ * - 새 키가 들어왔는데 카운터가 가득 차 있으면 가장 작은 카운터를 넘겨받고,
+ *   넘겨받은 값(error)만큼 과대 추정될 수 있음을 함께 기록
+ *
+ * 정확도 보장 (N = 전체 누적 횟수, m = capacity)
+ * - 추적 중인 키: 실제 횟수 ∈ [count - error, count],  error ≤ N / m
+ * - 실제 횟수가 N / m 보다 큰 키는 반드시 추적 중
+ *
+ * - 카운터는 위치 색인이 있는 최소 힙으로 관리 → 갱신 O(log m), 최소 카운터 조회 O(1)
+ * - 스레드 안전하지 않음 → 호출하는 쪽에서 동기화
+ * File Path : library/analytics/SpaceSavingTopK.java
+ */
+package com.example.library.analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+public class SpaceSavingTopK {
+    private final int capacity;
+    private final String[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final int[] heap;      // 카운터 slot 번호로 구성된 최소 힙 (counts 기준)
+    private final int[] heapIndex; // slot → 힙 안의 위치
+    private final Map<String, Integer> slots; // 키 → slot 번호
+    private int size;
+    private long totalCount;
+
+    /**
+     * @param capacity 유지할 최대 카운터 수 (클수록 정확, 메모리 증가)
+     */
+    public SpaceSavingTopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("카운터 수는 1 이상이어야 합니다");
+        }
+        this.capacity = capacity;
+        this.keys = new String[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.heap = new int[capacity];
+        this.heapIndex = new int[capacity];
+        this.slots = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 키 1회 등장 기록
+     */
+    public void add(String key) {
+        totalCount++;
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            counts[slot]++;
+            siftDown(heapIndex[slot]);
+            return;
+        }
+        if (size < capacity) {
+            int newSlot = size++;
+            keys[newSlot] = key;
+            counts[newSlot] = 1;
+            errors[newSlot] = 0;
+            heap[newSlot] = newSlot;
+            heapIndex[newSlot] = newSlot;
+            slots.put(key, newSlot);
+            siftUp(newSlot);
+            return;
+        }
+        // 가장 작은 카운터를 새 키에 넘겨줌 (기존 값만큼 과대 추정될 수 있음)
+        int minSlot = heap[0];
+        slots.remove(keys[minSlot]);
+        keys[minSlot] = key;
+        errors[minSlot] = counts[minSlot];
+        counts[minSlot]++;
+        slots.put(key, minSlot);
+        siftDown(0);
+    }
+
+    /**
+     * 추정 횟수 상위 k개 (많은 순)
+     * - 크기 k 의 힙으로 선별하므로 O(m log k)
+     */
+    public List<HeavyHitter> top(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k 는 1 이상이어야 합니다");
+        }
+        PriorityQueue<Integer> best = new PriorityQueue<>(k, (a, b) -> Long.compare(counts[a], counts[b]));
+        for (int slot = 0; slot < size; slot++) {
+            if (best.size() < k) {
+                best.add(slot);
+            } else if (counts[slot] > counts[best.peek()]) {
+                best.poll();
+                best.add(slot);
+            }
+        }
+        List<HeavyHitter> result = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int slot = best.poll();
+            result.add(new HeavyHitter(keys[slot], counts[slot], errors[slot]));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    /**
+     * 추적 중인 키의 추정 횟수 (추적 중이 아니면 최소 카운터 값 = 가능한 최대 실제 횟수)
+     */
+    public long estimate(String key) {
+        Integer slot = slots.get(key);
+        if (slot != null) {
+            return counts[slot];
+        }
+        return size < capacity ? 0 : counts[heap[0]];
+    }
+
+    /**
+     * 현재 보장되는 최대 오차 (가장 작은 카운터 값, 항상 N / m 이하)
+     */
+    public long maxError() {
+        return size < capacity ? 0 : counts[heap[0]];
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // ===== Private Helper Methods (최소 힙) =====
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (counts[heap[i]] >= counts[heap[parent]]) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int smallest = left;
+            int right = left + 1;
+            if (right < size && counts[heap[right]] < counts[heap[left]]) {
+                smallest = right;
+            }
+            if (counts[heap[i]] <= counts[heap[smallest]]) {
+                return;
+            }
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int a = heap[i];
+        int b = heap[j];
+        heap[i] = b;
+        heap[j] = a;
+        heapIndex[b] = i;
+        heapIndex[a] = j;
+    }
+}
@@ -78,4 +78,14 @@ public class Book {
         }
         this.available = true; // 다시 대출 가능 상태로 변경
     }
+    
+    /**
+     * 대출 가능 여부를 실제 활성 대출 기준 값으로 복구할 때 호출 (정합성 복구용)
+     * - borrow()/returnBook() 과 달리 현재 상태를 검사하지 않음
+     *
+     * @param available 활성 대출 내역으로 다시 계산한 대출 가능 여부
+     */
+    public void restoreAvailability(boolean available) {
+        this.available = available;
+    }
 }
@@ -81,4 +81,18 @@ public class Member {
         }
         this.borrowedBooksCount--;
     }
+    
+    /**
+     * 대출 권수를 실제 활성 대출 기준 값으로 복구할 때 호출 (정합성 복구용)
+     * - 장애 등으로 어긋난 비정규화 값(borrowedBooksCount)을 바로잡는 용도
+     * - 음수면 예외 발생
+     *
+     * @param count 활성 대출 내역으로 다시 계산한 대출 권수
+     */
+    public void restoreBorrowedBooksCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("대출 권수는 0 이상이어야 합니다");
+        }
+        this.borrowedBooksCount = count;
+    }
 }
@@ -0,0 +1,298 @@
+/**
+ * ColdLoanSegment 클래스
+ * ------------------------------
+ * - 반납 완료된 대출(Loan) 묶음을 압축해 보관하는 불변(immutable) 세그먼트
+ * - 반납된 대출은 이력 화면/감사에서만 읽히므로 Loan 객체 대신 압축된 바이트로 보관
+ *
+ * 인코딩 방식
+ * - 회원 ID / ISBN 은 세그먼트별 사전(dictionary)에 한 번만 저장하고, 대출 기록은 사전 번호(varint)만 저장
+ * - 대출 기록은 회원별로 모아 대출일 순으로 정렬 → 대출일은 직전 기록과의 차이(delta, epoch day)로 저장
+ * - 반납일은 대출일과의 차이로 저장 → 대출 1건당 보통 3~5 byte
+ * - 회원 사전은 ID 순으로 정렬되어 있어 회원별 이력을 이진 탐색 + 해당 구간 디코딩만으로 조회
+ *
+ * - 디코딩한 Loan 의 Book/Member 는 세그먼트에 저장된 값으로 새로 만든 객체 (이력 조회 전용)
+ * - writeTo / readFrom 으로 디스크에 저장/복원 가능
+ * File Path : library/repository/ColdLoanSegment.java
+ */
+package com.example.library.repository;
+
+import com.example.library.model.Book;
+import com.example.library.model.Loan;
+import com.example.library.model.Member;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class ColdLoanSegment {
+    private static final int MAGIC = 0x434C5347; // "CLSG"
+
+    // 회원 사전 (ID 순 정렬)
+    private final String[] memberIds;
+    private final String[] memberNames;
+    private final int[] runOffsets; // 회원별 대출 기록이 시작하는 records 위치
+    private final int[] runCounts;  // 회원별 대출 기록 건수
+
+    // 도서 사전
+    private final String[] isbns;
+    private final String[] titles;
+    private final String[] authors;
+
+    private final byte[] records;   // varint 로 인코딩된 대출 기록
+    private final int loanCount;
+
+    private ColdLoanSegment(String[] memberIds, String[] memberNames, int[] runOffsets, int[] runCounts,
+                            String[] isbns, String[] titles, String[] authors, byte[] records) {
+        this.memberIds = memberIds;
+        this.memberNames = memberNames;
+        this.runOffsets = runOffsets;
+        this.runCounts = runCounts;
+        this.isbns = isbns;
+        this.titles = titles;
+        this.authors = authors;
+        this.records = records;
+        this.loanCount = Arrays.stream(runCounts).sum();
+    }
+
+    /**
+     * 반납 완료된 대출 목록으로 세그먼트 생성
+     * - 반납되지 않은 대출이 있으면 IllegalArgumentException 발생
+     *
+     * @param loans 반납 완료된 대출 목록 (1건 이상)
+     * @return 압축된 불변 세그먼트
+     */
+    public static ColdLoanSegment seal(List<Loan> loans) {
+        if (loans == null || loans.isEmpty()) {
+            throw new IllegalArgumentException("세그먼트에 담을 대출이 없습니다");
+        }
+        for (Loan loan : loans) {
+            if (!loan.isReturned()) {
+                throw new IllegalArgumentException("반납된 대출만 세그먼트에 담을 수 있습니다");
+            }
+        }
+
+        // 회원 ID 순 → 대출일 순으로 정렬
+        List<Loan> sorted = new ArrayList<>(loans);
+        sorted.sort(Comparator.comparing((Loan loan) -> loan.getMember().getMemberId())
+                .thenComparing(Loan::getLoanDate));
+
+        // 도서 사전
+        Map<String, Integer> isbnIndex = new HashMap<>();
+        List<Book> dictionaryBooks = new ArrayList<>();
+        for (Loan loan : sorted) {
+            if (isbnIndex.putIfAbsent(loan.getBook().getIsbn(), dictionaryBooks.size()) == null) {
+                dictionaryBooks.add(loan.getBook());
+            }
+        }
+
+        // 회원 사전 + 회원별 기록 구간
+        List<String> ids = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        VarIntWriter out = new VarIntWriter();
+        long previousEpochDay = 0;
+        for (Loan loan : sorted) {
+            Member member = loan.getMember();
+            boolean newRun = ids.isEmpty() || !ids.get(ids.size() - 1).equals(member.getMemberId());
+            if (newRun) {
+                ids.add(member.getMemberId());
+                names.add(member.getName());
+                offsets.add(out.size());
+                counts.add(0);
+                previousEpochDay = 0; // 구간 첫 기록은 절대값으로 저장
+            }
+            long loanEpochDay = loan.getLoanDate().toEpochDay();
+            out.writeSigned(loanEpochDay - previousEpochDay);
+            out.writeUnsigned(loan.getReturnDate().toEpochDay() - loanEpochDay);
+            out.writeUnsigned(isbnIndex.get(loan.getBook().getIsbn()));
+            previousEpochDay = loanEpochDay;
+            counts.set(counts.size() - 1, counts.get(counts.size() - 1) + 1);
+        }
+
+        String[] isbns = new String[dictionaryBooks.size()];
+        String[] titles = new String[dictionaryBooks.size()];
+        String[] authors = new String[dictionaryBooks.size()];
+        for (int i = 0; i < dictionaryBooks.size(); i++) {
+            Book book = dictionaryBooks.get(i);
+            isbns[i] = book.getIsbn();
+            titles[i] = book.getTitle();
+            authors[i] = book.getAuthor();
+        }
+        return new ColdLoanSegment(ids.toArray(new String[0]), names.toArray(new String[0]),
+                offsets.stream().mapToInt(Integer::intValue).toArray(),
+                counts.stream().mapToInt(Integer::intValue).toArray(),
+                isbns, titles, authors, out.toByteArray());
+    }
+
+    /**
+     * 특정 회원의 반납 완료 대출 이력 (대출일 순)
+     */
+    public List<Loan> findByMemberId(String memberId) {
+        int memberIndex = Arrays.binarySearch(memberIds, memberId);
+        if (memberIndex < 0) {
+            return Collections.emptyList();
+        }
+        Member member = new Member(memberIds[memberIndex], memberNames[memberIndex]);
+        Book[] books = new Book[isbns.length]; // 같은 도서는 같은 객체로 디코딩
+        List<Loan> result = new ArrayList<>(runCounts[memberIndex]);
+        int[] position = {runOffsets[memberIndex]};
+        long loanEpochDay = 0;
+        for (int i = 0; i < runCounts[memberIndex]; i++) {
+            loanEpochDay += readSigned(records, position);
+            long returnEpochDay = loanEpochDay + readUnsigned(records, position);
+            int isbnIndex = (int) readUnsigned(records, position);
+            if (books[isbnIndex] == null) {
+                books[isbnIndex] = new Book(titles[isbnIndex], authors[isbnIndex], isbns[isbnIndex]);
+            }
+            Loan loan = new Loan(books[isbnIndex], member, LocalDate.ofEpochDay(loanEpochDay));
+            loan.returnBook(LocalDate.ofEpochDay(returnEpochDay));
+            result.add(loan);
+        }
+        return result;
+    }
+
+    /**
+     * 이 세그먼트에 이력이 있는 회원인지 확인
+     */
+    public boolean containsMember(String memberId) {
+        return Arrays.binarySearch(memberIds, memberId) >= 0;
+    }
+
+    /**
+     * 세그먼트에 담긴 대출 건수
+     */
+    public int size() {
+        return loanCount;
+    }
+
+    /**
+     * 인코딩된 크기 (byte) : 대출 기록 + 사전 문자열(UTF-16 기준 추정)
+     * - Loan 객체로 보관할 때와 비교하여 절약량을 측정하는 데 사용
+     */
+    public long encodedBytes() {
+        long bytes = records.length + (long) runOffsets.length * Integer.BYTES * 2;
+        for (int i = 0; i < memberIds.length; i++) {
+            bytes += 2L * (memberIds[i].length() + memberNames[i].length());
+        }
+        for (int i = 0; i < isbns.length; i++) {
+            bytes += 2L * (isbns[i].length() + titles[i].length() + authors[i].length());
+        }
+        return bytes;
+    }
+
+    /**
+     * 세그먼트를 바이너리로 저장
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(memberIds.length);
+        for (int i = 0; i < memberIds.length; i++) {
+            out.writeUTF(memberIds[i]);
+            out.writeUTF(memberNames[i]);
+            out.writeInt(runOffsets[i]);
+            out.writeInt(runCounts[i]);
+        }
+        out.writeInt(isbns.length);
+        for (int i = 0; i < isbns.length; i++) {
+            out.writeUTF(isbns[i]);
+            out.writeUTF(titles[i]);
+            out.writeUTF(authors[i]);
+        }
+        out.writeInt(records.length);
+        out.write(records);
+    }
+
+    /**
+     * writeTo 로 저장한 세그먼트 복원
+     */
+    public static ColdLoanSegment readFrom(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("세그먼트 형식이 아닙니다");
+        }
+        int memberCount = in.readInt();
+        String[] memberIds = new String[memberCount];
+        String[] memberNames = new String[memberCount];
+        int[] runOffsets = new int[memberCount];
+        int[] runCounts = new int[memberCount];
+        for (int i = 0; i < memberCount; i++) {
+            memberIds[i] = in.readUTF();
+            memberNames[i] = in.readUTF();
+            runOffsets[i] = in.readInt();
+            runCounts[i] = in.readInt();
+        }
+        int bookCount = in.readInt();
+        String[] isbns = new String[bookCount];
+        String[] titles = new String[bookCount];
+        String[] authors = new String[bookCount];
+        for (int i = 0; i < bookCount; i++) {
+            isbns[i] = in.readUTF();
+            titles[i] = in.readUTF();
+            authors[i] = in.readUTF();
+        }
+        byte[] records = new byte[in.readInt()];
+        in.readFully(records);
+        return new ColdLoanSegment(memberIds, memberNames, runOffsets, runCounts, isbns, titles, authors, records);
+    }
+
+    /**
+     * 세그먼트에 이력이 있는 회원 ID 목록 (정렬된 사본)
+     */
+    String[] memberIds() {
+        return memberIds.clone();
+    }
+
+    // ===== Private Helper Methods (varint) =====
+
+    private static long readUnsigned(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static long readSigned(byte[] data, int[] position) {
+        long zigzag = readUnsigned(data, position);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    /** varint(LEB128) / zigzag 인코딩 버퍼 */
+    private static final class VarIntWriter {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.write((int) value);
+        }
+
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        int size() {
+            return buffer.size();
+        }
+
+        byte[] toByteArray() {
+            return buffer.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+/**
+ * TieredLoanRepository 클래스
+ * ------------------------------
+ * - 대출(Loan) 저장소를 hot / cold 두 계층으로 나누어 관리하는 LoanRepository 구현체
+ *   · hot  : 활성 대출 + 아직 세그먼트로 옮기지 않은 반납 대출 (Loan 객체 그대로 보관)
+ *   · cold : 반납 대출을 segmentSize 건씩 묶어 압축한 불변 ColdLoanSegment (메모리 또는 디스크)
+ * - 반납된 대출이 segmentSize 건 모이면 저장(save) 시점에 자동으로 cold 세그먼트로 이동
+ * - findByMember 는 cold 이력 + hot 대출을 합쳐 반환하므로 LibraryService.getMemberLoans 는 그대로 동작
+ * - 활성 대출 관련 조회(findActiveLoans, findActiveLoanByBookIsbn)는 hot 계층만 확인
+ *
+ * - spillDirectory 를 지정하면 세그먼트를 파일로 저장하고 메모리에는 회원 ID 사전만 유지
+ *   · 봉인은 쓰기 락 안에서 메모리로만 하고, 파일 쓰기는 락을 놓은 뒤 수행 (읽기가 디스크 I/O 를 기다리지 않음)
+ *   · 파일 쓰기에 실패하면 세그먼트를 메모리에 두고 다음 봉인 때 다시 시도 (save 는 실패하지 않음)
+ * - 읽기/쓰기는 ReadWriteLock 으로 보호
+ * File Path : library/repository/TieredLoanRepository.java
+ */
+package com.example.library.repository;
+
+import com.example.library.model.Loan;
+import com.example.library.model.Member;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class TieredLoanRepository implements LoanRepository {
+    public static final int DEFAULT_SEGMENT_SIZE = 4_096; // 세그먼트 1개에 담을 반납 대출 건수
+
+    private final int segmentSize;
+    private final Path spillDirectory; // null 이면 메모리에 세그먼트 보관
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // ===== hot 계층 =====
+    private final Set<Loan> activeLoans = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<String, Loan> activeByIsbn = new HashMap<>();
+    private final Map<String, Set<Loan>> hotByMember = new HashMap<>(); // 회원별 저장 순서 유지
+    private final Set<Loan> pendingReturned = new LinkedHashSet<>(); // cold 로 옮길 반납 대출
+
+    // ===== cold 계층 =====
+    private final List<SegmentHandle> segments = new ArrayList<>();
+    private long coldLoanCount;
+    private long coldEncodedBytes;
+    private long spillFailureCount;
+
+    public TieredLoanRepository() {
+        this(DEFAULT_SEGMENT_SIZE, null);
+    }
+
+    /**
+     * @param segmentSize    세그먼트 1개에 담을 반납 대출 건수 (1 이상)
+     * @param spillDirectory 세그먼트 파일을 저장할 디렉터리 (null 이면 메모리 보관)
+     */
+    public TieredLoanRepository(int segmentSize, Path spillDirectory) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("세그먼트 크기는 1 이상이어야 합니다");
+        }
+        this.segmentSize = segmentSize;
+        this.spillDirectory = spillDirectory;
+        if (spillDirectory != null) {
+            try {
+                Files.createDirectories(spillDirectory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("세그먼트 디렉터리를 만들 수 없습니다: " + spillDirectory, e);
+            }
+        }
+    }
+
+    @Override
+    public Loan save(Loan loan) {
+        List<SegmentHandle> toSpill;
+        lock.writeLock().lock();
+        try {
+            String memberId = loan.getMember().getMemberId();
+            String isbn = loan.getBook().getIsbn();
+            hotByMember.computeIfAbsent(memberId, id -> new LinkedHashSet<>()).add(loan); // Loan 은 equals 미정의 → 동일 객체 기준
+            if (!loan.isReturned()) {
+                activeLoans.add(loan);
+                activeByIsbn.put(isbn, loan);
+                return loan;
+            }
+
+            // 반납된 대출 → cold 이동 대기
+            activeLoans.remove(loan);
+            activeByIsbn.remove(isbn, loan);
+            pendingReturned.add(loan);
+            if (pendingReturned.size() < segmentSize) {
+                return loan;
+            }
+            sealPending();
+            toSpill = claimUnspilled();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        spill(toSpill);
+        return loan;
+    }
+
+    /**
+     * 회원의 전체 대출 이력 (cold 이력 → hot 대출 순)
+     */
+    @Override
+    public List<Loan> findByMember(Member member) {
+        lock.readLock().lock();
+        try {
+            List<Loan> result = new ArrayList<>();
+            for (SegmentHandle handle : segments) {
+                if (handle.containsMember(member.getMemberId())) {
+                    result.addAll(handle.load().findByMemberId(member.getMemberId()));
+                }
+            }
+            Set<Loan> hot = hotByMember.get(member.getMemberId());
+            if (hot != null) {
+                result.addAll(hot);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Loan> findActiveLoans() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(activeLoans);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Loan> findActiveLoanByBookIsbn(String isbn) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(activeByIsbn.get(isbn));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 반납 대출을 segmentSize 와 관계없이 즉시 cold 세그먼트로 이동
+     */
+    public void flush() {
+        List<SegmentHandle> toSpill;
+        lock.writeLock().lock();
+        try {
+            if (!pendingReturned.isEmpty()) {
+                sealPending();
+            }
+            toSpill = claimUnspilled();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        spill(toSpill);
+    }
+
+    // ===== 계층별 통계 (heap 절감량 측정용) =====
+
+    /** hot 계층의 Loan 객체 수 (활성 + cold 이동 대기) */
+    public int getHotLoanCount() {
+        lock.readLock().lock();
+        try {
+            return activeLoans.size() + pendingReturned.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** cold 세그먼트에 압축된 반납 대출 수 */
+    public long getColdLoanCount() {
+        lock.readLock().lock();
+        try {
+            return coldLoanCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getColdSegmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** cold 세그먼트 전체의 인코딩 크기 (byte) */
+    public long getColdEncodedBytes() {
+        lock.readLock().lock();
+        try {
+            return coldEncodedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 파일 저장에 실패해 메모리에 남겨 둔 횟수 */
+    public long getSpillFailureCount() {
+        lock.readLock().lock();
+        try {
+            return spillFailureCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 쓰기 락 안에서 호출 : 대기 중인 반납 대출을 메모리 세그먼트로 봉인하고 hot 계층에서 제거 */
+    private void sealPending() {
+        List<Loan> loans = new ArrayList<>(pendingReturned);
+        ColdLoanSegment segment = ColdLoanSegment.seal(loans);
+        Path file = spillDirectory == null
+                ? null
+                : spillDirectory.resolve(String.format("loan-segment-%06d.bin", segments.size()));
+        segments.add(new SegmentHandle(segment, file));
+        coldLoanCount += segment.size();
+        coldEncodedBytes += segment.encodedBytes();
+
+        for (Loan loan : loans) {
+            String memberId = loan.getMember().getMemberId();
+            Set<Loan> hot = hotByMember.get(memberId);
+            if (hot != null) {
+                hot.remove(loan);
+                if (hot.isEmpty()) {
+                    hotByMember.remove(memberId);
+                }
+            }
+        }
+        pendingReturned.clear();
+    }
+
+    /** 쓰기 락 안에서 호출 : 아직 파일로 옮기지 않은 세그먼트를 골라 다른 스레드가 함께 쓰지 않도록 표시 */
+    private List<SegmentHandle> claimUnspilled() {
+        List<SegmentHandle> claimed = new ArrayList<>();
+        for (SegmentHandle handle : segments) {
+            if (handle.segment != null && handle.file != null && !handle.spilling) {
+                handle.spilling = true;
+                claimed.add(handle);
+            }
+        }
+        return claimed;
+    }
+
+    /** 쓰기 락 밖에서 호출 : 세그먼트를 파일로 저장한 뒤에만 메모리 세그먼트를 회원 ID 사전으로 바꾼다 */
+    private void spill(List<SegmentHandle> handles) {
+        for (SegmentHandle handle : handles) {
+            boolean written;
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(handle.file)))) {
+                handle.segment.writeTo(out);
+                written = true;
+            } catch (IOException | UncheckedIOException e) {
+                written = false; // 메모리 세그먼트로 계속 조회하고 다음 봉인/flush 때 다시 시도
+            }
+            lock.writeLock().lock();
+            try {
+                handle.spilling = false;
+                if (written) {
+                    handle.memberIds = handle.segment.memberIds();
+                    handle.segment = null;
+                } else {
+                    spillFailureCount++;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /** 메모리 세그먼트 또는 디스크 세그먼트(파일 + 회원 ID 사전). 필드는 쓰기 락 안에서만 바꾼다 */
+    private static final class SegmentHandle {
+        private ColdLoanSegment segment; // 파일로 옮기면 null
+        private final Path file;         // null 이면 메모리에만 보관
+        private String[] memberIds;
+        private boolean spilling;
+
+        private SegmentHandle(ColdLoanSegment segment, Path file) {
+            this.segment = segment;
+            this.file = file;
+        }
+
+        private boolean containsMember(String memberId) {
+            return segment != null
+                    ? segment.containsMember(memberId)
+                    : Arrays.binarySearch(memberIds, memberId) >= 0;
+        }
+
+        private ColdLoanSegment load() {
+            if (segment != null) {
+                return segment;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                return ColdLoanSegment.readFrom(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("세그먼트를 읽을 수 없습니다: " + file, e);
+            }
+        }
+    }
+}
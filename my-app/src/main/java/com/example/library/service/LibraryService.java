@@ -11,6 +11,7 @@ import com.example.library.exception.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -21,9 +22,15 @@ import java.util.stream.Collectors;
  *   도서 대출 / 반납 / 연체 관리 / 연체료 계산 기능 제공
  */
 public class LibraryService {
+    // 대출/반납 요청 ID가 겹쳐도 서로의 결과를 돌려주지 않도록 구분
+    private static final String BORROW_REQUEST_PREFIX = "borrow:";
+    private static final String RETURN_REQUEST_PREFIX = "return:";
+    
     private final BookRepository bookRepository;     // 도서 저장소
     private final MemberRepository memberRepository; // 회원 저장소
     private final LoanRepository loanRepository;     // 대출 저장소
+    private final RequestDeduplicationCache requestCache; // 요청 ID 중복 제거 캐시
+    private final List<LoanEventListener> listeners = new CopyOnWriteArrayList<>(); // 대출/반납 이벤트 구독자
     
     /**
      * 생성자 주입 (Dependency Injection)
@@ -32,9 +39,32 @@ public class LibraryService {
     public LibraryService(BookRepository bookRepository, 
                          MemberRepository memberRepository, 
                          LoanRepository loanRepository) {
+        this(bookRepository, memberRepository, loanRepository, new RequestDeduplicationCache());
+    }
+    
+    /**
+     * 생성자 주입 (요청 ID 중복 제거 캐시 지정)
+     * - 캐시 크기/보관 기간을 조정하거나 테스트에서 시계를 고정할 때 사용
+     */
+    public LibraryService(BookRepository bookRepository, 
+                         MemberRepository memberRepository, 
+                         LoanRepository loanRepository,
+                         RequestDeduplicationCache requestCache) {
         this.bookRepository = bookRepository;
         this.memberRepository = memberRepository;
         this.loanRepository = loanRepository;
+        this.requestCache = requestCache;
+    }
+    
+    /**
+     * 대출/반납 이벤트 리스너 등록
+     * - 통계/분석 등 대출 흐름을 관찰하는 부가 기능 연결에 사용
+     */
+    public void addLoanEventListener(LoanEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("리스너는 필수입니다");
+        }
+        listeners.add(listener);
     }
     
     /**
@@ -61,7 +91,20 @@ public class LibraryService {
         bookRepository.save(book);
         memberRepository.save(member);
         
-        return loanRepository.save(loan);
+        Loan saved = loanRepository.save(loan);
+        notifyListeners(saved, true);
+        return saved;
+    }
+    
+    /**
+     * 요청 ID 기반 도서 대출 처리 (멱등성 보장)
+     * - 같은 requestId 로 재시도하면 검증/저장을 다시 하지 않고 최초 Loan 을 그대로 반환
+     * - 최초 요청이 예외로 끝났다면 재시도 시 다시 처리
+     */
+    public Loan borrowBook(String requestId, String isbn, String memberId, LocalDate loanDate) {
+        validateRequestId(requestId);
+        return requestCache.execute(BORROW_REQUEST_PREFIX + requestId,
+                () -> borrowBook(isbn, memberId, loanDate));
     }
     
     /**
@@ -83,9 +126,20 @@ public class LibraryService {
         bookRepository.save(loan.getBook());
         memberRepository.save(loan.getMember());
         
+        notifyListeners(loan, false);
         return loan;
     }
     
+    /**
+     * 요청 ID 기반 도서 반납 처리 (멱등성 보장)
+     * - 같은 requestId 로 재시도하면 최초 반납 처리된 Loan 을 그대로 반환
+     */
+    public Loan returnBook(String requestId, String isbn, LocalDate returnDate) {
+        validateRequestId(requestId);
+        return requestCache.execute(RETURN_REQUEST_PREFIX + requestId,
+                () -> returnBook(isbn, returnDate));
+    }
+    
     /**
      * 회원의 대출 이력 조회
      */
@@ -134,6 +188,32 @@ public class LibraryService {
                     "해당 도서의 활성 대출을 찾을 수 없습니다: " + isbn));
     }
     
+    /**
+     * 대출/반납 이벤트 전달
+     * - 리스너 오류가 이미 저장된 대출/반납 결과를 실패로 바꾸지 않도록 예외는 무시
+     *   (실패로 보이면 클라이언트가 재시도하여 중복 대출이 생길 수 있음)
+     */
+    private void notifyListeners(Loan loan, boolean borrowed) {
+        for (LoanEventListener listener : listeners) {
+            try {
+                if (borrowed) {
+                    listener.onBorrowed(loan);
+                } else {
+                    listener.onReturned(loan);
+                }
+            } catch (RuntimeException ignored) {
+                // 부가 기능(통계 등) 오류는 대출/반납 처리에 영향을 주지 않음
+            }
+        }
+    }
+    
+    /** 요청 ID 필수 값 검증 */
+    private void validateRequestId(String requestId) {
+        if (requestId == null || requestId.trim().isEmpty()) {
+            throw new IllegalArgumentException("요청 ID는 필수입니다");
+        }
+    }
+    
     /** 도서가 대출 가능한 상태인지 검증 */
     private void validateBookAvailable(Book book) {
         if (!book.isAvailable()) {
@@ -0,0 +1,31 @@
+/**
+ * LoanEventListener 인터페이스
+ * ------------------------------
+ * - LibraryService 에서 대출/반납이 성공적으로 저장된 직후 호출되는 콜백
+ * - 통계/분석처럼 대출 흐름을 관찰만 하는 부가 기능을 서비스 로직과 분리하기 위해 사용
+ * - 리스너는 호출한 스레드에서 바로 실행되므로 오래 걸리는 작업을 하면 안 됨
+ * - 리스너에서 발생한 예외는 LibraryService 가 무시하므로 대출/반납 결과에 영향을 주지 않음
+ * File Path : library/service/LoanEventListener.java
+ */
+package com.example.library.service;
+
+import com.example.library.model.Loan;
+
+public interface LoanEventListener {
+
+    /**
+     * 도서 대출 완료 후 호출
+     *
+     * @param loan 저장된 대출 정보
+     */
+    default void onBorrowed(Loan loan) {
+    }
+
+    /**
+     * 도서 반납 완료 후 호출
+     *
+     * @param loan 반납 처리된 대출 정보
+     */
+    default void onReturned(Loan loan) {
+    }
+}
@@ -0,0 +1,321 @@
+/**
+ * LoanReconciliationService 클래스
+ * ------------------------------
+ * - Member.borrowedBooksCount, Book.available 은 대출(Loan) 상태를 복사해 둔 비정규화 값
+ *   → 장애 등으로 어긋난(drift) 값을 활성 대출 기준으로 찾아내고, 선택적으로 복구
+ *
+ * 처리 순서
+ * 1. 활성 대출 스냅샷을 Fork/Join 으로 분할 집계 → 회원별 대출 권수, 도서별 활성 대출 수
+ * 2. 회원/도서 목록을 chunk 단위로 나누어 병렬 비교 → 불일치 후보 수집
+ * 3. 후보만 저장소의 현재 값으로 다시 확인 (스냅샷 이후 대출/반납된 건은 제외)
+ * 4. repair = true 이면 확인된 불일치만 복구 후 저장
+ *
+ * - 락을 잡지 않으므로 LibraryService 의 대출/반납을 막지 않음 (온라인 실행 가능)
+ * - 대신 3단계 재확인과 복구 사이에 들어온 쓰기와는 경합할 수 있으므로
+ *   복구는 "최선의 노력(best-effort)" 이며, 다음 실행에서 다시 검증됨
+ * File Path : library/service/LoanReconciliationService.java
+ */
+package com.example.library.service;
+
+import com.example.library.model.Book;
+import com.example.library.model.Loan;
+import com.example.library.model.Member;
+import com.example.library.repository.BookRepository;
+import com.example.library.repository.LoanRepository;
+import com.example.library.repository.MemberRepository;
+import com.example.library.service.ReconciliationReport.BookDrift;
+import com.example.library.service.ReconciliationReport.MemberDrift;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class LoanReconciliationService {
+    public static final int DEFAULT_CHUNK_SIZE = 50_000; // 병렬 작업 1개가 처리할 최대 건수
+
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public LoanReconciliationService(BookRepository bookRepository,
+                                     MemberRepository memberRepository,
+                                     LoanRepository loanRepository) {
+        this(bookRepository, memberRepository, loanRepository, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param pool      집계/비교 작업을 실행할 Fork/Join 풀
+     * @param chunkSize 작업 1개가 처리할 최대 건수 (1 이상)
+     */
+    public LoanReconciliationService(BookRepository bookRepository,
+                                     MemberRepository memberRepository,
+                                     LoanRepository loanRepository,
+                                     ForkJoinPool pool,
+                                     int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk 크기는 1 이상이어야 합니다");
+        }
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 정합성 검증 실행
+     *
+     * @param repair true 이면 확인된 불일치를 활성 대출 기준 값으로 복구
+     * @return 검증 결과 보고서
+     */
+    public ReconciliationReport reconcile(boolean repair) {
+        long startedAt = System.nanoTime();
+
+        // 1. 활성 대출 집계 (Fork/Join)
+        List<Loan> activeLoans = loanRepository.findActiveLoans();
+        LoanCounts expected = pool.invoke(new CountTask(activeLoans, 0, activeLoans.size()));
+
+        // 2. chunk 단위 병렬 비교
+        List<Member> members = memberRepository.findAll();
+        List<Book> books = bookRepository.findAll();
+        DiffResult<MemberCandidate> memberDiff =
+                pool.invoke(new MemberDiffTask(members, 0, members.size(), expected.byMember));
+        DiffResult<BookCandidate> bookDiff =
+                pool.invoke(new BookDiffTask(books, 0, books.size(), expected.byIsbn));
+
+        // 3~4. 후보 재확인 및 복구
+        List<MemberDrift> memberDrifts = new ArrayList<>();
+        List<BookDrift> bookDrifts = new ArrayList<>();
+        int repaired = 0;
+        for (MemberCandidate candidate : memberDiff.candidates) {
+            MemberDrift drift = confirmMember(candidate, repair);
+            if (drift != null) {
+                memberDrifts.add(drift);
+                repaired += drift.isRepaired() ? 1 : 0;
+            }
+        }
+        for (BookCandidate candidate : bookDiff.candidates) {
+            BookDrift drift = confirmBook(candidate, repair);
+            if (drift != null) {
+                bookDrifts.add(drift);
+                repaired += drift.isRepaired() ? 1 : 0;
+            }
+        }
+
+        // 저장소에서 찾은 회원/도서에 배정되지 않은 대출 = 고아(orphan) 대출
+        int orphanMemberLoans = activeLoans.size() - memberDiff.matchedLoans;
+        int orphanBookLoans = activeLoans.size() - bookDiff.matchedLoans;
+
+        return new ReconciliationReport(activeLoans.size(), members.size(), books.size(),
+                memberDrifts, bookDrifts, orphanMemberLoans, orphanBookLoans, repaired,
+                Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 회원 불일치 후보를 현재 대출 내역으로 다시 확인 (해소되었으면 null) */
+    private MemberDrift confirmMember(MemberCandidate candidate, boolean repair) {
+        Member member = candidate.member;
+        int recorded = member.getBorrowedBooksCount();
+        int expected = (int) loanRepository.findByMember(member).stream()
+                .filter(loan -> !loan.isReturned())
+                .count();
+        if (recorded == expected) {
+            return null; // 스냅샷 이후 대출/반납으로 이미 일치
+        }
+        if (repair) {
+            member.restoreBorrowedBooksCount(expected);
+            memberRepository.save(member);
+        }
+        return new MemberDrift(member.getMemberId(), recorded, expected, repair);
+    }
+
+    /** 도서 불일치 후보를 현재 활성 대출로 다시 확인 (해소되었으면 null) */
+    private BookDrift confirmBook(BookCandidate candidate, boolean repair) {
+        Book book = candidate.book;
+        boolean recordedAvailable = book.isAvailable();
+        boolean onLoan = loanRepository.findActiveLoanByBookIsbn(book.getIsbn()).isPresent();
+        boolean availabilityDrift = recordedAvailable == onLoan;
+        if (!availabilityDrift && candidate.activeLoans <= 1) {
+            return null;
+        }
+        // 중복 활성 대출(2건 이상)은 어떤 대출이 유효한지 알 수 없으므로 보고만 함
+        boolean repaired = repair && availabilityDrift;
+        if (repaired) {
+            book.restoreAvailability(!onLoan);
+            bookRepository.save(book);
+        }
+        return new BookDrift(book.getIsbn(), recordedAvailable, candidate.activeLoans, repaired);
+    }
+
+    /** 활성 대출 집계 결과 (회원ID → 대출 권수, ISBN → 활성 대출 수) */
+    private static final class LoanCounts {
+        private final Map<String, Integer> byMember;
+        private final Map<String, Integer> byIsbn;
+
+        private LoanCounts(Map<String, Integer> byMember, Map<String, Integer> byIsbn) {
+            this.byMember = byMember;
+            this.byIsbn = byIsbn;
+        }
+
+        /** 작은 쪽을 큰 쪽에 합쳐 복사량을 줄임 */
+        private LoanCounts merge(LoanCounts other) {
+            return new LoanCounts(mergeInto(byMember, other.byMember), mergeInto(byIsbn, other.byIsbn));
+        }
+
+        private static Map<String, Integer> mergeInto(Map<String, Integer> a, Map<String, Integer> b) {
+            Map<String, Integer> target = a.size() >= b.size() ? a : b;
+            Map<String, Integer> source = target == a ? b : a;
+            source.forEach((key, count) -> target.merge(key, count, Integer::sum));
+            return target;
+        }
+    }
+
+    /** 활성 대출 목록을 반으로 나누어 집계하는 Fork/Join 작업 */
+    private final class CountTask extends RecursiveTask<LoanCounts> {
+        private final List<Loan> loans;
+        private final int from;
+        private final int to;
+
+        private CountTask(List<Loan> loans, int from, int to) {
+            this.loans = loans;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LoanCounts compute() {
+            if (to - from <= chunkSize) {
+                Map<String, Integer> byMember = new HashMap<>();
+                Map<String, Integer> byIsbn = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    Loan loan = loans.get(i);
+                    byMember.merge(loan.getMember().getMemberId(), 1, Integer::sum);
+                    byIsbn.merge(loan.getBook().getIsbn(), 1, Integer::sum);
+                }
+                return new LoanCounts(byMember, byIsbn);
+            }
+            int mid = (from + to) >>> 1;
+            CountTask left = new CountTask(loans, from, mid);
+            left.fork();
+            LoanCounts right = new CountTask(loans, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /** chunk 비교 결과 (불일치 후보 + 찾은 회원/도서에 배정된 대출 건수) */
+    private static final class DiffResult<T> {
+        private final List<T> candidates;
+        private final int matchedLoans;
+
+        private DiffResult(List<T> candidates, int matchedLoans) {
+            this.candidates = candidates;
+            this.matchedLoans = matchedLoans;
+        }
+
+        private DiffResult<T> merge(DiffResult<T> other) {
+            List<T> merged = new ArrayList<>(candidates.size() + other.candidates.size());
+            merged.addAll(candidates);
+            merged.addAll(other.candidates);
+            return new DiffResult<>(merged, matchedLoans + other.matchedLoans);
+        }
+    }
+
+    private static final class MemberCandidate {
+        private final Member member;
+
+        private MemberCandidate(Member member) {
+            this.member = member;
+        }
+    }
+
+    private static final class BookCandidate {
+        private final Book book;
+        private final int activeLoans;
+
+        private BookCandidate(Book book, int activeLoans) {
+            this.book = book;
+            this.activeLoans = activeLoans;
+        }
+    }
+
+    /** 회원 목록을 chunk 단위로 나누어 기대 대출 권수와 비교 */
+    private final class MemberDiffTask extends RecursiveTask<DiffResult<MemberCandidate>> {
+        private final List<Member> members;
+        private final int from;
+        private final int to;
+        private final Map<String, Integer> expected;
+
+        private MemberDiffTask(List<Member> members, int from, int to, Map<String, Integer> expected) {
+            this.members = members;
+            this.from = from;
+            this.to = to;
+            this.expected = expected;
+        }
+
+        @Override
+        protected DiffResult<MemberCandidate> compute() {
+            if (to - from <= chunkSize) {
+                List<MemberCandidate> candidates = new ArrayList<>();
+                int matched = 0;
+                for (int i = from; i < to; i++) {
+                    Member member = members.get(i);
+                    int count = expected.getOrDefault(member.getMemberId(), 0);
+                    matched += count;
+                    if (member.getBorrowedBooksCount() != count) {
+                        candidates.add(new MemberCandidate(member));
+                    }
+                }
+                return new DiffResult<>(candidates, matched);
+            }
+            int mid = (from + to) >>> 1;
+            MemberDiffTask left = new MemberDiffTask(members, from, mid, expected);
+            left.fork();
+            DiffResult<MemberCandidate> right = new MemberDiffTask(members, mid, to, expected).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /** 도서 목록을 chunk 단위로 나누어 기대 대출 가능 여부와 비교 */
+    private final class BookDiffTask extends RecursiveTask<DiffResult<BookCandidate>> {
+        private final List<Book> books;
+        private final int from;
+        private final int to;
+        private final Map<String, Integer> expected;
+
+        private BookDiffTask(List<Book> books, int from, int to, Map<String, Integer> expected) {
+            this.books = books;
+            this.from = from;
+            this.to = to;
+            this.expected = expected;
+        }
+
+        @Override
+        protected DiffResult<BookCandidate> compute() {
+            if (to - from <= chunkSize) {
+                List<BookCandidate> candidates = new ArrayList<>();
+                int matched = 0;
+                for (int i = from; i < to; i++) {
+                    Book book = books.get(i);
+                    int activeLoans = expected.getOrDefault(book.getIsbn(), 0);
+                    matched += activeLoans;
+                    if (book.isAvailable() != (activeLoans == 0) || activeLoans > 1) {
+                        candidates.add(new BookCandidate(book, activeLoans));
+                    }
+                }
+                return new DiffResult<>(candidates, matched);
+            }
+            int mid = (from + to) >>> 1;
+            BookDiffTask left = new BookDiffTask(books, from, mid, expected);
+            left.fork();
+            DiffResult<BookCandidate> right = new BookDiffTask(books, mid, to, expected).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/**
+ * ReconciliationReport 클래스
+ * ------------------------------
+ * - LoanReconciliationService 실행 결과를 담는 불변 보고서
+ * - 회원 대출 권수(Member.borrowedBooksCount) 불일치 목록
+ * - 도서 대출 가능 여부(Book.available) 불일치 목록
+ * - 활성 대출은 있으나 저장소에 없는 회원/도서(orphan) 대출 건수, 복구 건수, 소요 시간
+ * File Path : library/service/ReconciliationReport.java
+ */
+package com.example.library.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+public class ReconciliationReport {
+    private final int activeLoanCount;     // 집계에 사용한 활성 대출 건수
+    private final int scannedMemberCount;  // 비교한 회원 수
+    private final int scannedBookCount;    // 비교한 도서 수
+    private final List<MemberDrift> memberDrifts;
+    private final List<BookDrift> bookDrifts;
+    private final int orphanMemberLoanCount; // 회원 저장소에서 회원을 찾을 수 없는 활성 대출 건수
+    private final int orphanBookLoanCount;   // 도서 저장소에서 도서를 찾을 수 없는 활성 대출 건수
+    private final int repairedCount;       // 실제로 복구한 회원 + 도서 수
+    private final Duration elapsed;
+
+    ReconciliationReport(int activeLoanCount, int scannedMemberCount, int scannedBookCount,
+                         List<MemberDrift> memberDrifts, List<BookDrift> bookDrifts,
+                         int orphanMemberLoanCount, int orphanBookLoanCount,
+                         int repairedCount, Duration elapsed) {
+        this.activeLoanCount = activeLoanCount;
+        this.scannedMemberCount = scannedMemberCount;
+        this.scannedBookCount = scannedBookCount;
+        this.memberDrifts = Collections.unmodifiableList(memberDrifts);
+        this.bookDrifts = Collections.unmodifiableList(bookDrifts);
+        this.orphanMemberLoanCount = orphanMemberLoanCount;
+        this.orphanBookLoanCount = orphanBookLoanCount;
+        this.repairedCount = repairedCount;
+        this.elapsed = elapsed;
+    }
+
+    // ===== Getter 메서드 =====
+    public int getActiveLoanCount() {
+        return activeLoanCount;
+    }
+
+    public int getScannedMemberCount() {
+        return scannedMemberCount;
+    }
+
+    public int getScannedBookCount() {
+        return scannedBookCount;
+    }
+
+    public List<MemberDrift> getMemberDrifts() {
+        return memberDrifts;
+    }
+
+    public List<BookDrift> getBookDrifts() {
+        return bookDrifts;
+    }
+
+    public int getOrphanMemberLoanCount() {
+        return orphanMemberLoanCount;
+    }
+
+    public int getOrphanBookLoanCount() {
+        return orphanBookLoanCount;
+    }
+
+    public int getRepairedCount() {
+        return repairedCount;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * 불일치가 하나도 없으면 true
+     */
+    public boolean isConsistent() {
+        return memberDrifts.isEmpty() && bookDrifts.isEmpty()
+                && orphanMemberLoanCount == 0 && orphanBookLoanCount == 0;
+    }
+
+    /**
+     * 회원 대출 권수 불일치 1건
+     * - recorded: Member 에 저장된 값 / expected: 활성 대출로 다시 계산한 값
+     */
+    public static class MemberDrift {
+        private final String memberId;
+        private final int recorded;
+        private final int expected;
+        private final boolean repaired;
+
+        MemberDrift(String memberId, int recorded, int expected, boolean repaired) {
+            this.memberId = memberId;
+            this.recorded = recorded;
+            this.expected = expected;
+            this.repaired = repaired;
+        }
+
+        public String getMemberId() { return memberId; }
+        public int getRecorded() { return recorded; }
+        public int getExpected() { return expected; }
+        public boolean isRepaired() { return repaired; }
+
+        @Override
+        public String toString() {
+            return "MemberDrift{" + memberId + ", recorded=" + recorded + ", expected=" + expected
+                    + ", repaired=" + repaired + "}";
+        }
+    }
+
+    /**
+     * 도서 대출 가능 여부 불일치 1건
+     * - activeLoans: 해당 도서의 활성 대출 건수 (2 이상이면 중복 대출)
+     */
+    public static class BookDrift {
+        private final String isbn;
+        private final boolean recordedAvailable;
+        private final int activeLoans;
+        private final boolean repaired;
+
+        BookDrift(String isbn, boolean recordedAvailable, int activeLoans, boolean repaired) {
+            this.isbn = isbn;
+            this.recordedAvailable = recordedAvailable;
+            this.activeLoans = activeLoans;
+            this.repaired = repaired;
+        }
+
+        public String getIsbn() { return isbn; }
+        public boolean isRecordedAvailable() { return recordedAvailable; }
+        public int getActiveLoans() { return activeLoans; }
+        public boolean isExpectedAvailable() { return activeLoans == 0; }
+        public boolean isRepaired() { return repaired; }
+
+        @Override
+        public String toString() {
+            return "BookDrift{" + isbn + ", recordedAvailable=" + recordedAvailable
+                    + ", activeLoans=" + activeLoans + ", repaired=" + repaired + "}";
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/**
+ * RequestDeduplicationCache 클래스
+ * ------------------------------
+ * - 클라이언트 재시도(retry)로 같은 요청이 다시 들어왔을 때
+ *   최초 처리 결과(Loan)를 그대로 돌려주기 위한 요청 ID 기반 중복 제거 캐시
+ * - 최대 보관 건수(maxEntries)를 넘으면 처리가 끝난 항목 중 가장 오래된 항목부터 제거 (bounded)
+ * - 보관 기간(ttl)이 지난 항목은 조회 시 만료 처리 (time-expiring)
+ * - 처리 중인 항목은 한도/보관 기간과 관계없이 남겨 두므로 처리 중인 요청이 많으면 잠시 한도를 넘을 수 있음
+ * - 처리 중인 요청에 같은 ID가 다시 들어오면 최초 처리가 끝날 때까지 기다렸다가 같은 결과를 반환
+ * - 최초 처리가 예외로 끝나면 항목을 남기지 않으므로 재시도 시 다시 처리됨
+ * File Path : library/service/RequestDeduplicationCache.java
+ */
+package com.example.library.service;
+
+import com.example.library.model.Loan;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+public class RequestDeduplicationCache {
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;             // 기본 최대 보관 건수
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10); // 기본 보관 기간
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // 삽입 순서를 유지하므로 가장 앞의 항목이 가장 오래된 항목
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public RequestDeduplicationCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_TTL, Clock.systemUTC());
+    }
+
+    /**
+     * @param maxEntries 최대 보관 건수 (1 이상)
+     * @param ttl        결과 보관 기간 (0보다 커야 함)
+     * @param clock      만료 판단에 사용할 시계 (테스트에서 고정 시계 주입 가능)
+     */
+    public RequestDeduplicationCache(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("최대 보관 건수는 1 이상이어야 합니다");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("보관 기간은 0보다 커야 합니다");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("시계는 필수입니다");
+        }
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * 요청 ID 기준으로 한 번만 action 을 실행
+     * - 같은 ID의 유효한 결과가 있으면 action 을 실행하지 않고 기존 결과 반환
+     * - 같은 ID가 처리 중이면 처리 완료를 기다린 뒤 같은 결과 반환
+     *
+     * @param requestId 클라이언트가 보낸 요청 ID
+     * @param action    최초 요청일 때만 실행할 작업
+     * @return 최초 실행 결과
+     */
+    public Loan execute(String requestId, Supplier<Loan> action) {
+        if (requestId == null || requestId.trim().isEmpty()) {
+            throw new IllegalArgumentException("요청 ID는 필수입니다");
+        }
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            Instant now = clock.instant();
+            entry = entries.get(requestId);
+            if (entry != null && entry.isDone() && entry.isExpired(now)) {
+                entries.remove(requestId);
+                entry = null;
+            }
+            if (entry == null) {
+                entry = new Entry(now.plus(ttl));
+                entries.put(requestId, entry);
+                owner = true;
+                evict(now);
+            }
+        }
+
+        if (!owner) {
+            return await(entry);
+        }
+
+        try {
+            Loan result = action.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            // 실패한 요청은 기록하지 않음 → 재시도 시 다시 처리
+            synchronized (entries) {
+                entries.remove(requestId, entry);
+            }
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 보관 중인 항목 수 (만료되었지만 아직 정리되지 않은 항목 포함)
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 만료된 항목과 한도를 넘는 가장 오래된 항목 제거 (처리 중인 항목은 기다리는 재시도가 있을 수 있어 건너뜀) */
+    private void evict(Instant now) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            Entry eldest = it.next();
+            if (!eldest.isDone()) {
+                continue;
+            }
+            if (entries.size() > maxEntries || eldest.isExpired(now)) {
+                it.remove();
+            } else {
+                break; // 삽입 순서 = 만료 순서이므로 더 볼 필요 없음
+            }
+        }
+    }
+
+    /** 처리 중인 최초 요청의 결과를 기다림 (예외는 원래 예외 그대로 전달) */
+    private Loan await(Entry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /** 요청 ID 하나에 대한 처리 결과와 만료 시각 */
+    private static final class Entry {
+        private final CompletableFuture<Loan> result = new CompletableFuture<>();
+        private final Instant expiresAt;
+
+        private Entry(Instant expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isDone() {
+            return result.isDone();
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.books;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("저자 사전 힙 사용량 비교")
+class AuthorDictionaryHeapBenchmarkTest {
+
+    private static final int BOOKS = 5_000_000;
+    private static final int AUTHORS = BOOKS / 50;
+    private static final String TITLE = "도서"; // 제목은 양쪽이 같도록 공유한다
+
+    @Test
+    @DisplayName("500만 권에서 저자명을 공유할 때 줄어드는 힙을 잰다")
+    void measureHeapSavings() {
+        // given
+        long baseline = usedHeap();
+
+        // when
+        Book[] plain = new Book[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            plain[i] = new Book(isbn(i + 1), TITLE, "저자 " + (i % AUTHORS));
+        }
+        long plainBytes = usedHeap() - baseline;
+        plain = null;
+
+        baseline = usedHeap();
+        AuthorDictionary authors = new AuthorDictionary();
+        Book[] shared = new Book[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            shared[i] = new Book(isbn(i + 1), TITLE, "저자 " + (i % AUTHORS), authors);
+        }
+        long sharedBytes = usedHeap() - baseline;
+
+        // then
+        System.out.printf("%,d권, 저자 %,d명: 저자명 개별 %,dMB, 사전 공유 %,dMB (%,dMB 절약)%n",
+            BOOKS, authors.size(), plainBytes >> 20, sharedBytes >> 20, (plainBytes - sharedBytes) >> 20);
+        assertThat(shared[BOOKS - 1].getAuthor()).isSameAs(shared[BOOKS - 1 - AUTHORS].getAuthor());
+        assertThat(sharedBytes).isLessThan(plainBytes);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
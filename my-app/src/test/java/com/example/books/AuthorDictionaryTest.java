@@ -0,0 +1,111 @@
+package com.example.books;
+
+import com.example.books.repository.InMemoryBookRepository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AuthorDictionary 테스트")
+class AuthorDictionaryTest {
+
+    @Test
+    @DisplayName("같은 저자명은 같은 번호와 같은 인스턴스를 돌려준다")
+    void assignsStableIdsAndCanonicalNames() {
+        // given
+        AuthorDictionary authors = new AuthorDictionary();
+        String first = new String("로버트 마틴");
+        String second = new String("로버트 마틴");
+
+        // when
+        int id = authors.idOf(first);
+
+        // then
+        assertThat(authors.idOf(second)).isEqualTo(id);
+        assertThat(authors.idOf("마틴 파울러")).isEqualTo(id + 1);
+        assertThat(authors.canonical(second)).isSameAs(first);
+        assertThat(authors.find("켄트 벡")).isEqualTo(AuthorDictionary.UNKNOWN);
+        assertThat(authors.size()).isEqualTo(2);
+        assertThatThrownBy(() -> authors.nameOf(99)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("사전으로 만든 도서는 저자 번호와 공유 저자명을 가진다")
+    void bookUsesDictionary() {
+        // given
+        AuthorDictionary authors = new AuthorDictionary();
+
+        // when
+        Book cleanCode = new Book("978-1234567897", "클린 코드", new String("로버트 마틴"), authors);
+        Book cleanArchitecture = new Book("978-0987654328", "클린 아키텍처", new String("로버트 마틴"), authors);
+        Book plain = new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크");
+
+        // then
+        assertThat(cleanCode.getAuthorId()).isEqualTo(cleanArchitecture.getAuthorId());
+        assertThat(cleanCode.getAuthor()).isSameAs(cleanArchitecture.getAuthor());
+        assertThat(plain.getAuthorId()).isEqualTo(AuthorDictionary.UNKNOWN);
+        assertThat(authors.intern(cleanCode)).isSameAs(cleanCode);
+        assertThat(authors.intern(plain).getAuthorId()).isEqualTo(authors.find("조슈아 블로크"));
+    }
+
+    @Test
+    @DisplayName("저장소는 저자명을 공유 인스턴스로 바꿔 저장하고 정확한 저자 검색은 번호로 비교한다")
+    void repositorySharesAuthorNames() {
+        // given
+        InMemoryBookRepository repository = new InMemoryBookRepository();
+        repository.save(new Book("978-1234567897", "클린 코드", new String("로버트 마틴")));
+        repository.save(new Book("978-0987654328", "클린 아키텍처", new String("로버트 마틴")));
+        repository.save(new Book("978-0000000002", "Refactoring", "Robert Martin Jr."));
+
+        // when
+        List<Book> exact = repository.findByAuthorExact("로버트 마틴");
+
+        // then
+        assertThat(exact).extracting("isbn").containsExactlyInAnyOrder("978-1234567897", "978-0987654328");
+        assertThat(exact.get(0).getAuthor()).isSameAs(exact.get(1).getAuthor());
+        assertThat(repository.findByAuthorExact("Robert Martin")).isEmpty();
+        assertThat(repository.findByAuthorExact("없는 저자")).isEmpty();
+        assertThat(repository.getAuthorDictionary().size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 등록해도 저자마다 번호는 하나다")
+    void concurrentAssignment() throws Exception {
+        // given
+        AuthorDictionary authors = new AuthorDictionary();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<int[]>> results = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                int[] ids = new int[1_000];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = authors.idOf("저자 " + i);
+                }
+                return ids;
+            }));
+        }
+        List<int[]> ids = new ArrayList<>();
+        for (Future<int[]> result : results) {
+            ids.add(result.get());
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(authors.size()).isEqualTo(1_000);
+        for (int[] each : ids) {
+            assertThat(each).isEqualTo(ids.get(0));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(authors.nameOf(ids.get(0)[i])).isEqualTo("저자 " + i);
+        }
+    }
+}
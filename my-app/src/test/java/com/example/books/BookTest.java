@@ -14,7 +14,7 @@ class BookTest {
     @DisplayName("유효한 정보로 도서를 생성할 수 있다")
     void createBookWithValidInfo() {
         // given
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         String title = "클린 코드";
         String author = "로버트 마틴";
         
@@ -35,6 +35,17 @@ class BookTest {
          .hasMessage("유효하지 않은 ISBN입니다");
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"978-1234567890", "0123456788", "9771234567898", "978-12345678X7"})
+    @DisplayName("체크 숫자가 틀린 ISBN으로 도서 생성 시 예외가 발생한다")
+    void createBookWithWrongCheckDigit(String invalidIsbn) {
+        // when & then
+        assertThatThrownBy(() -> 
+            new Book(invalidIsbn, "제목", "저자")
+        ).isInstanceOf(IllegalArgumentException.class)
+         .hasMessage("유효하지 않은 ISBN입니다");
+    }
+
     @Test
     @DisplayName("null 값으로 도서 생성 시 예외가 발생한다")
     void createBookWithNullValues() {
@@ -43,11 +54,11 @@ class BookTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("ISBN은 필수입니다");
             
-        assertThatThrownBy(() -> new Book("9781234567890", null, "저자"))
+        assertThatThrownBy(() -> new Book("9781234567897", null, "저자"))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("제목은 필수입니다");
             
-        assertThatThrownBy(() -> new Book("9781234567890", "제목", null))
+        assertThatThrownBy(() -> new Book("9781234567897", "제목", null))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("저자는 필수입니다");
     }
@@ -56,7 +67,7 @@ class BookTest {
     @DisplayName("빈 문자열로 도서 생성 시 예외가 발생한다")
     void createBookWithEmptyValues() {
         // when & then
-        assertThatThrownBy(() -> new Book("9781234567890", "", "저자"))
+        assertThatThrownBy(() -> new Book("9781234567897", "", "저자"))
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("제목은 필수입니다");
     }
@@ -65,7 +76,7 @@ class BookTest {
     @DisplayName("도서 정보를 정확히 반환한다")
     void getBookInfo() {
         // given
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         String title = "클린 코드";
         String author = "로버트 마틴";
         Book book = new Book(isbn, title, author);
@@ -80,9 +91,9 @@ class BookTest {
     @DisplayName("동일한 ISBN을 가진 도서는 같은 객체로 판단한다")
     void equalsAndHashCode() {
         // given
-        Book book1 = new Book("978-1234567890", "클린 코드", "로버트 마틴");
-        Book book2 = new Book("978-1234567890", "다른 제목", "다른 저자");
-        Book book3 = new Book("978-0987654321", "클린 코드", "로버트 마틴");
+        Book book1 = new Book("978-1234567897", "클린 코드", "로버트 마틴");
+        Book book2 = new Book("978-1234567897", "다른 제목", "다른 저자");
+        Book book3 = new Book("978-0987654328", "클린 코드", "로버트 마틴");
         
         // when & then
         assertThat(book1).isEqualTo(book2);
@@ -90,6 +101,21 @@ class BookTest {
         assertThat(book1.hashCode()).isEqualTo(book2.hashCode());
     }
     
+    @Test
+    @DisplayName("표기만 다른 ISBN-10, ISBN-13 도서는 같은 도서로 판단한다")
+    void equalsAcrossIsbnForms() {
+        // given
+        Book hyphenated = new Book("978-89-6626-262-5", "클린 코드", "로버트 마틴");
+        Book compact = new Book("9788966262625", "클린 코드", "로버트 마틴");
+        Book isbn10 = new Book("89-6626-262-7", "클린 코드", "로버트 마틴");
+        
+        // when & then
+        assertThat(hyphenated).isEqualTo(compact).isEqualTo(isbn10);
+        assertThat(hyphenated.hashCode()).isEqualTo(isbn10.hashCode());
+        assertThat(isbn10.getIsbnKey()).isEqualTo(9788966262625L);
+        assertThat(isbn10.getIsbn()).isEqualTo("89-6626-262-7");
+    }
+    
     @Test
     @DisplayName("유효한 ISBN-10 형식을 허용한다")
     void createBookWithValidIsbn10() {
@@ -106,7 +132,7 @@ class BookTest {
     @DisplayName("유효한 ISBN-13 형식을 허용한다")
     void createBookWithValidIsbn13() {
         // given
-        String isbn13 = "9781234567890";
+        String isbn13 = "9781234567897";
         
         // when & then
         assertThatNoException().isThrownBy(() -> 
@@ -118,7 +144,7 @@ class BookTest {
     @DisplayName("하이픈이 포함된 ISBN을 허용한다")
     void createBookWithHyphenatedIsbn() {
         // given
-        String isbnWithHyphens = "978-1-234-56789-0";
+        String isbnWithHyphens = "978-1-234-56789-7";
         
         // when & then
         assertThatNoException().isThrownBy(() -> 
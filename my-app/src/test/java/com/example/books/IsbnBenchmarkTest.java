@@ -0,0 +1,62 @@
+package com.example.books;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("ISBN 검증 성능 비교")
+class IsbnBenchmarkTest {
+
+    private static final int CONSTRUCTIONS = 10_000_000;
+    private static final String[] ISBNS = {"978-1234567897", "9780987654328", "0-8044-2957-X", "979-10-90000-00-1"};
+
+    @Test
+    @DisplayName("정규식 검증과 단일 순회 검증(도서 생성 포함) 시간을 비교한다")
+    void compareWithRegexValidation() {
+        // given: 워밍업
+        run(CONSTRUCTIONS / 10, true);
+        run(CONSTRUCTIONS / 10, false);
+
+        // when
+        long regex = run(CONSTRUCTIONS, true);
+        long singlePass = run(CONSTRUCTIONS, false);
+
+        // then
+        System.out.printf("%,d회 생성: 정규식 %dms, 단일 순회 %dms (%.1f배)%n",
+            CONSTRUCTIONS, regex / 1_000_000, singlePass / 1_000_000, (double) regex / singlePass);
+        assertThat(singlePass).isLessThan(regex);
+    }
+
+    private static long run(int count, boolean regex) {
+        long started = System.nanoTime();
+        int valid = 0;
+        for (int i = 0; i < count; i++) {
+            String isbn = ISBNS[i & 3];
+            if (regex) {
+                valid += legacyIsValid(isbn) ? 1 : 0;
+            } else {
+                valid += new Book(isbn, "클린 코드", "로버트 마틴").getIsbn().length() > 0 ? 1 : 0;
+            }
+        }
+        assertThat(valid).isEqualTo(count);
+        return System.nanoTime() - started;
+    }
+
+    // 변경 전 Book.validateIsbn 의 검증 방식 (체크 숫자 미검증)
+    private static boolean legacyIsValid(String isbn) {
+        String cleanIsbn = isbn.replaceAll("[^0-9X]", "");
+        if (cleanIsbn.length() != 10 && cleanIsbn.length() != 13) {
+            return false;
+        }
+        if (cleanIsbn.length() == 13 && !cleanIsbn.startsWith("978") && !cleanIsbn.startsWith("979")) {
+            return false;
+        }
+        return cleanIsbn.matches("^[0-9]{9}[0-9X]$") || cleanIsbn.matches("^[0-9]{13}$");
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.books;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Isbn 검증 테스트")
+class IsbnTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"9781234567897", "978-1234567897", "978 1 234 56789 7", "979-10-90000-00-1",
+        "0123456789", "080442957X", "0-8044-2957-X"})
+    @DisplayName("형식과 체크 숫자가 올바른 ISBN을 허용한다")
+    void acceptsValidIsbn(String isbn) {
+        assertThat(Isbn.isValid(isbn)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "-", "9781234567890", "0123456780", "9771234567898", "X123456789",
+        "08044295X7", "0804429571X", "978123456789", "97812345678970", "978_1234567897", "ISBN 9781234567897",
+        "978-12345678９7"})
+    @DisplayName("형식이나 체크 숫자가 틀린 ISBN을 거부한다")
+    void rejectsInvalidIsbn(String isbn) {
+        assertThat(Isbn.isValid(isbn)).isFalse();
+    }
+
+    @Test
+    @DisplayName("null 은 유효하지 않다")
+    void rejectsNull() {
+        assertThat(Isbn.isValid(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("구분자를 제거한 정규 형식을 반환한다")
+    void normalize() {
+        assertThat(Isbn.normalize("978-1-234-56789-7")).isEqualTo("9781234567897");
+        assertThat(Isbn.normalize("0 8044 2957 X")).isEqualTo("080442957X");
+        assertThatThrownBy(() -> Isbn.normalize("978-1234567890"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("유효하지 않은 ISBN입니다");
+    }
+
+    @Test
+    @DisplayName("표기 방식과 관계없이 같은 ISBN-13 숫자 키를 만든다")
+    void toKey() {
+        assertThat(Isbn.toKey("978-89-6626-262-5")).isEqualTo(9788966262625L);
+        assertThat(Isbn.toKey("9788966262625")).isEqualTo(9788966262625L);
+        assertThat(Isbn.toKey("89-6626-262-7")).isEqualTo(9788966262625L);
+        assertThat(Isbn.toKey("080442957X")).isEqualTo(9780804429573L);
+        assertThat(Isbn.toKey("979-10-90000-00-1")).isEqualTo(9791090000001L);
+        assertThat(Isbn.toKey("978-89-6626-262-3")).isEqualTo(-1L);
+        assertThat(Isbn.toKey(null)).isEqualTo(-1L);
+    }
+}
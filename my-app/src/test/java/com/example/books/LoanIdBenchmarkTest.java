@@ -0,0 +1,65 @@
+package com.example.books;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("대출 ID 생성 성능 비교")
+class LoanIdBenchmarkTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 1_000_000;
+
+    @Test
+    @DisplayName("여러 스레드에서 UUID.randomUUID 와 시간 순 ID 생성 시간을 비교한다")
+    void compareWithRandomUuid() throws Exception {
+        // given: 워밍업
+        TimeOrderedLoanIdGenerator generator = new TimeOrderedLoanIdGenerator();
+        run(() -> UUID.randomUUID().toString(), IDS_PER_THREAD / 10);
+        run(generator::nextId, IDS_PER_THREAD / 10);
+
+        // when
+        long uuid = run(() -> UUID.randomUUID().toString(), IDS_PER_THREAD);
+        long timeOrdered = run(generator::nextId, IDS_PER_THREAD);
+
+        // then
+        System.out.printf("%d스레드 × %,d개: UUID %dms, 시간 순 ID %dms (%.1f배)%n",
+            THREADS, IDS_PER_THREAD, uuid / 1_000_000, timeOrdered / 1_000_000, (double) uuid / timeOrdered);
+        assertThat(timeOrdered).isLessThan(uuid);
+    }
+
+    private static long run(Supplier<String> ids, int perThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<Integer>> futures = new ArrayList<>();
+        long started = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                int length = 0;
+                for (int i = 0; i < perThread; i++) {
+                    length += ids.get().length();
+                }
+                return length;
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            assertThat(future.get()).isPositive();
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+        return elapsed;
+    }
+}
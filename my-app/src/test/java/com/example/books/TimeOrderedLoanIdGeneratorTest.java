@@ -0,0 +1,168 @@
+package com.example.books;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TimeOrderedLoanIdGenerator 테스트")
+class TimeOrderedLoanIdGeneratorTest {
+
+    private static final long NOW = 1_740_787_200_000L; // 2025-03-01T00:00:00Z
+
+    @Test
+    @DisplayName("13자리 Base32 문자열을 만들고 생성 시각을 복원할 수 있다")
+    void encodesCompactTimeOrderedId() {
+        // given
+        TimeOrderedLoanIdGenerator generator = new TimeOrderedLoanIdGenerator(() -> NOW);
+
+        // when
+        String id = generator.nextId();
+
+        // then
+        assertThat(id).hasSize(13).matches("[0-9A-HJKMNP-TV-Z]+");
+        assertThat(TimeOrderedLoanIdGenerator.timestampOf(id)).isEqualTo(NOW);
+        assertThat(TimeOrderedLoanIdGenerator.decode(TimeOrderedLoanIdGenerator.encode(123_456_789L))).isEqualTo(123_456_789L);
+    }
+
+    @Test
+    @DisplayName("문자열 순서가 생성 순서와 같다")
+    void stringOrderMatchesGenerationOrder() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedLoanIdGenerator generator = new TimeOrderedLoanIdGenerator(clock::get);
+        List<String> ids = new ArrayList<>();
+
+        // when: 같은 밀리초 안에서 여러 번, 시간이 흐르며 여러 번 생성
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 100 == 0) {
+                clock.addAndGet(7);
+            }
+            ids.add(generator.nextId());
+        }
+
+        // then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("순번을 모두 쓰거나 시계가 뒤로 가도 단조 증가한다")
+    void monotonicWhenSequenceExhaustedOrClockMovesBack() {
+        // given
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedLoanIdGenerator generator = new TimeOrderedLoanIdGenerator(clock::get);
+        long previous = generator.nextLong();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) { // 1ms 에 4096개 초과
+            long next = generator.nextLong();
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+        clock.addAndGet(-60_000);
+        assertThat(generator.nextLong()).isGreaterThan(previous);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 생성해도 중복되지 않는다")
+    void uniqueAcrossThreads() throws Exception {
+        // given
+        TimeOrderedLoanIdGenerator generator = new TimeOrderedLoanIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                Set<String> local = new HashSet<>();
+                for (int i = 0; i < 50_000; i++) {
+                    local.add(generator.nextId());
+                }
+                ids.addAll(local);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(ids).hasSize(400_000);
+    }
+
+    @Test
+    @DisplayName("1024개가 넘는 스레드가 오가며 두 인스턴스로 생성해도 중복되지 않는다")
+    void uniqueAcrossThreadChurnAndInstances() throws Exception {
+        // given
+        TimeOrderedLoanIdGenerator first = new TimeOrderedLoanIdGenerator();
+        TimeOrderedLoanIdGenerator second = new TimeOrderedLoanIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        int threads = 1_500;
+        int perThread = 200;
+
+        // when: 스레드를 50개씩 띄웠다 끝내기를 반복한다
+        for (int batch = 0; batch < threads / 50; batch++) {
+            List<Thread> running = new ArrayList<>();
+            for (int t = 0; t < 50; t++) {
+                Thread thread = new Thread(() -> {
+                    List<String> local = new ArrayList<>();
+                    for (int i = 0; i < perThread / 2; i++) {
+                        local.add(first.nextId());
+                        local.add(second.nextId());
+                    }
+                    ids.addAll(local);
+                });
+                thread.start();
+                running.add(thread);
+            }
+            for (Thread thread : running) {
+                thread.join();
+            }
+        }
+
+        // then
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("노드 ID 가 다르면 같은 시각에도 ID 가 다르다")
+    void nodeIdSeparatesJvms() {
+        // given
+        TimeOrderedLoanIdGenerator node1 = new TimeOrderedLoanIdGenerator(1);
+        TimeOrderedLoanIdGenerator node2 = new TimeOrderedLoanIdGenerator(2);
+        Set<Long> ids = new HashSet<>();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(node1.nextLong());
+            ids.add(node2.nextLong());
+        }
+
+        // then
+        assertThat(ids).hasSize(20_000);
+        assertThatThrownBy(() -> new TimeOrderedLoanIdGenerator(TimeOrderedLoanIdGenerator.MAX_NODE_ID + 1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimeOrderedLoanIdGenerator(-1))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 ID 는 해석할 수 없다")
+    void rejectsMalformedId() {
+        assertThatThrownBy(() -> TimeOrderedLoanIdGenerator.timestampOf("not-an-id"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TimeOrderedLoanIdGenerator.timestampOf("0000000000I00"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
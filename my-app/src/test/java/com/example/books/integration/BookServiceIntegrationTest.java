@@ -3,6 +3,8 @@ package com.example.books.integration;
 import com.example.books.Book;
 import com.example.books.repository.InMemoryBookRepository;
 import com.example.books.service.BookService;
+import com.example.books.service.BulkRegistrationReport;
+import com.example.books.service.CatalogListener;
 import com.example.books.service.DuplicateBookException;
 import com.example.books.service.BookNotFoundException;
 
@@ -14,8 +16,17 @@ import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Tag;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -39,11 +50,11 @@ class BookServiceIntegrationTest {
     @DisplayName("도서 등록 후 검색이 가능하다")
     void registerAndFindBook() {
         // given
-        Book book = new Book("978-1234567890", "클린 코드", "로버트 마틴");
+        Book book = new Book("978-1234567897", "클린 코드", "로버트 마틴");
         
         // when
         bookService.register(book);
-        Optional<Book> found = bookService.findByIsbn("978-1234567890");
+        Optional<Book> found = bookService.findByIsbn("978-1234567897");
         
         // then
         assertThat(found).isPresent();
@@ -56,7 +67,7 @@ class BookServiceIntegrationTest {
     @DisplayName("존재하지 않는 도서 검색 시 빈 결과를 반환한다")
     void findNonExistentBook() {
         // when
-        Optional<Book> found = bookService.findByIsbn("978-0000000000");
+        Optional<Book> found = bookService.findByIsbn("978-0000000002");
         
         // then
         assertThat(found).isEmpty();
@@ -67,9 +78,9 @@ class BookServiceIntegrationTest {
     @DisplayName("제목으로 도서를 검색할 수 있다")
     void searchBooksByTitle() {
         // given
-        bookService.register(new Book("978-1234567890", "클린 코드", "로버트 마틴"));
-        bookService.register(new Book("978-0987654321", "클린 아키텍처", "로버트 마틴"));
-        bookService.register(new Book("978-1111111111", "이펙티브 자바", "조슈아 블로크"));
+        bookService.register(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        bookService.register(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        bookService.register(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
         
         // when
         List<Book> result = bookService.searchByTitle("클린");
@@ -85,9 +96,9 @@ class BookServiceIntegrationTest {
     @DisplayName("저자명으로 도서를 검색할 수 있다")
     void searchBooksByAuthor() {
         // given
-        bookService.register(new Book("978-1234567890", "클린 코드", "로버트 마틴"));
-        bookService.register(new Book("978-0987654321", "클린 아키텍처", "로버트 마틴"));
-        bookService.register(new Book("978-1111111111", "이펙티브 자바", "조슈아 블로크"));
+        bookService.register(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        bookService.register(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        bookService.register(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
         
         // when
         List<Book> result = bookService.searchByAuthor("로버트");
@@ -103,15 +114,15 @@ class BookServiceIntegrationTest {
     @DisplayName("중복 도서 등록 시 예외가 발생한다")
     void registerDuplicateBook() {
         // given
-        Book book1 = new Book("978-1234567890", "클린 코드", "로버트 마틴");
-        Book book2 = new Book("978-1234567890", "다른 제목", "다른 저자");
+        Book book1 = new Book("978-1234567897", "클린 코드", "로버트 마틴");
+        Book book2 = new Book("978-1234567897", "다른 제목", "다른 저자");
         
         bookService.register(book1);
         
         // when & then
         assertThatThrownBy(() -> bookService.register(book2))
             .isInstanceOf(DuplicateBookException.class)
-            .hasMessage("이미 등록된 도서입니다: 978-1234567890");
+            .hasMessage("이미 등록된 도서입니다: 978-1234567897");
     }
     
     @Test
@@ -119,12 +130,12 @@ class BookServiceIntegrationTest {
     @DisplayName("도서를 삭제할 수 있다")
     void removeBook() {
         // given
-        Book book = new Book("978-1234567890", "클린 코드", "로버트 마틴");
+        Book book = new Book("978-1234567897", "클린 코드", "로버트 마틴");
         bookService.register(book);
         
         // when
-        bookService.removeBook("978-1234567890");
-        Optional<Book> found = bookService.findByIsbn("978-1234567890");
+        bookService.removeBook("978-1234567897");
+        Optional<Book> found = bookService.findByIsbn("978-1234567897");
         
         // then
         assertThat(found).isEmpty();
@@ -135,9 +146,9 @@ class BookServiceIntegrationTest {
     @DisplayName("존재하지 않는 도서 삭제 시 예외가 발생한다")
     void removeNonExistentBook() {
         // when & then
-        assertThatThrownBy(() -> bookService.removeBook("978-0000000000"))
+        assertThatThrownBy(() -> bookService.removeBook("978-0000000002"))
             .isInstanceOf(BookNotFoundException.class)
-            .hasMessage("존재하지 않는 도서입니다: 978-0000000000");
+            .hasMessage("존재하지 않는 도서입니다: 978-0000000002");
     }
     
     @Test
@@ -145,9 +156,9 @@ class BookServiceIntegrationTest {
     @DisplayName("여러 도서 등록 후 전체 조회가 가능하다")
     void registerMultipleBooksAndFindAll() {
         // given
-        bookService.register(new Book("978-1234567890", "클린 코드", "로버트 마틴"));
-        bookService.register(new Book("978-0987654321", "클린 아키텍처", "로버트 마틴"));
-        bookService.register(new Book("978-1111111111", "이펙티브 자바", "조슈아 블로크"));
+        bookService.register(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        bookService.register(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        bookService.register(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
         
         // when
         List<Book> allBooks = bookService.findAllBooks();
@@ -156,9 +167,9 @@ class BookServiceIntegrationTest {
         assertThat(allBooks).hasSize(3);
         assertThat(allBooks).extracting("isbn")
             .containsExactlyInAnyOrder(
-                "978-1234567890", 
-                "978-0987654321", 
-                "978-1111111111"
+                "978-1234567897", 
+                "978-0987654328", 
+                "978-1111111113"
             );
     }
     
@@ -167,7 +178,7 @@ class BookServiceIntegrationTest {
     @DisplayName("대소문자 구분 없이 검색이 가능하다")
     void caseInsensitiveSearch() {
         // given
-        bookService.register(new Book("978-1234567890", "Clean Code", "Robert Martin"));
+        bookService.register(new Book("978-1234567897", "Clean Code", "Robert Martin"));
         
         // when
         List<Book> titleResult = bookService.searchByTitle("clean");
@@ -177,4 +188,197 @@ class BookServiceIntegrationTest {
         assertThat(titleResult).hasSize(1);
         assertThat(authorResult).hasSize(1);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @Order(10)
+    @DisplayName("하이픈 유무나 ISBN-10 표기와 관계없이 같은 도서를 찾는다")
+    void findByAnyIsbnForm() {
+        // given
+        bookService.register(new Book("978-89-6626-262-5", "클린 코드", "로버트 마틴"));
+        
+        // when & then
+        assertThat(bookService.findByIsbn("9788966262625")).isPresent();
+        assertThat(bookService.findByIsbn("89-6626-262-7")).isPresent();
+        assertThat(bookService.findByIsbn("978-89-6626-262-3")).isEmpty();
+        assertThatThrownBy(() -> bookService.register(new Book("8966262627", "다른 제목", "다른 저자")))
+            .isInstanceOf(DuplicateBookException.class);
+        
+        bookService.removeBook("9788966262625");
+        assertThat(bookRepository.size()).isZero();
+        assertThat(bookService.searchByHangul("ㅋㄹㅋㄷ")).isEmpty();
+    }
+    
+    @Test
+    @Order(11)
+    @DisplayName("일괄 등록은 이미 등록된 도서와 요청 안의 중복을 건너뛰고 결과를 알려준다")
+    void registerAllReportsDuplicates() {
+        // given
+        bookService.register(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        List<Book> batch = List.of(
+            new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"),
+            new Book("978-1234567897", "클린 코드 (다시)", "로버트 마틴"),
+            new Book("978-89-6626-262-5", "클린 코드 (번역서)", "로버트 마틴"),
+            new Book("8966262627", "클린 코드 (ISBN-10)", "로버트 마틴"),
+            new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+        
+        // when
+        BulkRegistrationReport report = bookService.registerAll(batch);
+        
+        // then
+        assertThat(report.getOutcomes()).containsExactly(
+            BulkRegistrationReport.Outcome.REGISTERED,
+            BulkRegistrationReport.Outcome.ALREADY_REGISTERED,
+            BulkRegistrationReport.Outcome.REGISTERED,
+            BulkRegistrationReport.Outcome.DUPLICATE_IN_BATCH,
+            BulkRegistrationReport.Outcome.REGISTERED);
+        assertThat(report.getDuplicates()).extracting("title").containsExactly("클린 코드 (다시)", "클린 코드 (ISBN-10)");
+        assertThat(bookRepository.size()).isEqualTo(4);
+        assertThat(bookService.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(bookService.searchByHangul("리팩")).extracting("title").containsExactly("리팩터링");
+        
+        // 같은 도서를 다시 일괄 등록하면 모두 이미 등록된 도서로 보고된다
+        assertThat(bookService.registerAll(batch).count(BulkRegistrationReport.Outcome.REGISTERED)).isZero();
+    }
+    
+    @Test
+    @Order(12)
+    @DisplayName("겹치는 일괄 등록이 동시에 실행되어도 도서는 한 번씩만 등록된다")
+    void concurrentRegisterAllRegistersOnce() throws Exception {
+        // given
+        int threads = 4;
+        List<List<Book>> batches = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<Book> batch = new ArrayList<>();
+            for (int i = t * 500; i < t * 500 + 2_000; i++) {
+                batch.add(new Book(isbn(i), "도서 " + i, "저자 " + t));
+            }
+            batches.add(batch);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        // when
+        List<Future<BulkRegistrationReport>> reports = new ArrayList<>();
+        for (List<Book> batch : batches) {
+            reports.add(executor.submit(() -> bookService.registerAll(batch)));
+        }
+        int registered = 0;
+        for (Future<BulkRegistrationReport> report : reports) {
+            registered += report.get().count(BulkRegistrationReport.Outcome.REGISTERED);
+        }
+        executor.shutdown();
+        
+        // then
+        assertThat(registered).isEqualTo(3_500);
+        assertThat(bookRepository.size()).isEqualTo(3_500);
+    }
+    
+    @Test
+    @Order(13)
+    @DisplayName("ISBN 순 키셋 페이지로 전체 도서를 빠짐없이 나눠 읽는다")
+    void pagesThroughCatalogByIsbn() {
+        // given
+        for (int i = 250; i >= 1; i--) {
+            bookService.register(new Book(isbn(i), "도서 " + i, "저자"));
+        }
+        
+        // when
+        List<Book> all = new ArrayList<>();
+        List<Book> page = bookService.findAllBooks(null, 100);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            page = bookService.findAllBooks(page.get(page.size() - 1).getIsbn(), 100);
+        }
+        
+        // then
+        assertThat(all).hasSize(250);
+        assertThat(all).extracting("isbn").containsExactlyElementsOf(
+            IntStream.rangeClosed(1, 250).mapToObj(i -> isbn(i)).toList());
+        assertThat(bookService.findAllBooks(isbn(248), 100)).extracting("isbn").containsExactly(isbn(249), isbn(250));
+        assertThatThrownBy(() -> bookService.findAllBooks(null, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> bookService.findAllBooks("잘못된 ISBN", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+    
+    @Test
+    @Order(14)
+    @DisplayName("전체 도서를 스트림으로 읽을 수 있고 병렬로 나눠 처리할 수 있다")
+    void streamsCatalog() {
+        // given
+        for (int i = 1; i <= 5_000; i++) {
+            bookRepository.save(new Book(isbn(i), "도서 " + i, "저자 " + (i % 10)));
+        }
+        
+        // when
+        long sequential = bookService.streamAllBooks().filter(book -> book.getAuthor().equals("저자 3")).count();
+        long parallel = bookService.streamAllBooks().parallel().filter(book -> book.getAuthor().equals("저자 3")).count();
+        // 순회 중 삭제해도 예외 없이 이어서 읽는다
+        AtomicInteger whileRemoving = new AtomicInteger();
+        bookService.streamAllBooks().forEach(book -> {
+            bookRepository.deleteByIsbn(book.getIsbn());
+            whileRemoving.incrementAndGet();
+        });
+        
+        // then
+        assertThat(sequential).isEqualTo(500);
+        assertThat(parallel).isEqualTo(500);
+        assertThat(whileRemoving.get()).isEqualTo(5_000);
+        assertThat(bookRepository.size()).isZero();
+    }
+    
+    @Test
+    @Order(15)
+    @DisplayName("리스너를 설치하는 동안 등록된 도서도 리스너에 빠짐없이 전달된다")
+    void listenerAddedDuringRegistrationSeesEveryBook() throws Exception {
+        // given: 첫 도서를 전달받을 때 잠시 멈추는 리스너
+        bookService.register(new Book(isbn(1), "도서 1", "저자"));
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch firstRegistered = new CountDownLatch(1);
+        CatalogListener listener = new CatalogListener() {
+            @Override
+            public void onRegistered(Book book) {
+                if (seen.isEmpty()) {
+                    sleep(100);
+                }
+                seen.add(book.getIsbn());
+            }
+
+            @Override
+            public void onRemoved(String isbn) {
+                seen.remove(isbn);
+            }
+        };
+        Thread registrar = new Thread(() -> {
+            for (int i = 2; i <= 200; i++) {
+                bookService.register(new Book(isbn(i), "도서 " + i, "저자"));
+                firstRegistered.countDown();
+            }
+        });
+
+        // when
+        registrar.start();
+        firstRegistered.await();
+        bookService.addCatalogListener(listener);
+        registrar.join();
+
+        // then
+        assertThat(seen).hasSize(200)
+            .containsExactlyInAnyOrderElementsOf(bookService.findAllBooks().stream().map(Book::getIsbn).toList());
+    }
+    
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("한글 검색 색인 성능 비교")
+class HangulSearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+        "테스트", "주도", "개발", "클린", "코드", "자바", "리팩터링", "설계", "패턴", "객체지향",
+        "알고리즘", "자료구조", "운영체제", "네트워크", "데이터베이스", "분산", "시스템", "보안", "모던", "실전"
+    };
+    private static final int BOOKS = 200_000;
+    private static final int ROUNDS = 200;
+
+    @Test
+    @DisplayName("색인 검색과 선형 탐색의 검색 시간을 비교한다")
+    void compareWithLinearScan() {
+        // given
+        Random random = new Random(42);
+        InMemoryBookRepository repository = new InMemoryBookRepository();
+        for (int i = 0; i < BOOKS; i++) {
+            String title = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            repository.save(new Book(isbn(i), title, "저자" + (i % 1000)));
+        }
+
+        // when
+        String[] queries = {"리팩터링 패턴 1", "데이터베이스 보안 99"};
+        long indexed = measure(() -> {
+            for (String query : queries) {
+                repository.findByTitleHangul(query);
+            }
+        });
+        long scanned = measure(() -> {
+            for (String query : queries) {
+                repository.findByTitle(query);
+            }
+        });
+        long choseong = measure(() -> repository.findByTitleHangul("ㄹㅍㅌㄹㅅㄱ"));
+
+        // then
+        System.out.printf("%,d권, 검색어 %d개 × %d회: 색인 %dµs, 선형 탐색 %dµs, 초성 검색 %dµs (1회 평균)%n",
+            BOOKS, queries.length, ROUNDS, indexed / ROUNDS / 1_000, scanned / ROUNDS / 1_000, choseong / ROUNDS / 1_000);
+        List<Book> expected = repository.findByTitle("리팩터링 패턴 1");
+        assertThat(repository.findByTitleHangul("리팩터링 패턴 1")).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(indexed).isLessThan(scanned);
+    }
+
+    private static long measure(Runnable task) {
+        for (int i = 0; i < ROUNDS / 10; i++) {
+            task.run(); // 워밍업
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            task.run();
+        }
+        return System.nanoTime() - started;
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
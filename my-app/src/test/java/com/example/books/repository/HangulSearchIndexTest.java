@@ -0,0 +1,149 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HangulSearchIndex 테스트")
+class HangulSearchIndexTest {
+
+    private InMemoryBookRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryBookRepository();
+        repository.save(new Book("978-1234567897", "테스트 주도 개발", "켄트 벡"));
+        repository.save(new Book("978-0987654328", "클린 코드", "로버트 마틴"));
+        repository.save(new Book("978-1111111113", "닭고기 요리 백과", "요리사"));
+        repository.save(new Book("978-0000000002", "Effective Java 3판", "조슈아 블로크"));
+    }
+
+    @Test
+    @DisplayName("제목을 초성 키와 자모 키로 분해한다")
+    void decomposesTitle() {
+        assertThat(HangulSearchIndex.choseong("테스트 주도 개발")).isEqualTo("ㅌㅅㅌㅈㄷㄱㅂ");
+        assertThat(HangulSearchIndex.jamo("닭")).isEqualTo("ㄷㅏㄹㄱ");
+        assertThat(HangulSearchIndex.jamo("과 Java")).isEqualTo("ㄱㅗㅏjava");
+    }
+
+    @Test
+    @DisplayName("초성으로 도서를 검색할 수 있다")
+    void searchByChoseong() {
+        // when & then
+        assertThat(repository.findByTitleHangul("ㅌㅅㅌ")).extracting("title").containsExactly("테스트 주도 개발");
+        assertThat(repository.findByTitleHangul("ㅈㄷ ㄱㅂ")).extracting("title").containsExactly("테스트 주도 개발");
+        assertThat(repository.findByTitleHangul("ㅋ")).extracting("title").containsExactly("클린 코드");
+    }
+
+    @Test
+    @DisplayName("조합 중인 글자로도 도서를 검색할 수 있다")
+    void searchByPartialSyllable() {
+        // when & then
+        assertThat(repository.findByTitleHangul("테스ㅌ")).extracting("title").containsExactly("테스트 주도 개발");
+        assertThat(repository.findByTitleHangul("클리")).extracting("title").containsExactly("클린 코드");
+        assertThat(repository.findByTitleHangul("달")).extracting("title").containsExactly("닭고기 요리 백과");
+        assertThat(repository.findByTitleHangul("effective j")).extracting("title").containsExactly("Effective Java 3판");
+    }
+
+    @Test
+    @DisplayName("겹받침 낱자는 초성이 아니라 자모로 검색한다")
+    void compoundConsonantSearchesJamo() {
+        // when & then
+        assertThat(repository.findByTitleHangul("ㄺ")).extracting("title").containsExactly("닭고기 요리 백과");
+        assertThat(repository.findByTitleHangul("다ㄺ")).extracting("title").containsExactly("닭고기 요리 백과");
+    }
+
+    @Test
+    @DisplayName("일치하는 도서가 없으면 빈 결과를 반환한다")
+    void searchWithoutMatch() {
+        assertThat(repository.findByTitleHangul("ㅎㅎㅎ")).isEmpty();
+        assertThat(repository.findByTitleHangul("리팩터링")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서를 수정하거나 삭제하면 색인에 반영된다")
+    void indexFollowsSaveAndDelete() {
+        // when
+        repository.save(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        repository.deleteByIsbn("978-1234567897");
+
+        // then
+        List<Book> result = repository.findByTitleHangul("ㅋㄹ");
+        assertThat(result).extracting("title").containsExactly("클린 아키텍처");
+        assertThat(repository.findByTitleHangul("ㅋㄹㅋㄷ")).isEmpty();
+        assertThat(repository.findByTitleHangul("ㅌㅅㅌ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("저장과 삭제가 동시에 일어나도 색인과 저장소가 어긋나지 않는다")
+    void indexStaysConsistentUnderConcurrentSaveAndDelete() throws InterruptedException {
+        // given
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            boolean saver = t % 2 == 0;
+            Random random = new Random(t);
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    String isbn = isbn(1 + random.nextInt(4));
+                    if (saver) {
+                        repository.save(new Book(isbn, "동시 저장 " + isbn, "저자"));
+                    } else {
+                        repository.deleteByIsbn(isbn);
+                    }
+                }
+            }));
+        }
+
+        // when
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        List<String> stored = repository.findByTitle("동시 저장").stream().map(Book::getIsbn).toList();
+        assertThat(repository.findByTitleHangul("동시 저장")).extracting("isbn")
+            .containsExactlyInAnyOrderElementsOf(stored);
+    }
+
+    @Test
+    @DisplayName("같은 도서를 반복해 덮어써도 문서 번호 목록이 늘어나지 않는다")
+    void compactsOverwrittenDocuments() {
+        // given
+        HangulSearchIndex index = new HangulSearchIndex();
+        for (int serial = 1; serial <= 10; serial++) {
+            index.add(new Book(isbn(serial), "테스트 " + serial, "저자"));
+        }
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            index.add(new Book(isbn(1 + i % 10), "테스트 주도 " + i, "저자"));
+        }
+        index.remove(Isbn.toKey(isbn(1)));
+
+        // then
+        assertThat(index.documentCount()).isLessThanOrEqualTo(2 * 9 + 1);
+        assertThat(index.search("ㅌㅅㅌㅈㄷ")).hasSize(9);
+        assertThat(index.search("테스트 주도 9999")).extracting("title").containsExactly("테스트 주도 9999");
+        assertThat(index.search("테스트 주도 9990")).isEmpty();
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
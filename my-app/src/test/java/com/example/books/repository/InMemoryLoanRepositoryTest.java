@@ -0,0 +1,248 @@
+package com.example.books.repository;
+
+import com.example.books.Loan;
+import com.example.books.LoanStatus;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("InMemoryLoanRepository 테스트")
+class InMemoryLoanRepositoryTest {
+
+    private static final LocalDate LOAN_DATE = LocalDate.of(2025, 3, 1);
+
+    private InMemoryLoanRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryLoanRepository();
+    }
+
+    @Test
+    @DisplayName("대출을 저장하면 사용자/ISBN/상태별로 조회할 수 있다")
+    void saveAndFindByIndexes() {
+        // given
+        Loan first = new Loan("loan-1", "user-1", "978-1234567897", LOAN_DATE, 14);
+        Loan second = new Loan("loan-2", "user-1", "978-0987654328", LOAN_DATE, 14);
+        Loan third = new Loan("loan-3", "user-2", "978-1111111113", LOAN_DATE, 14);
+
+        // when
+        repository.save(first);
+        repository.save(second);
+        repository.save(third);
+
+        // then
+        assertThat(repository.findById("loan-2")).contains(second);
+        assertThat(repository.findByUserId("user-1")).containsExactlyInAnyOrder(first, second);
+        assertThat(repository.findByIsbn("9781234567897")).containsExactly(first);
+        assertThat(repository.findByStatus(LoanStatus.ACTIVE)).hasSize(3);
+        assertThat(repository.findByUserId("user-9")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("활성 대출 수와 도서 대출 가능 여부를 유지한다")
+    void maintainsActiveCounters() {
+        // given
+        Loan loan = new Loan("loan-1", "user-1", "978-1234567897", LOAN_DATE, 14);
+        repository.save(loan);
+        repository.save(new Loan("loan-2", "user-1", "978-0987654328", LOAN_DATE, 14));
+
+        // when & then
+        assertThat(repository.countActiveLoansByUserId("user-1")).isEqualTo(2);
+        assertThat(repository.isBookAvailable("978-1-234-56789-7")).isFalse();
+        assertThat(repository.isBookAvailable("978-1111111113")).isTrue();
+
+        loan.returnBook(LOAN_DATE.plusDays(3));
+        repository.save(loan);
+
+        assertThat(repository.countActiveLoansByUserId("user-1")).isEqualTo(1);
+        assertThat(repository.isBookAvailable("978-1234567897")).isTrue();
+        assertThat(repository.findByStatus(LoanStatus.RETURNED)).containsExactly(loan);
+        assertThat(repository.findByStatus(LoanStatus.ACTIVE)).extracting(Loan::getId).containsExactly("loan-2");
+    }
+
+    @Test
+    @DisplayName("같은 대출을 여러 번 저장해도 카운터가 중복 반영되지 않는다")
+    void resaveIsIdempotent() {
+        // given
+        Loan loan = new Loan("loan-1", "user-1", "978-1234567897", LOAN_DATE, 14);
+
+        // when
+        repository.save(loan);
+        repository.save(loan);
+        loan.returnBook(LOAN_DATE.plusDays(1));
+        repository.save(loan);
+        repository.save(loan);
+
+        // then
+        assertThat(repository.countActiveLoansByUserId("user-1")).isZero();
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반납 예정일이 지난 미반납 대출만 연체로 조회한다")
+    void findOverdueLoans() {
+        // given
+        Loan overdue = new Loan("loan-1", "user-1", "978-1234567897", LOAN_DATE, 7);
+        Loan dueToday = new Loan("loan-2", "user-1", "978-0987654328", LOAN_DATE, 14);
+        Loan returned = new Loan("loan-3", "user-2", "978-1111111113", LOAN_DATE, 7);
+        returned.returnBook(LOAN_DATE.plusDays(10));
+        repository.save(overdue);
+        repository.save(dueToday);
+        repository.save(returned);
+
+        // when
+        List<Loan> result = repository.findOverdueLoans(LOAN_DATE.plusDays(14));
+
+        // then
+        assertThat(result).containsExactly(overdue);
+        assertThat(repository.findOverdueLoans(LOAN_DATE.plusDays(15))).containsExactly(overdue, dueToday);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 대출/반납해도 카운터가 정확하다")
+    void countersStayConsistentUnderConcurrency() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 사용자 10명 × 200건 대출 후 절반 반납
+        for (int i = 0; i < 2_000; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                Loan loan = new Loan("loan-" + index, "user-" + (index % 10), "ISBN-" + index, LOAN_DATE, 14);
+                repository.save(loan);
+                if ((index / 10) % 2 == 0) {
+                    loan.returnBook(LOAN_DATE.plusDays(1));
+                    repository.save(loan);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        for (int user = 0; user < 10; user++) {
+            assertThat(repository.countActiveLoansByUserId("user-" + user)).isEqualTo(100);
+        }
+        assertThat(repository.findByStatus(LoanStatus.ACTIVE)).hasSize(1_000);
+        assertThat(repository.findOverdueLoans(LOAN_DATE.plusDays(30))).hasSize(1_000);
+    }
+
+    @Test
+    @DisplayName("대출 중인 도서나 한도에 도달한 사용자는 예약할 수 없다")
+    void reserveChecksAvailabilityAndLimit() {
+        // given
+        repository.save(new Loan("loan-1", "user-1", "978-1234567897", LOAN_DATE, 14));
+
+        // when & then
+        assertThat(repository.reserve(new Loan("loan-2", "user-2", "9781234567897", LOAN_DATE, 14), 5))
+            .isEqualTo(ReservationResult.BOOK_UNAVAILABLE);
+        assertThat(repository.reserve(new Loan("loan-3", "user-1", "978-0987654328", LOAN_DATE, 14), 1))
+            .isEqualTo(ReservationResult.LIMIT_EXCEEDED);
+        assertThat(repository.isBookAvailable("978-0987654328")).isTrue(); // 한도 초과 시 도서 선점 해제
+
+        Loan reserved = new Loan("loan-4", "user-1", "978-0987654328", LOAN_DATE, 14);
+        assertThat(repository.reserve(reserved, 2)).isEqualTo(ReservationResult.RESERVED);
+        assertThat(repository.findById("loan-4")).contains(reserved);
+        assertThat(repository.countActiveLoansByUserId("user-1")).isEqualTo(2);
+        assertThat(repository.findOverdueLoans(LOAN_DATE.plusDays(15))).hasSize(2);
+
+        reserved.returnBook(LOAN_DATE.plusDays(1));
+        repository.save(reserved);
+        assertThat(repository.isBookAvailable("978-0987654328")).isTrue();
+        assertThat(repository.countActiveLoansByUserId("user-1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 ISBN 은 문자열 그대로 구분해 색인한다")
+    void invalidIsbnIsIndexedByString() {
+        // given
+        Loan loan = new Loan("loan-1", "user-1", "LEGACY-1", LOAN_DATE, 14);
+
+        // when
+        ReservationResult first = repository.reserve(loan, 5);
+        ReservationResult second = repository.reserve(new Loan("loan-2", "user-2", "LEGACY-1", LOAN_DATE, 14), 5);
+
+        // then
+        assertThat(first).isEqualTo(ReservationResult.RESERVED);
+        assertThat(second).isEqualTo(ReservationResult.BOOK_UNAVAILABLE);
+        assertThat(repository.findByIsbn("LEGACY-1")).containsExactly(loan);
+        assertThat(repository.isBookAvailable("LEGACY-2")).isTrue();
+
+        loan.returnBook(LOAN_DATE.plusDays(1));
+        repository.save(loan);
+        assertThat(repository.isBookAvailable("LEGACY-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시에 예약해도 같은 도서를 두 번 대출하거나 한도를 넘지 않는다")
+    void reserveNeverDoubleLends() throws Exception {
+        // given: 스레드 16개가 도서 20권, 사용자 8명(한도 3권)에 동시에 예약 시도
+        int threads = 16;
+        int attemptsPerThread = 5_000;
+        int maxLoans = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reservedCount = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when: 예약 성공 시 일부는 바로 반납해 도서/한도가 계속 다시 풀리도록 함
+        for (int t = 0; t < threads; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < attemptsPerThread; i++) {
+                    int n = sequence.incrementAndGet();
+                    Loan loan = new Loan("loan-" + n, "user-" + ((n + seed) % 8), "ISBN-" + (n * 7 % 20), LOAN_DATE, 14);
+                    if (repository.reserve(loan, maxLoans) == ReservationResult.RESERVED) {
+                        reservedCount.incrementAndGet();
+                        if (n % 3 != 0) {
+                            loan.returnBook(LOAN_DATE.plusDays(1));
+                            repository.save(loan);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then: 도서별 미반납 대출 1건 이하, 사용자별 미반납 대출 한도 이하, 카운터 = 실제 건수
+        List<Loan> active = repository.findByStatus(LoanStatus.ACTIVE);
+        assertThat(active).extracting(Loan::getIsbn).doesNotHaveDuplicates();
+        for (int user = 0; user < 8; user++) {
+            String userId = "user-" + user;
+            long actual = active.stream().filter(loan -> loan.getUserId().equals(userId)).count();
+            assertThat(actual).isLessThanOrEqualTo(maxLoans);
+            assertThat(repository.countActiveLoansByUserId(userId)).isEqualTo((int) actual);
+        }
+        for (int book = 0; book < 20; book++) {
+            String isbn = "ISBN-" + book;
+            boolean lent = active.stream().anyMatch(loan -> loan.getIsbn().equals(isbn));
+            assertThat(repository.isBookAvailable(isbn)).isEqualTo(!lent);
+        }
+        assertThat(repository.size()).isEqualTo(reservedCount.get());
+        System.out.printf("예약 시도 %d건, 성공 %d건, 미반납 %d건%n",
+            threads * attemptsPerThread, reservedCount.get(), active.size());
+    }
+}
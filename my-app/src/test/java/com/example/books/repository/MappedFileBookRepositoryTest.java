@@ -0,0 +1,247 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MappedFileBookRepository 테스트")
+class MappedFileBookRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private MappedFileBookRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        file = directory.resolve("books.db");
+        repository = new MappedFileBookRepository(file);
+        repository.save(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        repository.save(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        repository.save(new Book("978-0000000002", "Effective Java", "Joshua Bloch"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("ISBN 표기와 관계없이 도서를 조회할 수 있다")
+    void findByIsbn() {
+        // when & then
+        assertThat(repository.findByIsbn("9781234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getIsbn).contains("978-1234567897");
+        assertThat(repository.findByIsbn("978-0306406157")).isEmpty();
+        assertThat(repository.findByIsbn("잘못된 ISBN")).isEmpty();
+        assertThat(repository.existsByIsbn("978-0000000002")).isTrue();
+    }
+
+    @Test
+    @DisplayName("제목과 저자를 대소문자 구분 없이 검색한다")
+    void searchByTitleAndAuthor() {
+        // when & then
+        assertThat(repository.findByTitle("클린")).extracting("title").containsExactlyInAnyOrder("클린 코드", "클린 아키텍처");
+        assertThat(repository.findByAuthor("BLOCH")).extracting("isbn").containsExactly("978-0000000002");
+        assertThat(repository.findAll()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("다시 열어도 저장한 도서가 남아 있다")
+    void survivesReopen() {
+        // given
+        repository.save(new Book("978-1234567897", "클린 코드 (개정판)", "로버트 마틴"));
+        repository.deleteByIsbn("978-0987654328");
+        repository.close();
+
+        // when
+        repository = new MappedFileBookRepository(file);
+
+        // then
+        assertThat(repository.size()).isEqualTo(2);
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드 (개정판)");
+        assertThat(repository.findByIsbn("978-0987654328")).isEmpty();
+        assertThat(repository.findAll()).extracting("isbn").containsExactlyInAnyOrder("978-1234567897", "978-0000000002");
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 이 없을 때만 저장한다")
+    void saveIfAbsent() {
+        // when & then
+        assertThat(repository.saveIfAbsent(new Book("9781234567897", "다른 제목", "다른 저자"))).isFalse();
+        assertThat(repository.saveIfAbsent(new Book("978-0306406157", "리팩터링", "마틴 파울러"))).isTrue();
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(repository.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("색인과 파일이 부족하면 늘리고 다시 열어도 모두 조회된다")
+    void growsIndexAndFile() {
+        // given
+        for (int i = 1; i <= 5_000; i++) {
+            repository.save(new Book(isbn(i), "도서 " + i, "저자 " + (i % 50)));
+        }
+        repository.close();
+
+        // when
+        repository = new MappedFileBookRepository(file);
+
+        // then
+        assertThat(repository.size()).isEqualTo(5_003);
+        for (int i = 1; i <= 5_000; i++) {
+            assertThat(repository.findByIsbn(isbn(i))).map(Book::getTitle).contains("도서 " + i);
+        }
+        assertThat(repository.findByAuthor("저자 49")).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("압축하면 죽은 레코드가 사라지고 파일이 작아진다")
+    void compactRemovesDeadRecords() throws IOException {
+        // given
+        for (int i = 1; i <= 2_000; i++) {
+            repository.save(new Book(isbn(i), "도서 " + i, "저자"));
+        }
+        for (int i = 2; i <= 2_000; i += 2) {
+            repository.deleteByIsbn(isbn(i));
+        }
+        repository.flush();
+        long before = Files.size(file);
+
+        // when
+        repository.compact();
+
+        // then
+        assertThat(repository.getDeadBytes()).isZero();
+        assertThat(Files.size(file)).isLessThan(before);
+        assertThat(repository.size()).isEqualTo(1_003);
+        assertThat(repository.findByIsbn(isbn(1))).map(Book::getTitle).contains("도서 1");
+        assertThat(repository.findByIsbn(isbn(2))).isEmpty();
+        assertThat(Files.exists(directory.resolve("books.db.compact"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("덮어쓰기가 반복되면 스스로 압축해 죽은 레코드를 로그 절반 이하로 유지한다")
+    void compactsAutomatically() {
+        // given
+        String longTitle = "아주 긴 제목 ".repeat(20);
+
+        // when
+        for (int round = 0; round < 200; round++) {
+            for (int i = 1; i <= 20; i++) {
+                repository.save(new Book(isbn(i), longTitle + round, "저자"));
+            }
+        }
+
+        // then
+        assertThat(repository.getDeadBytes()).isLessThan(2 * MappedFileBookRepository.MIN_COMPACTION_BYTES);
+        assertThat(repository.findByIsbn(isbn(7))).map(Book::getTitle).contains(longTitle + 199);
+        assertThat(repository.size()).isEqualTo(23);
+    }
+
+    @Test
+    @DisplayName("도서 파일 형식이 아니면 열 수 없다")
+    void rejectsForeignFile() throws IOException {
+        // given
+        Path foreign = directory.resolve("foreign.db");
+        Files.write(foreign, new byte[128]);
+
+        // when & then
+        assertThatThrownBy(() -> new MappedFileBookRepository(foreign))
+            .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("ISBN 키 순으로 페이지를 나눠 읽고 쓰기가 있으면 바뀐 목록으로 이어 읽는다")
+    void pagesByIsbnKey() {
+        // given
+        repository.save(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
+
+        // when
+        List<Book> first = repository.findAllAfter(null, 2);
+        List<Book> second = repository.findAllAfter(first.get(1).getIsbn(), 2);
+        repository.deleteByIsbn("978-1111111113");
+        repository.save(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+        List<Book> afterWrites = repository.findAllAfter("978-0000000002", 10);
+
+        // then
+        assertThat(first).extracting("isbn").containsExactly("978-0000000002", "978-0987654328");
+        assertThat(second).extracting("isbn").containsExactly("978-1111111113", "978-1234567897");
+        assertThat(afterWrites).extracting("isbn").containsExactly("978-0306406157", "978-0987654328", "978-1234567897");
+        assertThat(repository.findAllAfter("978-1234567897", 2)).isEmpty();
+        assertThatThrownBy(() -> repository.findAllAfter("잘못된 ISBN", 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("압축할 파일을 만들지 못해도 기존 파일로 계속 읽고 쓸 수 있다")
+    void failedCompactionKeepsCurrentFile() throws IOException {
+        // given: 압축 파일 자리에 디렉터리가 있어 새 파일을 만들 수 없다
+        repository.deleteByIsbn("978-0987654328");
+        Path blocker = Files.createDirectory(directory.resolve("books.db.compact"));
+
+        // when
+        assertThatThrownBy(() -> repository.compact()).isInstanceOf(UncheckedIOException.class);
+        repository.save(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(repository.findByIsbn("978-0306406157")).map(Book::getTitle).contains("리팩터링");
+        assertThat(repository.size()).isEqualTo(3);
+        Files.delete(blocker);
+        repository.compact();
+        assertThat(repository.getDeadBytes()).isZero();
+        assertThat(repository.findAll()).extracting("isbn")
+            .containsExactlyInAnyOrder("978-1234567897", "978-0000000002", "978-0306406157");
+    }
+
+    @Test
+    @DisplayName("stream 은 ISBN 키 순으로 흘려보내고 병렬로 나눠도 빠짐없이 읽는다")
+    void streamsByIsbnKey() {
+        // given
+        for (int serial = 1; serial <= 5_000; serial++) {
+            repository.save(new Book(isbn(serial * 7), "도서 " + serial, "저자"));
+        }
+        Iterator<Book> iterator = repository.stream().iterator();
+        Book first = iterator.next();
+        repository.deleteByIsbn(isbn(7_000)); // 읽기 시작한 뒤 뒤쪽 페이지에서 삭제
+        List<Book> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+
+        // when
+        List<Book> sequential = repository.stream().toList();
+        List<Book> parallel = repository.stream().parallel().toList();
+
+        // then
+        assertThat(first.getIsbn()).isEqualTo("978-0000000002");
+        assertThat(rest).hasSize(5_003 - 2).extracting("isbn").doesNotContain(isbn(7_000));
+        assertThat(sequential).hasSize(5_003 - 1).containsExactlyInAnyOrderElementsOf(repository.findAll());
+        assertThat(sequential).isSortedAccordingTo(Comparator.comparingLong(Book::getIsbnKey));
+        assertThat(parallel).containsExactlyElementsOf(sequential);
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("스냅샷 저장소 읽기 위주 성능 비교")
+class SnapshotBenchmarkTest {
+
+    private static final int BOOKS = 20_000;
+    private static final int THREADS = 4;
+    private static final int OPERATIONS_PER_THREAD = 2_000;
+
+    @Test
+    @DisplayName("읽기:쓰기 99:1, 95:5 에서 전체 순회 처리량을 비교한다")
+    void compareReadHeavyMixes() throws Exception {
+        for (int writePercent : new int[] {1, 5}) {
+            // given
+            InMemoryBookRepository inMemory = new InMemoryBookRepository();
+            SnapshotBookRepository snapshots = new SnapshotBookRepository();
+            for (int i = 0; i < BOOKS; i++) {
+                Book book = new Book(isbn(i), "도서 " + i, "저자" + (i % 100));
+                inMemory.save(book);
+                snapshots.save(book);
+            }
+
+            // when: 읽기는 전체 목록을 한 번 순회한다
+            long copied = run(inMemory, writePercent, () -> count(inMemory.findAll()));
+            long shared = run(snapshots, writePercent, () -> count(snapshots.snapshot()));
+
+            // then
+            System.out.printf("읽기:쓰기 %d:%d, %,d권, %d스레드 × %,d회: findAll 복사 %dms, 스냅샷 %dms%n",
+                100 - writePercent, writePercent, BOOKS, THREADS, OPERATIONS_PER_THREAD,
+                copied / 1_000_000, shared / 1_000_000);
+            assertThat(snapshots.snapshot()).containsExactlyInAnyOrderElementsOf(inMemory.findAll());
+            assertThat(shared).isLessThan(copied);
+        }
+    }
+
+    private static long run(BookRepository repository, int writePercent, Runnable read)
+        throws Exception {
+        measure(repository, writePercent, read, OPERATIONS_PER_THREAD / 10, 1); // 워밍업
+        return measure(repository, writePercent, read, OPERATIONS_PER_THREAD, 2);
+    }
+
+    private static long measure(BookRepository repository, int writePercent, Runnable read,
+                                int operations, long seed) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(seed * 31 + t);
+                workers.add(() -> {
+                    for (int i = 0; i < operations; i++) {
+                        if (random.nextInt(100) < writePercent) {
+                            int serial = random.nextInt(BOOKS);
+                            repository.save(new Book(isbn(serial), "개정 " + i, "저자" + (serial % 100)));
+                        } else {
+                            read.run();
+                        }
+                    }
+                    return null;
+                });
+            }
+            long started = System.nanoTime();
+            for (Future<Void> future : executor.invokeAll(workers)) {
+                future.get();
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static int count(Iterable<Book> books) {
+        int[] count = new int[1];
+        books.forEach(book -> {
+            if (book.getIsbnKey() % 7 == 0) {
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
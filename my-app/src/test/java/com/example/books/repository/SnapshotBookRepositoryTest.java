@@ -0,0 +1,244 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+import com.example.books.Isbn;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SnapshotBookRepository 테스트")
+class SnapshotBookRepositoryTest {
+
+    private SnapshotBookRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SnapshotBookRepository();
+        repository.save(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        repository.save(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        repository.save(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
+        repository.save(new Book("978-0000000002", "Effective Java", "Joshua Bloch"));
+    }
+
+    @Test
+    @DisplayName("ISBN 으로 도서를 조회할 수 있다")
+    void findByIsbn() {
+        // when & then
+        assertThat(repository.findByIsbn("978-1111111113")).map(Book::getTitle).contains("이펙티브 자바");
+        assertThat(repository.findByIsbn("9781111111113")).isPresent();
+        assertThat(repository.findByIsbn("978-0306406157")).isEmpty();
+        assertThat(repository.existsByIsbn("978-0000000002")).isTrue();
+        assertThat(repository.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("제목과 저자를 대소문자 구분 없이 검색한다")
+    void searchIsCaseInsensitive() {
+        // when & then
+        assertThat(repository.findByTitle("클린")).extracting("title").containsExactlyInAnyOrder("클린 코드", "클린 아키텍처");
+        assertThat(repository.findByTitle("EFFECTIVE ja")).extracting("isbn").containsExactly("978-0000000002");
+        assertThat(repository.findByAuthor("bloch")).extracting("isbn").containsExactly("978-0000000002");
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 으로 저장하면 덮어쓴다")
+    void saveReplacesExistingBook() {
+        // when
+        repository.save(new Book("978-1234567897", "클린 코드 (개정판)", "로버트 마틴"));
+
+        // then
+        assertThat(repository.size()).isEqualTo(4);
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드 (개정판)");
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 이 없을 때만 저장한다")
+    void saveIfAbsent() {
+        // when
+        boolean replaced = repository.saveIfAbsent(new Book("9781234567897", "다른 제목", "다른 저자"));
+        boolean added = repository.saveIfAbsent(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(replaced).isFalse();
+        assertThat(added).isTrue();
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(repository.findByTitle("리팩터링")).extracting("isbn").containsExactly("978-0306406157");
+    }
+
+    @Test
+    @DisplayName("삭제한 도서는 조회되지 않는다")
+    void deleteByIsbn() {
+        // when
+        repository.deleteByIsbn("978-0987654328");
+        repository.deleteByIsbn("978-0306406157");
+        repository.deleteByIsbn("잘못된 ISBN");
+
+        // then
+        assertThat(repository.findByIsbn("978-0987654328")).isEmpty();
+        assertThat(repository.findAll()).extracting("isbn")
+            .containsExactlyInAnyOrder("978-1234567897", "978-1111111113", "978-0000000002");
+    }
+
+    @Test
+    @DisplayName("정렬 색인이 없어도 ISBN 순 페이지와 스트림을 제공한다")
+    void pagesAndStreams() {
+        // when
+        List<Book> first = repository.findAllAfter(null, 2);
+        List<Book> second = repository.findAllAfter(first.get(1).getIsbn(), 2);
+
+        // then
+        assertThat(first).extracting("isbn").containsExactly("978-0000000002", "978-0987654328");
+        assertThat(second).extracting("isbn").containsExactly("978-1111111113", "978-1234567897");
+        assertThat(repository.findAllAfter("978-1234567897", 2)).isEmpty();
+        assertThat(repository.stream().map(Book::getIsbn))
+            .containsExactlyInAnyOrder("978-1234567897", "978-0987654328", "978-1111111113", "978-0000000002");
+    }
+
+    @Test
+    @DisplayName("스냅샷은 이후 변경의 영향을 받지 않는다")
+    void snapshotIsImmutable() {
+        // given
+        CatalogSnapshot before = repository.snapshot();
+
+        // when
+        repository.deleteByIsbn("978-1234567897");
+        repository.save(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(before.size()).isEqualTo(4);
+        assertThat(before).extracting("isbn")
+            .containsExactlyInAnyOrder("978-1234567897", "978-0987654328", "978-1111111113", "978-0000000002");
+        assertThat(before.findByIsbn("978-0306406157")).isEmpty();
+        assertThat(repository.snapshot()).extracting("isbn")
+            .containsExactlyInAnyOrder("978-0987654328", "978-1111111113", "978-0000000002", "978-0306406157");
+    }
+
+    @Test
+    @DisplayName("무작위 저장/삭제 후에도 HashMap 과 내용이 같다")
+    void matchesHashMapUnderRandomChanges() {
+        // given
+        Random random = new Random(7);
+        SnapshotBookRepository snapshots = new SnapshotBookRepository();
+        Map<String, Book> expected = new HashMap<>();
+        List<CatalogSnapshot> versions = new ArrayList<>();
+        List<Map<String, Book>> expectedVersions = new ArrayList<>();
+
+        // when
+        for (int step = 0; step < 20_000; step++) {
+            String isbn = isbn(random.nextInt(3_000));
+            if (random.nextInt(3) == 0) {
+                snapshots.deleteByIsbn(isbn);
+                expected.remove(isbn);
+            } else {
+                Book book = new Book(isbn, "도서 " + step, "저자");
+                snapshots.save(book);
+                expected.put(isbn, book);
+            }
+            if (step % 2_000 == 0) {
+                versions.add(snapshots.snapshot());
+                expectedVersions.add(new HashMap<>(expected));
+            }
+        }
+
+        // then
+        versions.add(snapshots.snapshot());
+        expectedVersions.add(expected);
+        for (int i = 0; i < versions.size(); i++) {
+            CatalogSnapshot version = versions.get(i);
+            Map<String, Book> map = expectedVersions.get(i);
+            assertThat(version.size()).isEqualTo(map.size());
+            assertThat(version).containsExactlyInAnyOrderElementsOf(map.values());
+            for (int serial = 0; serial < 3_000; serial++) {
+                String isbn = isbn(serial);
+                assertThat(version.findByIsbn(isbn).orElse(null)).isSameAs(map.get(isbn));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 중에도 읽기는 일관된 목록을 본다")
+    void readersSeeConsistentVersions() throws InterruptedException {
+        // given: 두 권씩 한 번에 저장하므로 어느 버전이든 짝수 권이어야 한다
+        SnapshotBookRepository pairs = new SnapshotBookRepository();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 5_000; i++) {
+                pairs.saveAll(List.of(
+                    new Book(isbn(2 * i), "짝 " + i, "저자"),
+                    new Book(isbn(2 * i + 1), "짝 " + i, "저자")));
+            }
+        });
+        List<Integer> oddSizes = new ArrayList<>();
+
+        // when
+        writer.start();
+        while (writer.isAlive()) {
+            int counted = 0;
+            for (Book ignored : pairs.snapshot()) {
+                counted++;
+            }
+            if (counted % 2 != 0) {
+                oddSizes.add(counted);
+            }
+        }
+        writer.join();
+
+        // then
+        assertThat(oddSizes).isEmpty();
+        assertThat(pairs.size()).isEqualTo(10_000);
+    }
+
+    @Test
+    @DisplayName("무작위 저장/삭제 후에도 페이지와 순회가 ISBN 키 순이다")
+    void pagesInKeyOrderUnderRandomChanges() {
+        // given
+        Random random = new Random(11);
+        SnapshotBookRepository snapshots = new SnapshotBookRepository();
+        TreeMap<Long, Book> expected = new TreeMap<>();
+        for (int step = 0; step < 5_000; step++) {
+            String isbn = isbn(1 + random.nextInt(2_000));
+            if (random.nextInt(4) == 0) {
+                snapshots.deleteByIsbn(isbn);
+                expected.remove(Isbn.toKey(isbn));
+            } else {
+                Book book = new Book(isbn, "도서 " + step, "저자");
+                snapshots.save(book);
+                expected.put(book.getIsbnKey(), book);
+            }
+        }
+
+        // when
+        List<Book> paged = new ArrayList<>();
+        List<Book> page = snapshots.findAllAfter(null, 7);
+        while (!page.isEmpty()) {
+            paged.addAll(page);
+            page = snapshots.findAllAfter(page.get(page.size() - 1).getIsbn(), 7);
+        }
+
+        // then
+        assertThat(paged).containsExactlyElementsOf(expected.values());
+        assertThat(snapshots.snapshot()).containsExactlyElementsOf(expected.values());
+        assertThat(snapshots.findAllAfter(isbn(1_000), 5))
+            .containsExactlyElementsOf(expected.tailMap(Isbn.toKey(isbn(1_000)), false)
+                .values().stream().limit(5).toList());
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.books.repository;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TrigramIndexedBookRepository 테스트")
+class TrigramIndexedBookRepositoryTest {
+
+    private TrigramIndexedBookRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new TrigramIndexedBookRepository();
+        repository.save(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        repository.save(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        repository.save(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
+        repository.save(new Book("978-0000000002", "Effective Java", "Joshua Bloch"));
+    }
+
+    @Test
+    @DisplayName("제목 부분 문자열로 도서를 검색할 수 있다")
+    void findByTitleSubstring() {
+        // when
+        List<Book> result = repository.findByTitle("아키텍처");
+
+        // then
+        assertThat(result).extracting("title").containsExactly("클린 아키텍처");
+    }
+
+    @Test
+    @DisplayName("대소문자 구분 없이 검색한다")
+    void searchIsCaseInsensitive() {
+        // when & then
+        assertThat(repository.findByTitle("EFFECTIVE ja")).extracting("isbn").containsExactly("978-0000000002");
+        assertThat(repository.findByAuthor("bloch")).extracting("isbn").containsExactly("978-0000000002");
+    }
+
+    @Test
+    @DisplayName("같은 ISBN 이 없을 때만 저장한다")
+    void saveIfAbsent() {
+        // when
+        boolean replaced = repository.saveIfAbsent(new Book("9781234567897", "다른 제목", "다른 저자"));
+        boolean added = repository.saveIfAbsent(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(replaced).isFalse();
+        assertThat(added).isTrue();
+        assertThat(repository.findByIsbn("978-1234567897")).map(Book::getTitle).contains("클린 코드");
+        assertThat(repository.findByTitle("리팩터링")).extracting("isbn").containsExactly("978-0306406157");
+    }
+
+    @Test
+    @DisplayName("3글자 미만 검색어도 검색할 수 있다")
+    void shortQueryFallsBackToScan() {
+        // when
+        List<Book> result = repository.findByTitle("클린");
+
+        // then
+        assertThat(result).extracting("title").containsExactlyInAnyOrder("클린 코드", "클린 아키텍처");
+    }
+
+    @Test
+    @DisplayName("trigram 이 모두 있어도 연속되지 않으면 검색되지 않는다")
+    void candidatesAreVerified() {
+        // given: "abcd" 와 "bcde" 는 있지만 "abcde" 는 없음
+        repository.save(new Book("978-1-234-56789-7", "abcd xbcde", "저자"));
+
+        // when & then
+        assertThat(repository.findByTitle("abcde")).isEmpty();
+        assertThat(repository.findByTitle("bcde")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("도서를 다시 저장하면 색인이 갱신된다")
+    void saveReplacesIndexEntries() {
+        // when
+        repository.save(new Book("978-1234567897", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(repository.findByTitle("클린 코드")).isEmpty();
+        assertThat(repository.findByTitle("리팩터링")).extracting("isbn").containsExactly("978-1234567897");
+        assertThat(repository.findByAuthor("로버트 마틴")).hasSize(1);
+        assertThat(repository.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제한 도서는 검색되지 않는다")
+    void deleteRemovesIndexEntries() {
+        // when
+        repository.deleteByIsbn("978-0987654328");
+
+        // then
+        assertThat(repository.findByTitle("아키텍처")).isEmpty();
+        assertThat(repository.findByTitle("클린")).hasSize(1);
+        assertThat(repository.existsByIsbn("978-0987654328")).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 ISBN 을 한 번에 조회하면 요청한 표기를 키로 돌려준다")
+    void findAllByIsbns() {
+        // when
+        Map<String, Book> result = repository.findAllByIsbns(List.of("9781234567897", "978-1111111113", "978-0306406157"));
+
+        // then
+        assertThat(result).containsOnlyKeys("9781234567897", "978-1111111113");
+        assertThat(result.get("9781234567897").getTitle()).isEqualTo("클린 코드");
+    }
+
+    @Test
+    @DisplayName("선형 탐색 저장소와 같은 검색 결과를 반환한다")
+    void matchesLinearScan() {
+        // given
+        String[] words = {"클린", "코드", "자바", "리팩터링", "패턴", "Design", "Patterns", "테스트", "주도", "개발"};
+        Random random = new Random(42);
+        InMemoryBookRepository linear = new InMemoryBookRepository();
+        repository.clear();
+        for (int i = 0; i < 20_000; i++) {
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + i;
+            String author = "저자" + random.nextInt(500);
+            Book book = new Book(isbn(i), title, author);
+            linear.save(book);
+            repository.save(book);
+        }
+
+        // when & then
+        for (String query : new String[]{"클린 코", "design pa", "리팩터", "자바 1234", "0", "패턴 패턴", "없는 제목"}) {
+            assertThat(repository.findByTitle(query))
+                .containsExactlyInAnyOrderElementsOf(linear.findByTitle(query));
+        }
+        assertThat(repository.findByAuthor("저자12")).containsExactlyInAnyOrderElementsOf(linear.findByAuthor("저자12"));
+
+        long started = System.nanoTime();
+        int found = repository.findByTitle("자바 1234").size();
+        long indexed = System.nanoTime() - started;
+        started = System.nanoTime();
+        linear.findByTitle("자바 1234");
+        long scanned = System.nanoTime() - started;
+        System.out.printf("20,000권 검색(%d건): 색인 %dµs, 선형 탐색 %dµs%n", found, indexed / 1_000, scanned / 1_000);
+    }
+
+    @Test
+    @DisplayName("ISBN 키 순으로 페이지를 나눠 읽는다")
+    void pagesByIsbnKey() {
+        // when
+        List<Book> first = repository.findAllAfter(null, 3);
+        repository.deleteByIsbn("978-1234567897");
+        repository.save(new Book("978-0306406157", "리팩터링", "마틴 파울러"));
+        List<Book> second = repository.findAllAfter(first.get(2).getIsbn(), 3);
+
+        // then
+        assertThat(first).extracting("isbn").containsExactly("978-0000000002", "978-0987654328", "978-1111111113");
+        assertThat(second).isEmpty();
+        assertThat(repository.findAllAfter("978-0000000002", 2)).extracting("isbn")
+            .containsExactly("978-0306406157", "978-0987654328");
+        assertThatThrownBy(() -> repository.findAllAfter("잘못된 ISBN", 2))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("덮어쓰기와 삭제가 반복되어도 문서 번호 목록이 늘어나지 않고 검색 결과가 유지된다")
+    void compactsDeletedDocuments() {
+        // given
+        Random random = new Random(7);
+        InMemoryBookRepository linear = new InMemoryBookRepository();
+        repository.clear();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            String isbn = isbn(1 + random.nextInt(200));
+            if (random.nextInt(4) == 0) {
+                linear.deleteByIsbn(isbn);
+                repository.deleteByIsbn(isbn);
+            } else {
+                Book book = new Book(isbn, "클린 코드 " + random.nextInt(50), "저자" + random.nextInt(20));
+                linear.save(book);
+                repository.save(book);
+            }
+        }
+
+        // then
+        assertThat(repository.documentCount()).isLessThanOrEqualTo(2 * repository.size() + 1);
+        for (String query : new String[]{"클린 코드 1", "코드 4", "드", "없는 제목"}) {
+            assertThat(repository.findByTitle(query))
+                .containsExactlyInAnyOrderElementsOf(linear.findByTitle(query));
+        }
+        assertThat(repository.findByAuthor("저자1")).containsExactlyInAnyOrderElementsOf(linear.findByAuthor("저자1"));
+    }
+
+    @Test
+    @DisplayName("stream 은 ISBN 키 순으로 흘려보내고 병렬로 나눠도 빠짐없이 읽는다")
+    void streamsByIsbnKey() {
+        // given
+        repository.clear();
+        for (int serial = 1; serial <= 5_000; serial++) {
+            repository.save(new Book(isbn(serial * 7), "도서 " + serial, "저자"));
+        }
+        Iterator<Book> iterator = repository.stream().iterator();
+        Book first = iterator.next();
+        repository.deleteByIsbn(isbn(7_000)); // 읽기 시작한 뒤 뒤쪽 페이지에서 삭제
+        List<Book> rest = new ArrayList<>();
+        iterator.forEachRemaining(rest::add);
+
+        // when
+        List<Book> sequential = repository.stream().toList();
+        List<Book> parallel = repository.stream().parallel().toList();
+
+        // then
+        assertThat(first.getIsbn()).isEqualTo(isbn(7));
+        assertThat(rest).hasSize(5_000 - 2).extracting("isbn").doesNotContain(isbn(7_000));
+        assertThat(sequential).hasSize(5_000 - 1).containsExactlyElementsOf(repository.findAll());
+        assertThat(sequential).isSortedAccordingTo(Comparator.comparingLong(Book::getIsbnKey));
+        assertThat(parallel).containsExactlyElementsOf(sequential);
+    }
+
+    // 978 + 일련번호 9자리 + 체크 숫자
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
@@ -0,0 +1,291 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.User;
+import com.example.books.service.AsyncNotificationService.OverflowPolicy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AsyncNotificationService 테스트")
+class AsyncNotificationServiceTest {
+
+    private final User user = new User("user1", "테스트사용자", "test@example.com", 5);
+    private final Book book = new Book("978-1234567897", "테스트도서", "테스트저자");
+
+    @Test
+    @DisplayName("알림을 작업 스레드에서 발송하고 종료 시 남은 알림을 모두 발송한다")
+    void sendsAsynchronouslyAndDrainsOnClose() {
+        // given
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        AsyncNotificationService service = new AsyncNotificationService(delegate, 100, 2, OverflowPolicy.BLOCK);
+
+        // when
+        for (int i = 0; i < 50; i++) {
+            service.sendOverdueNotification(user, book, i);
+        }
+        service.sendLoanConfirmation(user, book);
+        service.sendDueDateReminder(user, book, 3);
+        service.close();
+
+        // then
+        assertThat(delegate.sent).hasSize(52).contains("loan", "reminder:3", "overdue:0", "overdue:49");
+        assertThat(service.getSentCount()).isEqualTo(52);
+        assertThat(service.getQueueDepth()).isZero();
+        assertThatThrownBy(() -> service.sendReturnConfirmation(user, book))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책은 큐가 가득 차면 가장 오래된 알림을 버린다")
+    void dropOldestWhenFull() throws Exception {
+        // given: 첫 알림을 발송 중인 상태에서 큐(2칸)가 가득 참
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(delegate, 2, 1, OverflowPolicy.DROP_OLDEST);
+        service.sendOverdueNotification(user, book, 0);
+        delegate.awaitStarted();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            service.sendOverdueNotification(user, book, i);
+        }
+        delegate.release();
+        service.close();
+
+        // then
+        assertThat(delegate.sent).containsExactly("overdue:0", "overdue:4", "overdue:5");
+        assertThat(service.getDroppedCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SPILL_TO_DISK 정책은 넘친 알림을 파일에 기록했다가 발송한다")
+    void spillToDiskWhenFull(@TempDir Path tempDir) throws Exception {
+        // given
+        Path spillFile = tempDir.resolve("notifications.spill");
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(
+            delegate, 2, 1, 10, OverflowPolicy.SPILL_TO_DISK, spillFile);
+        service.sendOverdueNotification(user, book, 0);
+        delegate.awaitStarted();
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            service.sendOverdueNotification(user, book, i);
+        }
+        long spilled = service.getSpilledPending();
+        delegate.release();
+        service.close();
+
+        // then
+        assertThat(spilled).isEqualTo(3);
+        assertThat(delegate.sent).containsExactlyInAnyOrder(
+            "overdue:0", "overdue:1", "overdue:2", "overdue:3", "overdue:4", "overdue:5");
+        assertThat(service.getSpilledCount()).isEqualTo(3);
+        assertThat(service.getSpilledPending()).isZero();
+        assertThat(Files.exists(spillFile)).isFalse();
+    }
+
+    @Test
+    @DisplayName("연체 묶음 알림도 파일에 기록했다가 그대로 발송한다")
+    void spillsOverdueDigest(@TempDir Path tempDir) throws Exception {
+        // given
+        Book other = new Book("978-0987654328", "다른도서", "다른저자");
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(
+            delegate, 1, 1, 10, OverflowPolicy.SPILL_TO_DISK, tempDir.resolve("notifications.spill"));
+        service.sendLoanConfirmation(user, book);
+        delegate.awaitStarted();
+        service.sendLoanConfirmation(user, book);
+
+        // when
+        Map<Book, Long> digest = new LinkedHashMap<>();
+        digest.put(book, 3L);
+        digest.put(other, 7L);
+        service.sendOverdueDigest(user, digest);
+        delegate.release();
+        service.close();
+
+        // then: 위임 대상이 묶음 발송을 지원하지 않으므로 기본 구현이 건별로 발송
+        assertThat(service.getSpilledCount()).isEqualTo(1);
+        assertThat(delegate.sent).containsExactly("loan", "loan", "overdue:3", "overdue:7");
+    }
+
+    @Test
+    @DisplayName("기록해 둔 알림을 읽지 못해도 작업 스레드는 계속 발송하고 종료할 수 있다")
+    void survivesFailingSpillRead(@TempDir Path tempDir) throws Exception {
+        // given: 넘친 알림 3건을 기록한 뒤 파일을 망가뜨린다
+        Path spillFile = tempDir.resolve("notifications.spill");
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(
+            delegate, 2, 1, 10, OverflowPolicy.SPILL_TO_DISK, spillFile);
+        service.sendOverdueNotification(user, book, 0);
+        delegate.awaitStarted();
+        for (int i = 1; i <= 5; i++) {
+            service.sendOverdueNotification(user, book, i);
+        }
+        Files.write(spillFile, new byte[] {0, 0});
+
+        // when
+        delegate.release();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (service.getSpilledPending() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        service.sendLoanConfirmation(user, book);
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(service::close);
+
+        // then
+        closing.get(5, TimeUnit.SECONDS);
+        assertThat(delegate.sent).containsExactly("overdue:0", "overdue:1", "overdue:2", "loan");
+        assertThat(service.getSpillErrorCount()).isEqualTo(AsyncNotificationService.MAX_SPILL_READ_ATTEMPTS);
+        assertThat(service.getFailedCount()).isEqualTo(3);
+        assertThat(service.getSpilledPending()).isZero();
+        assertThat(Files.exists(spillFile)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록해 둔 알림은 배치 크기만큼씩 나눠 읽는다")
+    void replaysSpillInBatches(@TempDir Path tempDir) throws Exception {
+        // given: 배치 크기 2, 넘친 알림 5건
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(
+            delegate, 2, 1, 2, OverflowPolicy.SPILL_TO_DISK, tempDir.resolve("notifications.spill"));
+        service.sendOverdueNotification(user, book, 0);
+        delegate.awaitStarted();
+        for (int i = 1; i <= 7; i++) {
+            service.sendOverdueNotification(user, book, i);
+        }
+
+        // when
+        long spilled = service.getSpilledPending();
+        delegate.release();
+        service.close();
+
+        // then
+        assertThat(spilled).isEqualTo(5);
+        assertThat(delegate.sent).hasSize(8).doesNotHaveDuplicates();
+        assertThat(service.getSpillErrorCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("BLOCK 정책은 큐에 자리가 날 때까지 호출 스레드를 기다리게 한다")
+    void blockWhenFull() throws Exception {
+        // given
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        delegate.hold();
+        AsyncNotificationService service = new AsyncNotificationService(delegate, 1, 1, OverflowPolicy.BLOCK);
+        service.sendOverdueNotification(user, book, 0);
+        delegate.awaitStarted();
+        service.sendOverdueNotification(user, book, 1);
+
+        // when
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(() -> service.sendOverdueNotification(user, book, 2));
+
+        // then
+        assertThatThrownBy(() -> blocked.get(200, TimeUnit.MILLISECONDS))
+            .isInstanceOf(TimeoutException.class);
+        delegate.release();
+        blocked.get(5, TimeUnit.SECONDS);
+        service.close();
+        assertThat(delegate.sent).containsExactly("overdue:0", "overdue:1", "overdue:2");
+    }
+
+    @Test
+    @DisplayName("발송에 실패해도 다음 알림을 계속 발송하고 메트릭에 기록한다")
+    void failuresAreCountedAndDoNotStopWorkers() {
+        // given
+        RecordingNotificationService delegate = new RecordingNotificationService();
+        AsyncNotificationService service = new AsyncNotificationService(delegate, 10, 1, OverflowPolicy.BLOCK);
+
+        // when
+        service.sendReturnConfirmation(user, book); // 반납 확인은 실패하도록 설정됨
+        service.sendLoanConfirmation(user, book);
+        service.close();
+
+        // then
+        assertThat(delegate.sent).containsExactly("loan");
+        assertThat(service.getFailedCount()).isEqualTo(1);
+        assertThat(service.getSentCount()).isEqualTo(1);
+        assertThat(service.getMaxSendLatencyNanos()).isPositive();
+        assertThat(service.getAverageSendLatencyNanos()).isPositive();
+    }
+
+    @Test
+    @DisplayName("SPILL_TO_DISK 정책에는 파일 경로가 필요하다")
+    void spillRequiresFile() {
+        assertThatThrownBy(() -> new AsyncNotificationService(
+                new RecordingNotificationService(), 10, 1, OverflowPolicy.SPILL_TO_DISK))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("SPILL_TO_DISK 정책에는 기록할 파일이 필요합니다");
+    }
+
+    private static class RecordingNotificationService implements NotificationService {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch started = new CountDownLatch(1);
+        private volatile CountDownLatch gate;
+
+        void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void awaitStarted() throws InterruptedException {
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Override
+        public void sendLoanConfirmation(User user, Book book) {
+            record("loan");
+        }
+
+        @Override
+        public void sendReturnConfirmation(User user, Book book) {
+            throw new IllegalStateException("메일 서버 오류");
+        }
+
+        @Override
+        public void sendOverdueNotification(User user, Book book, long overdueDays) {
+            record("overdue:" + overdueDays);
+        }
+
+        @Override
+        public void sendDueDateReminder(User user, Book book, int daysUntilDue) {
+            record("reminder:" + daysUntilDue);
+        }
+
+        private void record(String message) {
+            started.countDown();
+            CountDownLatch current = gate;
+            if (current != null) {
+                try {
+                    current.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            sent.add(message);
+        }
+    }
+}
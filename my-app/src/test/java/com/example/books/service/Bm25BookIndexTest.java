@@ -0,0 +1,120 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Bm25BookIndex 테스트")
+class Bm25BookIndexTest {
+
+    private Bm25BookIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new Bm25BookIndex();
+        index.add(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        index.add(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        index.add(new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
+        index.add(new Book("978-0000000002", "Effective Java Effective Programming", "Joshua Bloch"));
+    }
+
+    @Test
+    @DisplayName("검색어가 더 많이 맞는 도서가 앞에 온다")
+    void ranksByMatchedTerms() {
+        // when
+        List<SearchHit> hits = index.search("클린 코드", 10);
+
+        // then
+        assertThat(hits).extracting(hit -> hit.getBook().getTitle()).containsExactly("클린 코드", "클린 아키텍처");
+        assertThat(hits.get(0).getScore()).isGreaterThan(hits.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("제목과 저자를 함께 검색하고 영문은 대소문자를 구분하지 않는다")
+    void searchesTitleAndAuthor() {
+        assertThat(index.search("마틴", 10)).hasSize(2);
+        assertThat(index.search("EFFECTIVE bloch", 10)).extracting(hit -> hit.getBook().getIsbn())
+            .containsExactly("978-0000000002");
+        assertThat(index.search("없는단어", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단어 빈도가 높을수록, 드문 단어일수록 점수가 높다")
+    void scoreFollowsBm25() {
+        // given: 문서 4건 중 1건에만 2번 등장 (제목+저자 길이 6, 평균 길이 4.5)
+        double idf = Math.log(1 + (4 - 1 + 0.5) / (1 + 0.5));
+        double norm = Bm25BookIndex.K1 * (1 - Bm25BookIndex.B + Bm25BookIndex.B * 6 / 4.5);
+        double expected = idf * 2 * (Bm25BookIndex.K1 + 1) / (2 + norm);
+
+        // when
+        List<SearchHit> hits = index.search("effective", 10);
+
+        // then
+        assertThat(hits).hasSize(1);
+        assertThat(hits.get(0).getScore()).isCloseTo(expected, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("상위 limit 건만 돌려주고 삭제/재등록이 반영된다")
+    void limitAndUpdates() {
+        // when
+        index.onRemoved("9781234567897");
+        index.add(new Book("978-0987654328", "리팩터링", "마틴 파울러"));
+
+        // then
+        assertThat(index.size()).isEqualTo(3);
+        assertThat(index.search("클린", 10)).isEmpty();
+        assertThat(index.search("마틴", 1)).extracting(hit -> hit.getBook().getTitle()).containsExactly("리팩터링");
+    }
+
+    @Test
+    @DisplayName("상위 K 결과가 전체 점수를 정렬한 결과와 같다")
+    void topKMatchesFullSort() {
+        // given
+        Bm25BookIndex large = new Bm25BookIndex();
+        Random random = new Random(7);
+        String[] words = {"자바", "코드", "클린", "설계", "패턴", "테스트", "리팩터링", "객체", "함수", "도메인"};
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder title = new StringBuilder();
+            for (int w = 0; w < 1 + random.nextInt(5); w++) {
+                title.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            large.add(new Book(isbn(i), title.toString().trim(), "저자" + random.nextInt(50)));
+        }
+
+        // when
+        List<SearchHit> top = large.search("클린 테스트 도메인", 20);
+        List<SearchHit> all = new ArrayList<>(large.search("클린 테스트 도메인", 10_000));
+        all.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+
+        // then
+        assertThat(top).hasSize(20);
+        assertThat(top).extracting(SearchHit::getScore)
+            .containsExactlyElementsOf(all.subList(0, 20).stream().map(SearchHit::getScore).toList());
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 0 이하의 결과 수는 허용하지 않는다")
+    void rejectsInvalidArguments() {
+        assertThatThrownBy(() -> index.search(" ", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> index.search("클린", 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
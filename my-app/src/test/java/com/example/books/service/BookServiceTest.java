@@ -7,9 +7,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -35,14 +37,14 @@ class BookServiceTest {
     @DisplayName("새로운 도서를 정상적으로 등록할 수 있다")
     void registerNewBook() {
         // given
-        Book book = new Book("978-1234567890", "클린 코드", "로버트 마틴");
-        when(bookRepository.existsByIsbn("978-1234567890")).thenReturn(false);
+        Book book = new Book("978-1234567897", "클린 코드", "로버트 마틴");
+        when(bookRepository.existsByIsbn("978-1234567897")).thenReturn(false);
         
         // when
         bookService.register(book);
         
         // then
-        verify(bookRepository).existsByIsbn("978-1234567890");
+        verify(bookRepository).existsByIsbn("978-1234567897");
         verify(bookRepository).save(book);
     }
     
@@ -50,7 +52,7 @@ class BookServiceTest {
     @DisplayName("중복된 ISBN의 도서 등록 시 예외가 발생한다")
     void registerDuplicateBook() {
         // given
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         Book book = new Book(isbn, "제목", "저자");
         when(bookRepository.existsByIsbn(isbn)).thenReturn(true);
         
@@ -67,7 +69,7 @@ class BookServiceTest {
     @DisplayName("ISBN으로 도서를 찾을 수 있다")
     void findBookByIsbn() {
         // given
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         Book expectedBook = new Book(isbn, "클린 코드", "로버트 마틴");
         when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(expectedBook));
         
@@ -84,7 +86,7 @@ class BookServiceTest {
     @DisplayName("존재하지 않는 ISBN으로 검색 시 빈 결과를 반환한다")
     void findNonExistentBook() {
         // given
-        String isbn = "978-0000000000";
+        String isbn = "978-0000000002";
         when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.empty());
         
         // when
@@ -117,8 +119,8 @@ class BookServiceTest {
         // given
         String title = "클린";
         List<Book> expectedBooks = Arrays.asList(
-            new Book("978-1234567890", "클린 코드", "로버트 마틴"),
-            new Book("978-0987654321", "클린 아키텍처", "로버트 마틴")
+            new Book("978-1234567897", "클린 코드", "로버트 마틴"),
+            new Book("978-0987654328", "클린 아키텍처", "로버트 마틴")
         );
         when(bookRepository.findByTitle(title)).thenReturn(expectedBooks);
         
@@ -131,14 +133,38 @@ class BookServiceTest {
         verify(bookRepository).findByTitle(title);
     }
     
+    @Test
+    @DisplayName("초성으로 도서를 검색할 수 있다")
+    void searchBooksByHangul() {
+        // given
+        List<Book> expectedBooks = List.of(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        when(bookRepository.findByTitleHangul("ㅋㄹㅋㄷ")).thenReturn(expectedBooks);
+        
+        // when
+        List<Book> result = bookService.searchByHangul("ㅋㄹㅋㄷ");
+        
+        // then
+        assertThat(result).isEqualTo(expectedBooks);
+        verify(bookRepository).findByTitleHangul("ㅋㄹㅋㄷ");
+    }
+    
+    @Test
+    @DisplayName("빈 검색어로 한글 검색 시 예외가 발생한다")
+    void searchByHangulWithBlankQuery() {
+        // when & then
+        assertThatThrownBy(() -> bookService.searchByHangul(" "))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("검색할 제목이 필요합니다");
+    }
+    
     @Test
     @DisplayName("저자명으로 도서를 검색할 수 있다")
     void searchBooksByAuthor() {
         // given
         String author = "로버트 마틴";
         List<Book> expectedBooks = Arrays.asList(
-            new Book("978-1234567890", "클린 코드", "로버트 마틴"),
-            new Book("978-0987654321", "클린 아키텍처", "로버트 마틴")
+            new Book("978-1234567897", "클린 코드", "로버트 마틴"),
+            new Book("978-0987654328", "클린 아키텍처", "로버트 마틴")
         );
         when(bookRepository.findByAuthor(author)).thenReturn(expectedBooks);
         
@@ -155,7 +181,7 @@ class BookServiceTest {
     @DisplayName("도서를 삭제할 수 있다")
     void removeBook() {
         // given
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         when(bookRepository.existsByIsbn(isbn)).thenReturn(true);
         
         // when
@@ -170,7 +196,7 @@ class BookServiceTest {
     @DisplayName("존재하지 않는 도서 삭제 시 예외가 발생한다")
     void removeNonExistentBook() {
         // given
-        String isbn = "978-0000000000";
+        String isbn = "978-0000000002";
         when(bookRepository.existsByIsbn(isbn)).thenReturn(false);
         
         // when & then
@@ -181,4 +207,91 @@ class BookServiceTest {
         verify(bookRepository).existsByIsbn(isbn);
         verify(bookRepository, never()).deleteByIsbn(any());
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("카탈로그 리스너는 기존 도서를 먼저 받고 이후 등록/삭제를 통지받는다")
+    void catalogListenerReceivesBackfillAndChanges() {
+        // given
+        Book existing = new Book("978-1234567897", "클린 코드", "로버트 마틴");
+        Book added = new Book("978-0987654328", "클린 아키텍처", "로버트 마틴");
+        CatalogListener listener = mock(CatalogListener.class);
+        when(bookRepository.findAll()).thenReturn(List.of(existing));
+        when(bookRepository.existsByIsbn(added.getIsbn())).thenReturn(false);
+        when(bookRepository.existsByIsbn(existing.getIsbn())).thenReturn(true);
+        
+        // when
+        bookService.addCatalogListener(listener);
+        bookService.register(added);
+        bookService.removeBook(existing.getIsbn());
+        
+        // then
+        InOrder inOrder = inOrder(listener);
+        inOrder.verify(listener).onRegistered(existing);
+        inOrder.verify(listener).onRegistered(added);
+        inOrder.verify(listener).onRemoved(existing.getIsbn());
+    }
+    
+    @Test
+    @DisplayName("검색 캐시를 켜면 같은 검색어는 저장소를 다시 조회하지 않는다")
+    void cachedSearchSkipsRepository() {
+        // given
+        BookService cached = new BookService(bookRepository, 100, Duration.ofMinutes(1));
+        Book book = new Book("978-1234567897", "해리포터와 마법사의 돌", "J.K. 롤링");
+        when(bookRepository.findByTitle("해리포터")).thenReturn(List.of(book));
+        
+        // when
+        List<Book> first = cached.searchByTitle("해리포터");
+        List<Book> second = cached.searchByTitle("해리포터");
+        
+        // then
+        assertThat(first).containsExactly(book);
+        assertThat(second).containsExactly(book);
+        verify(bookRepository, times(1)).findByTitle("해리포터");
+    }
+    
+    @Test
+    @DisplayName("도서 등록/삭제 시 결과가 바뀌는 검색어만 캐시에서 지운다")
+    void registerAndRemoveInvalidateMatchingSearches() {
+        // given
+        BookService cached = new BookService(bookRepository, 100, Duration.ofMinutes(1));
+        Book harry = new Book("978-1234567897", "해리포터와 비밀의 방", "J.K. 롤링");
+        when(bookRepository.findByTitle("해리포터")).thenReturn(List.of());
+        when(bookRepository.findByAuthor("마틴")).thenReturn(List.of());
+        when(bookRepository.existsByIsbn(harry.getIsbn())).thenReturn(false, true);
+        when(bookRepository.findByIsbn(harry.getIsbn())).thenReturn(Optional.of(harry));
+        cached.searchByTitle("해리포터");
+        cached.searchByAuthor("마틴");
+        
+        // when
+        cached.register(harry);
+        cached.searchByTitle("해리포터");
+        cached.searchByAuthor("마틴");
+        cached.removeBook(harry.getIsbn());
+        cached.searchByTitle("해리포터");
+        cached.searchByAuthor("마틴");
+        
+        // then
+        verify(bookRepository, times(3)).findByTitle("해리포터");
+        verify(bookRepository, times(1)).findByAuthor("마틴");
+    }
+    
+    @Test
+    @DisplayName("일괄 등록은 검색 캐시를 요청마다 한 번만 무효화한다")
+    void registerAllInvalidatesSearchesOnce() {
+        // given
+        SearchResultCache cache = spy(new SearchResultCache(100, Duration.ofMinutes(1)));
+        BookService cached = new BookService(bookRepository, cache);
+        List<Book> books = List.of(
+            new Book("978-1234567897", "클린 코드", "로버트 마틴"),
+            new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"),
+            new Book("978-1111111113", "이펙티브 자바", "조슈아 블로크"));
+        when(bookRepository.saveIfAbsent(any(Book.class))).thenReturn(true);
+        
+        // when
+        cached.registerAll(books);
+        
+        // then
+        verify(cache, times(1)).invalidate(books);
+        verify(cache, never()).invalidate(any(Book.class));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.books.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DayTimingWheel 테스트")
+class DayTimingWheelTest {
+
+    @Test
+    @DisplayName("예약한 날에 만료되고 취소한 항목은 만료되지 않는다")
+    void firesOnScheduledDay() {
+        // given
+        DayTimingWheel<String> wheel = new DayTimingWheel<>(100);
+        wheel.schedule(101, "tomorrow");
+        wheel.schedule(103, "in three days");
+        DayTimingWheel.Timer<String> cancelled = wheel.schedule(102, "cancelled");
+
+        // when
+        boolean first = cancelled.cancel();
+        boolean second = cancelled.cancel();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(wheel.advanceTo(101)).containsExactly("tomorrow");
+        assertThat(wheel.advanceTo(102)).isEmpty();
+        assertThat(wheel.advanceTo(110)).containsExactly("in three days");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 날짜로 예약하면 다음 진행 때 만료된다")
+    void pastDayFiresOnNextAdvance() {
+        // given
+        DayTimingWheel<String> wheel = new DayTimingWheel<>(100);
+
+        // when
+        wheel.schedule(90, "past");
+        wheel.schedule(100, "today");
+
+        // then
+        assertThat(wheel.advanceTo(100)).containsExactly("past", "today");
+    }
+
+    @Test
+    @DisplayName("상위 단계로 예약된 항목도 정확한 날에 만료된다")
+    void matchesBruteForceAcrossLevels() {
+        // given: 최대 약 30만 일 뒤까지 무작위 예약, 일부 취소
+        long start = 20_000;
+        DayTimingWheel<Integer> wheel = new DayTimingWheel<>(start);
+        Random random = new Random(42);
+        Map<Integer, Long> expected = new HashMap<>();
+        List<DayTimingWheel.Timer<Integer>> timers = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            long day = start + 1 + (random.nextBoolean() ? random.nextInt(5_000) : random.nextInt(300_000));
+            timers.add(wheel.schedule(day, i));
+            expected.put(i, day);
+        }
+        for (int i = 0; i < 5_000; i += 7) {
+            timers.get(i).cancel();
+            expected.remove(i);
+        }
+
+        // when: 불규칙한 간격으로 진행
+        Map<Integer, Long> actual = new HashMap<>();
+        long day = start;
+        while (day < start + 300_001) {
+            day += 1 + random.nextInt(3);
+            for (Integer fired : wheel.advanceTo(day)) {
+                actual.put(fired, day);
+                assertThat(expected.get(fired)).isBetween(day - 2, day);
+            }
+        }
+
+        // then
+        assertThat(actual.keySet()).isEqualTo(expected.keySet());
+        assertThat(wheel.size()).isZero();
+    }
+}
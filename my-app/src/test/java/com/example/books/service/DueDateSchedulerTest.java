@@ -0,0 +1,174 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+import com.example.books.Loan;
+import com.example.books.LoanStatus;
+import com.example.books.User;
+import com.example.books.repository.BookRepository;
+import com.example.books.repository.InMemoryLoanRepository;
+import com.example.books.repository.UserRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DueDateScheduler 테스트")
+class DueDateSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 1);
+
+    @Mock private UserRepository userRepository;
+    @Mock private BookRepository bookRepository;
+    @Mock private NotificationService notificationService;
+
+    private InMemoryLoanRepository loanRepository;
+    private DueDateScheduler scheduler;
+    private final User user = new User("user1", "테스트사용자", "test@example.com", 5);
+    private final Book book = new Book("978-1234567897", "테스트도서", "테스트저자");
+
+    @BeforeEach
+    void setUp() {
+        loanRepository = new InMemoryLoanRepository();
+        scheduler = new DueDateScheduler(loanRepository, userRepository, bookRepository, notificationService, 3, TODAY);
+    }
+
+    @Test
+    @DisplayName("반납 예정일 며칠 전에 알림을 보내고 다음 날 연체로 전환한다")
+    void remindsThenMarksOverdue() {
+        // given
+        Loan loan = new Loan("loan1", "user1", "978-1234567897", TODAY, 14);
+        loanRepository.save(loan);
+        scheduler.register(loan);
+        when(userRepository.findAllByIds(Set.of("user1"))).thenReturn(Map.of("user1", user));
+        when(bookRepository.findAllByIsbns(Set.of("978-1234567897"))).thenReturn(Map.of("978-1234567897", book));
+
+        // when & then
+        assertThat(scheduler.tick(TODAY.plusDays(10))).isZero();
+        assertThat(scheduler.tick(TODAY.plusDays(11))).isEqualTo(1);
+        verify(notificationService).sendDueDateReminder(user, book, 3);
+
+        assertThat(scheduler.tick(TODAY.plusDays(14))).isZero();
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.ACTIVE);
+
+        assertThat(scheduler.tick(TODAY.plusDays(15))).isEqualTo(1);
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.OVERDUE);
+        assertThat(loanRepository.findByStatus(LoanStatus.OVERDUE)).containsExactly(loan);
+        assertThat(loanRepository.isBookAvailable("978-1234567897")).isFalse();
+        assertThat(scheduler.scheduledCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반납하면 예약된 알림과 연체 전환이 취소된다")
+    void returnCancelsSchedule() {
+        // given
+        Loan loan = new Loan("loan1", "user1", "978-1234567897", TODAY, 14);
+        scheduler.onLoaned(loan);
+
+        // when
+        loan.returnBook(TODAY.plusDays(5));
+        scheduler.onReturned(loan);
+
+        // then
+        assertThat(scheduler.scheduledCount()).isZero();
+        assertThat(scheduler.tick(TODAY.plusDays(30))).isZero();
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("여러 날을 한 번에 진행하면 지난 알림은 건너뛰고 연체로 전환한다")
+    void catchUpSkipsStaleReminders() {
+        // given
+        Loan loan = new Loan("loan1", "user1", "978-1234567897", TODAY, 14);
+        loanRepository.save(loan);
+        scheduler.registerActiveLoans();
+
+        // when
+        int fired = scheduler.tick(TODAY.plusDays(20));
+
+        // then
+        assertThat(fired).isEqualTo(2);
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.OVERDUE);
+        verifyNoInteractions(notificationService);
+    }
+
+    @Test
+    @DisplayName("연체된 도서도 반납할 수 있다")
+    void overdueLoanCanBeReturned() {
+        // given
+        Loan loan = new Loan("loan1", "user1", "978-1234567897", TODAY, 14);
+        loan.markOverdue();
+
+        // when
+        loan.returnBook(TODAY.plusDays(20));
+
+        // then
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
+        assertThatThrownBy(loan::markOverdue).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("연체 전환과 동시에 반납해도 반납 상태와 활성 대출 색인이 되살아나지 않는다")
+    void concurrentReturnWinsOverOverdue() throws Exception {
+        for (int round = 0; round < 20; round++) {
+            // given
+            InMemoryLoanRepository repository = new InMemoryLoanRepository();
+            DueDateScheduler roundScheduler =
+                new DueDateScheduler(repository, userRepository, bookRepository, notificationService, 0, TODAY);
+            List<Loan> loans = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Loan loan = new Loan("loan" + i, "user1", "isbn-" + i, TODAY, 14);
+                repository.save(loan);
+                roundScheduler.register(loan);
+                loans.add(loan);
+            }
+            roundScheduler.tick(TODAY.plusDays(14)); // 반납 알림은 미리 소진
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            Thread ticker = new Thread(() -> {
+                awaitQuietly(start);
+                roundScheduler.tick(TODAY.plusDays(15));
+            });
+            Thread returner = new Thread(() -> {
+                awaitQuietly(start);
+                for (Loan loan : loans) {
+                    loan.returnBook(TODAY.plusDays(15));
+                    repository.save(loan);
+                }
+            });
+            ticker.start();
+            returner.start();
+            start.countDown();
+            ticker.join();
+            returner.join();
+
+            // then
+            assertThat(loans).allMatch(loan -> loan.getStatus() == LoanStatus.RETURNED);
+            assertThat(repository.findByStatus(LoanStatus.OVERDUE)).isEmpty();
+            assertThat(repository.countActiveLoansByUserId("user1")).isZero();
+            assertThat(loans).allMatch(loan -> repository.isBookAvailable(loan.getIsbn()));
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
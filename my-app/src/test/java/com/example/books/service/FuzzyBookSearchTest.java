@@ -0,0 +1,72 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FuzzyBookSearch 테스트")
+class FuzzyBookSearchTest {
+
+    private FuzzyBookSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = new FuzzyBookSearch();
+        search.add(new Book("978-1234567897", "Clean Code", "Robert Martin"));
+        search.add(new Book("978-0987654328", "Clean Architecture", "Robert Martin"));
+        search.add(new Book("978-1111111113", "Refactoring", "Martin Fowler"));
+        search.add(new Book("978-0000000002", "이펙티브 자바", "조슈아 블로크"));
+    }
+
+    @Test
+    @DisplayName("철자가 틀린 저자명으로도 도서를 찾는다")
+    void toleratesTypos() {
+        assertThat(search.search("Robret Martn", 2)).extracting(Book::getTitle)
+            .containsExactly("Clean Architecture", "Clean Code");
+        assertThat(search.search("fowlr", 1)).extracting(Book::getTitle).containsExactly("Refactoring");
+        assertThat(search.search("조수아", 1)).extracting(Book::getTitle).containsExactly("이펙티브 자바");
+    }
+
+    @Test
+    @DisplayName("편집 거리가 작은 도서가 앞에 온다")
+    void ranksByDistance() {
+        // when
+        search.add(new Book("978-89-6626-262-5", "Clean Coder", "Robert Martin"));
+
+        // then
+        assertThat(search.search("clean code", 1)).extracting(Book::getTitle)
+            .containsExactly("Clean Code", "Clean Coder");
+    }
+
+    @Test
+    @DisplayName("허용 오타 수를 넘으면 찾지 않는다")
+    void respectsMaxEdits() {
+        assertThat(search.search("Robret", 1)).isEmpty();
+        assertThat(search.search("Robret", 2)).hasSize(2);
+        assertThat(search.search("martin", 0)).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("삭제한 도서는 검색되지 않는다")
+    void removedBooksAreNotFound() {
+        // when
+        search.onRemoved("9781111111113");
+
+        // then
+        assertThat(search.search("fowler", 0)).isEmpty();
+        assertThat(search.search("martin", 0)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("허용 오타 수는 0~2 사이여야 한다")
+    void rejectsInvalidMaxEdits() {
+        assertThatThrownBy(() -> search.search("martin", 3))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("허용 오타 수는 0~2 사이여야 합니다");
+        assertThatThrownBy(() -> search.search(" ", 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
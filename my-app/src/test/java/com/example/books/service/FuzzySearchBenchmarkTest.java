@@ -0,0 +1,81 @@
+package com.example.books.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 기본 빌드에서는 제외된다: mvn test -Dgroups=benchmark -Dtest.excludedGroups=
+ */
+@Tag("benchmark")
+@DisplayName("오타 허용 검색 성능")
+class FuzzySearchBenchmarkTest {
+
+    private static final int TERMS = 1_000_000;
+    private static final int QUERIES = 200;
+
+    @Test
+    @DisplayName("단어 100만 개 사전에서 편집 거리 1~2 검색 시간을 전수 비교와 비교한다")
+    void compareWithBruteForce() {
+        // given
+        Random random = new Random(11);
+        LevenshteinTrie trie = new LevenshteinTrie();
+        List<String> terms = new ArrayList<>(TERMS);
+        while (terms.size() < TERMS) {
+            String term = randomWord(random);
+            if (trie.add(term) == terms.size()) {
+                terms.add(term);
+            }
+        }
+        List<String> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(typo(terms.get(random.nextInt(TERMS)), random));
+        }
+
+        // when
+        for (int maxEdits = 1; maxEdits <= 2; maxEdits++) {
+            long started = System.nanoTime();
+            int found = 0;
+            for (String query : queries) {
+                found += trie.search(query, maxEdits).size();
+            }
+            long trieNanos = (System.nanoTime() - started) / QUERIES;
+
+            started = System.nanoTime();
+            int bruteFound = 0;
+            for (String query : queries.subList(0, 10)) {
+                for (String term : terms) {
+                    bruteFound += LevenshteinTrieTest.levenshtein(query, term) <= maxEdits ? 1 : 0;
+                }
+            }
+            long bruteNanos = (System.nanoTime() - started) / 10;
+
+            // then
+            System.out.printf("단어 %,d개, 편집 거리 %d: trie %.2fms/검색 (평균 %.1f건), 전수 비교 %.1fms/검색%n",
+                TERMS, maxEdits, trieNanos / 1e6, (double) found / QUERIES, bruteNanos / 1e6);
+            assertThat(found).isPositive();
+            assertThat(trieNanos).isLessThan(bruteNanos);
+        }
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 5 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+
+    private static String typo(String term, Random random) {
+        char[] chars = term.toCharArray();
+        chars[random.nextInt(chars.length)] = (char) ('a' + random.nextInt(26));
+        return new String(chars);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.books.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("IsbnBloomFilter 테스트")
+class IsbnBloomFilterTest {
+
+    private static final long BASE = 9_780_000_000_000L;
+
+    @Test
+    @DisplayName("추가한 키는 항상 있을 수도 있다고 답한다")
+    void noFalseNegatives() {
+        // given
+        IsbnBloomFilter filter = new IsbnBloomFilter(10_000, 0.01);
+
+        // when
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(BASE + i * 7);
+        }
+
+        // then
+        for (long i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(BASE + i * 7)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 키 수 안에서는 오탐률이 설정값 근처로 유지된다")
+    void falsePositiveRateStaysNearTarget() {
+        // given
+        IsbnBloomFilter filter = new IsbnBloomFilter(10_000, 0.01);
+        for (long i = 0; i < 10_000; i++) {
+            filter.add(BASE + i * 2);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (long i = 0; i < 100_000; i++) {
+            if (filter.mightContain(BASE + i * 2 + 1)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("예상 키 수를 넘길 추가가 있는지 알려준다")
+    void reportsRemainingCapacity() {
+        // given
+        IsbnBloomFilter filter = new IsbnBloomFilter(10, 0.01);
+        for (long i = 0; i < 8; i++) {
+            filter.add(BASE + i);
+        }
+
+        // when & then
+        assertThat(filter.hasRoomFor(2)).isTrue();
+        assertThat(filter.hasRoomFor(3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 크기나 오탐률로는 만들 수 없다")
+    void rejectsInvalidParameters() {
+        // when & then
+        assertThatThrownBy(() -> new IsbnBloomFilter(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new IsbnBloomFilter(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.books.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("LevenshteinTrie 테스트")
+class LevenshteinTrieTest {
+
+    @Test
+    @DisplayName("편집 거리 이내의 단어를 거리와 함께 찾는다")
+    void findsTermsWithinDistance() {
+        // given
+        LevenshteinTrie trie = new LevenshteinTrie();
+        int martin = trie.add("martin");
+        int marvin = trie.add("marvin");
+        int martini = trie.add("martini");
+        trie.add("fowler");
+
+        // when
+        Map<Integer, Integer> result = toMap(trie.search("matrin", 2));
+
+        // then
+        assertThat(result).containsOnly(entry(martin, 2), entry(marvin, 2));
+        assertThat(toMap(trie.search("martin", 1))).containsOnly(entry(martin, 0), entry(marvin, 1), entry(martini, 1));
+        assertThat(toMap(trie.search("martin", 0))).containsOnly(entry(martin, 0));
+        assertThat(trie.add("martin")).isEqualTo(martin);
+        assertThat(trie.termCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("한글 음절 단위로 편집 거리를 계산한다")
+    void hangulSyllables() {
+        // given
+        LevenshteinTrie trie = new LevenshteinTrie();
+        int id = trie.add("로버트");
+
+        // when & then
+        assertThat(toMap(trie.search("로버투", 1))).containsOnly(entry(id, 1));
+        assertThat(trie.search("로버투", 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무작위 단어 사전에서 전수 비교와 같은 결과를 돌려준다")
+    void matchesBruteForce() {
+        // given
+        Random random = new Random(3);
+        LevenshteinTrie trie = new LevenshteinTrie();
+        List<String> terms = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            String term = randomWord(random);
+            if (trie.add(term) == terms.size()) {
+                terms.add(term);
+            }
+        }
+
+        for (int q = 0; q < 200; q++) {
+            String query = q % 2 == 0 ? randomWord(random) : terms.get(random.nextInt(terms.size()));
+            int maxEdits = q % 3;
+
+            // when
+            Map<Integer, Integer> actual = toMap(trie.search(query, maxEdits));
+
+            // then
+            Map<Integer, Integer> expected = new HashMap<>();
+            for (int id = 0; id < terms.size(); id++) {
+                int distance = levenshtein(query, terms.get(id));
+                if (distance <= maxEdits) {
+                    expected.put(id, distance);
+                }
+            }
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    private static Map<Integer, Integer> toMap(List<LevenshteinTrie.Match> matches) {
+        Map<Integer, Integer> result = new HashMap<>();
+        for (LevenshteinTrie.Match match : matches) {
+            assertThat(result.put(match.termId, match.distance)).isNull();
+        }
+        return result;
+    }
+
+    private static String randomWord(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(6)));
+        }
+        return word.toString();
+    }
+
+    static int levenshtein(String a, String b) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(previous[j - 1] + cost, Math.min(previous[j] + 1, current[j - 1] + 1));
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
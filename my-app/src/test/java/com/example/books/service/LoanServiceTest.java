@@ -7,6 +7,7 @@ import com.example.books.LoanStatus;
 import com.example.books.repository.BookRepository;
 import com.example.books.repository.UserRepository;
 import com.example.books.repository.LoanRepository;
+import com.example.books.repository.ReservationResult;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,9 +17,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,7 +52,7 @@ class LoanServiceTest {
     void loanBookSuccessfully() {
         // given
         String userId = "user123";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         User user = createUser(userId);
         Book book = createBook(isbn);
@@ -54,6 +61,7 @@ class LoanServiceTest {
         when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(book));
         when(loanRepository.isBookAvailable(isbn)).thenReturn(true);
         when(loanRepository.countActiveLoansByUserId(userId)).thenReturn(0);
+        when(loanRepository.reserve(any(Loan.class), eq(5))).thenReturn(ReservationResult.RESERVED);
         
         // when
         Loan loan = loanService.loanBook(userId, isbn);
@@ -65,7 +73,8 @@ class LoanServiceTest {
         assertThat(loan.getDueDate()).isEqualTo(LocalDate.now().plusDays(14));
         assertThat(loan.getStatus()).isEqualTo(LoanStatus.ACTIVE);
         
-        verify(loanRepository).save(loan);
+        verify(loanRepository).reserve(loan, 5);
+        verify(loanRepository, never()).save(any());
         verify(notificationService).sendLoanConfirmation(user, book);
     }
     
@@ -74,7 +83,7 @@ class LoanServiceTest {
     void loanBookWithNonExistentUser() {
         // given
         String userId = "nonexistent";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         when(userRepository.findById(userId)).thenReturn(Optional.empty());
         
@@ -89,7 +98,7 @@ class LoanServiceTest {
     void loanBookWithNonExistentBook() {
         // given
         String userId = "user123";
-        String isbn = "978-0000000000";
+        String isbn = "978-0000000002";
         
         User user = createUser(userId);
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
@@ -106,7 +115,7 @@ class LoanServiceTest {
     void loanUnavailableBook() {
         // given
         String userId = "user123";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         User user = createUser(userId);
         Book book = createBook(isbn);
@@ -126,7 +135,7 @@ class LoanServiceTest {
     void loanBookExceedsLimit() {
         // given
         String userId = "user123";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         User user = createUser(userId);
         Book book = createBook(isbn);
@@ -142,13 +151,58 @@ class LoanServiceTest {
             .hasMessage("대출 한도를 초과했습니다. 현재: 5/5");
     }
     
+    @Test
+    @DisplayName("확인 이후 다른 요청이 먼저 대출하면 예외가 발생한다")
+    void loanBookLosesReservationRace() {
+        // given
+        String userId = "user123";
+        String isbn = "978-1234567897";
+        
+        User user = createUser(userId);
+        Book book = createBook(isbn);
+        
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(book));
+        when(loanRepository.isBookAvailable(isbn)).thenReturn(true);
+        when(loanRepository.countActiveLoansByUserId(userId)).thenReturn(0);
+        when(loanRepository.reserve(any(Loan.class), eq(5))).thenReturn(ReservationResult.BOOK_UNAVAILABLE);
+        
+        // when & then
+        assertThatThrownBy(() -> loanService.loanBook(userId, isbn))
+            .isInstanceOf(BookNotAvailableException.class)
+            .hasMessage("현재 대출 중인 도서입니다: " + isbn);
+        verify(notificationService, never()).sendLoanConfirmation(any(), any());
+    }
+    
+    @Test
+    @DisplayName("확인 이후 다른 대출로 한도가 차면 예외가 발생한다")
+    void loanBookExceedsLimitDuringReservation() {
+        // given
+        String userId = "user123";
+        String isbn = "978-1234567897";
+        
+        User user = createUser(userId);
+        Book book = createBook(isbn);
+        
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(book));
+        when(loanRepository.isBookAvailable(isbn)).thenReturn(true);
+        when(loanRepository.countActiveLoansByUserId(userId)).thenReturn(4);
+        when(loanRepository.reserve(any(Loan.class), eq(5))).thenReturn(ReservationResult.LIMIT_EXCEEDED);
+        
+        // when & then
+        assertThatThrownBy(() -> loanService.loanBook(userId, isbn))
+            .isInstanceOf(LoanLimitExceededException.class)
+            .hasMessage("대출 한도를 초과했습니다. 한도: 5");
+    }
+    
     @Test
     @DisplayName("도서를 정상적으로 반납할 수 있다")
     void returnBookSuccessfully() {
         // given
         String loanId = "loan123";
         String userId = "user123";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         Loan loan = new Loan(loanId, userId, isbn, LocalDate.now().minusDays(7), 14);
         User user = createUser(userId);
@@ -169,6 +223,62 @@ class LoanServiceTest {
         verify(notificationService).sendReturnConfirmation(user, book);
     }
     
+    @Test
+    @DisplayName("연체된 도서도 반납할 수 있고 반납 시 리스너에 알린다")
+    void returnOverdueBook() {
+        // given
+        String loanId = "loan123";
+        Loan loan = new Loan(loanId, "user123", "978-1234567897", LocalDate.now().minusDays(20), 14);
+        loan.markOverdue();
+        LoanListener listener = mock(LoanListener.class);
+        loanService.addLoanListener(listener);
+        
+        when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+        when(userRepository.findById("user123")).thenReturn(Optional.of(createUser("user123")));
+        when(bookRepository.findByIsbn("978-1234567897")).thenReturn(Optional.of(createBook("978-1234567897")));
+        
+        // when
+        loanService.returnBook(loanId);
+        
+        // then
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
+        verify(listener).onReturned(loan);
+    }
+    
+    @Test
+    @DisplayName("리스너가 실패해도 대출/반납은 완료되고 다른 리스너와 알림은 계속 진행된다")
+    void failingListenerDoesNotFailLoanOrReturn() {
+        // given
+        String userId = "user123";
+        String isbn = "978-1234567897";
+        User user = createUser(userId);
+        Book book = createBook(isbn);
+        LoanListener failing = mock(LoanListener.class);
+        LoanListener next = mock(LoanListener.class);
+        doThrow(new IllegalStateException("리스너 오류")).when(failing).onLoaned(any());
+        doThrow(new IllegalStateException("리스너 오류")).when(failing).onReturned(any());
+        loanService.addLoanListener(failing);
+        loanService.addLoanListener(next);
+        
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(bookRepository.findByIsbn(isbn)).thenReturn(Optional.of(book));
+        when(loanRepository.isBookAvailable(isbn)).thenReturn(true);
+        when(loanRepository.countActiveLoansByUserId(userId)).thenReturn(0);
+        when(loanRepository.reserve(any(Loan.class), eq(5))).thenReturn(ReservationResult.RESERVED);
+        
+        // when
+        Loan loan = loanService.loanBook(userId, isbn);
+        when(loanRepository.findById(loan.getId())).thenReturn(Optional.of(loan));
+        loanService.returnBook(loan.getId());
+        
+        // then
+        assertThat(loan.getStatus()).isEqualTo(LoanStatus.RETURNED);
+        verify(next).onLoaned(loan);
+        verify(next).onReturned(loan);
+        verify(notificationService).sendLoanConfirmation(user, book);
+        verify(notificationService).sendReturnConfirmation(user, book);
+    }
+    
     @Test
     @DisplayName("존재하지 않는 대출 정보로 반납 시 예외가 발생한다")
     void returnNonExistentLoan() {
@@ -188,7 +298,7 @@ class LoanServiceTest {
         // given
         String loanId = "loan123";
         String userId = "user123";
-        String isbn = "978-1234567890";
+        String isbn = "978-1234567897";
         
         Loan loan = new Loan(loanId, userId, isbn, LocalDate.now().minusDays(7), 14);
         loan.returnBook(LocalDate.now().minusDays(1)); // 이미 반납됨
@@ -220,6 +330,103 @@ class LoanServiceTest {
         assertThat(result).isEqualTo(overdueLoans);
     }
     
+    @Test
+    @DisplayName("연체 알림은 사용자와 도서를 한 번에 조회해 발송한다")
+    void sendOverdueNotificationsInBulk() {
+        // given
+        User first = createUser("user1");
+        User second = createUser("user2");
+        Book book = createBook("978-1234567897");
+        Book other = createBook("978-0987654328");
+        List<Loan> overdueLoans = Arrays.asList(
+            new Loan("loan1", "user1", "978-1234567897", LocalDate.now().minusDays(20), 14),
+            new Loan("loan2", "user1", "978-0987654328", LocalDate.now().minusDays(16), 14),
+            new Loan("loan3", "user2", "978-0987654328", LocalDate.now().minusDays(15), 14),
+            new Loan("loan4", "deleted", "978-1234567897", LocalDate.now().minusDays(15), 14)
+        );
+        
+        when(loanRepository.findOverdueLoans(LocalDate.now())).thenReturn(overdueLoans);
+        when(userRepository.findAllByIds(Set.of("user1", "user2", "deleted")))
+            .thenReturn(Map.of("user1", first, "user2", second));
+        when(bookRepository.findAllByIsbns(Set.of("978-1234567897", "978-0987654328")))
+            .thenReturn(Map.of("978-1234567897", book, "978-0987654328", other));
+        
+        // when
+        int sent = loanService.sendOverdueNotifications();
+        
+        // then
+        assertThat(sent).isEqualTo(3);
+        verify(notificationService).sendOverdueNotification(first, book, 6);
+        verify(notificationService).sendOverdueNotification(first, other, 2);
+        verify(notificationService).sendOverdueNotification(second, other, 1);
+        verify(userRepository, never()).findById(any());
+        verify(bookRepository, never()).findByIsbn(any());
+    }
+    
+    @Test
+    @DisplayName("연체 대출이 많으면 묶음 단위로 조회하고 알림은 병렬로 발송한다")
+    void sendOverdueNotificationsInBatches() {
+        // given
+        int loanCount = LoanService.OVERDUE_BATCH_SIZE * 2 + 1;
+        List<Loan> overdueLoans = new ArrayList<>();
+        for (int i = 0; i < loanCount; i++) {
+            overdueLoans.add(new Loan("loan" + i, "user1", "978-1234567897", LocalDate.now().minusDays(20), 14));
+        }
+        User user = createUser("user1");
+        Book book = createBook("978-1234567897");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        LoanService concurrentService = new LoanService(bookRepository, userRepository,
+                                                        loanRepository, notificationService, 14, executor);
+        
+        when(loanRepository.findOverdueLoans(LocalDate.now())).thenReturn(overdueLoans);
+        when(userRepository.findAllByIds(Set.of("user1"))).thenReturn(Map.of("user1", user));
+        when(bookRepository.findAllByIsbns(Set.of("978-1234567897"))).thenReturn(Map.of("978-1234567897", book));
+        
+        // when
+        int sent = concurrentService.sendOverdueNotifications();
+        executor.shutdown();
+        
+        // then
+        assertThat(sent).isEqualTo(loanCount);
+        verify(userRepository, times(3)).findAllByIds(Set.of("user1"));
+        verify(bookRepository, times(3)).findAllByIsbns(Set.of("978-1234567897"));
+        verify(notificationService, times(loanCount)).sendOverdueNotification(user, book, 6);
+    }
+    
+    @Test
+    @DisplayName("연체 묶음 알림은 사용자별로 한 번만 발송한다")
+    void sendOverdueDigestsPerUser() {
+        // given
+        User first = createUser("user1");
+        User second = createUser("user2");
+        Book book = createBook("978-1234567897");
+        Book other = createBook("978-0987654328");
+        List<Loan> overdueLoans = Arrays.asList(
+            new Loan("loan1", "user1", "978-1234567897", LocalDate.now().minusDays(20), 14),
+            new Loan("loan2", "user2", "978-1111111113", LocalDate.now().minusDays(15), 14),
+            new Loan("loan3", "user1", "978-0987654328", LocalDate.now().minusDays(16), 14),
+            new Loan("loan4", "deleted", "978-1234567897", LocalDate.now().minusDays(15), 14)
+        );
+        
+        when(loanRepository.findOverdueLoans(LocalDate.now())).thenReturn(overdueLoans);
+        when(userRepository.findAllByIds(Set.of("user1", "user2", "deleted")))
+            .thenReturn(Map.of("user1", first, "user2", second));
+        when(bookRepository.findAllByIsbns(Set.of("978-1234567897", "978-0987654328", "978-1111111113")))
+            .thenReturn(Map.of("978-1234567897", book, "978-0987654328", other));
+        
+        // when
+        int sent = loanService.sendOverdueDigests();
+        
+        // then: user2 는 도서가 삭제되어, deleted 는 사용자가 없어 제외
+        assertThat(sent).isEqualTo(1);
+        Map<Book, Long> expected = new LinkedHashMap<>();
+        expected.put(book, 6L);
+        expected.put(other, 2L);
+        verify(notificationService).sendOverdueDigest(first, expected);
+        verify(notificationService, never()).sendOverdueNotification(any(), any(), anyLong());
+        verifyNoMoreInteractions(notificationService);
+    }
+    
     private User createUser(String userId) {
         return new User(userId, "테스트사용자", "test@example.com", 5);
     }
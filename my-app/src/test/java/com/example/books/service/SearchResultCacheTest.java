@@ -0,0 +1,159 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("SearchResultCache 테스트")
+class SearchResultCacheTest {
+
+    private final Book cleanCode = new Book("978-1234567897", "클린 코드", "로버트 마틴");
+    private final Book refactoring = new Book("978-0306406157", "Refactoring", "Martin Fowler");
+
+    private long now;
+    private SearchResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        now = 0;
+        cache = new SearchResultCache(3, Duration.ofSeconds(10), () -> now);
+    }
+
+    @Test
+    @DisplayName("대소문자만 다른 검색어는 같은 결과를 쓴다")
+    void queriesAreNormalized() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "Refactor", List.of(refactoring), cache.version());
+
+        // when & then
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "REFACTOR")).containsExactly(refactoring);
+        assertThat(cache.get(SearchResultCache.Kind.AUTHOR, "refactor")).isNull();
+        assertThat(cache.getHitCount()).isEqualTo(1);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("유지 시간이 지난 결과는 버린다")
+    void expiresAfterTtl() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "클린", List.of(cleanCode), cache.version());
+
+        // when
+        now += Duration.ofSeconds(9).toNanos();
+        List<Book> fresh = cache.get(SearchResultCache.Kind.TITLE, "클린");
+        now += Duration.ofSeconds(1).toNanos();
+        List<Book> expired = cache.get(SearchResultCache.Kind.TITLE, "클린");
+
+        // then
+        assertThat(fresh).containsExactly(cleanCode);
+        assertThat(expired).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 쓰지 않은 결과를 버린다")
+    void evictsLeastRecentlyUsed() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "a", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.TITLE, "b", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.TITLE, "c", List.of(), cache.version());
+        cache.get(SearchResultCache.Kind.TITLE, "a");
+
+        // when
+        cache.put(SearchResultCache.Kind.TITLE, "d", List.of(), cache.version());
+
+        // then
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "b")).isNull();
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "a")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("바뀐 도서의 제목/저자에 포함되는 검색어만 지운다")
+    void invalidatesOnlyMatchingQueries() {
+        // given
+        cache = new SearchResultCache(10, Duration.ofSeconds(10), () -> now);
+        cache.put(SearchResultCache.Kind.TITLE, "클린", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.TITLE, "자바", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.AUTHOR, "마틴", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.AUTHOR, "클린", List.of(), cache.version());
+
+        // when
+        cache.invalidate(cleanCode);
+
+        // then
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "클린")).isNull();
+        assertThat(cache.get(SearchResultCache.Kind.AUTHOR, "마틴")).isNull();
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "자바")).isEmpty();
+        assertThat(cache.get(SearchResultCache.Kind.AUTHOR, "클린")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 도중 도서가 바뀌었으면 결과를 저장하지 않는다")
+    void skipsResultsComputedBeforeChange() {
+        // given
+        long version = cache.version();
+
+        // when
+        cache.invalidate(cleanCode);
+        cache.put(SearchResultCache.Kind.TITLE, "클린", List.of(), version);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("돌려준 목록을 바꿔도 캐시에는 영향이 없다")
+    void returnsCopies() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "클린", List.of(cleanCode), cache.version());
+
+        // when
+        cache.get(SearchResultCache.Kind.TITLE, "클린").clear();
+
+        // then
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "클린")).containsExactly(cleanCode);
+    }
+
+    @Test
+    @DisplayName("여러 도서가 바뀌면 한 번에 훑어 어느 도서에든 걸리는 검색어를 지운다")
+    void invalidatesBatchInOnePass() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "클린", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.AUTHOR, "fowler", List.of(), cache.version());
+        cache.put(SearchResultCache.Kind.TITLE, "자바", List.of(), cache.version());
+        long before = cache.version();
+
+        // when
+        cache.invalidate(List.of(cleanCode, refactoring));
+
+        // then
+        assertThat(cache.version()).isEqualTo(before + 1);
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "클린")).isNull();
+        assertThat(cache.get(SearchResultCache.Kind.AUTHOR, "fowler")).isNull();
+        assertThat(cache.get(SearchResultCache.Kind.TITLE, "자바")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시 크기보다 많은 도서가 바뀌면 전부 비운다")
+    void clearsOnLargeBatch() {
+        // given
+        cache.put(SearchResultCache.Kind.TITLE, "자바", List.of(), cache.version());
+        List<Book> batch = List.of(cleanCode, refactoring,
+            new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"),
+            new Book("978-1111111113", "도메인 주도 설계", "에릭 에반스"));
+
+        // when
+        cache.invalidate(batch);
+
+        // then
+        assertThat(cache.size()).isZero();
+    }
+}
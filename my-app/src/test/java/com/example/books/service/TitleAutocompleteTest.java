@@ -0,0 +1,132 @@
+package com.example.books.service;
+
+import com.example.books.Book;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TitleAutocomplete 테스트")
+class TitleAutocompleteTest {
+
+    private TitleAutocomplete autocomplete;
+
+    @BeforeEach
+    void setUp() {
+        autocomplete = new TitleAutocomplete(2);
+        autocomplete.add(new Book("978-1234567897", "클린 코드", "로버트 마틴"));
+        autocomplete.add(new Book("978-0987654328", "클린 아키텍처", "로버트 마틴"));
+        autocomplete.add(new Book("978-1111111113", "클린 애자일", "로버트 마틴"));
+        autocomplete.add(new Book("978-0000000002", "Effective Java", "Joshua Bloch"));
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 제목을 인기도 순으로 최대 topN 개 돌려준다")
+    void completesByPopularity() {
+        // when
+        autocomplete.setPopularity("978-1111111113", 10);
+        autocomplete.recordSelection("978-1234567897");
+
+        // then
+        assertThat(titles("클")).containsExactly("클린 애자일", "클린 코드");
+        assertThat(titles("클린 아")).containsExactly("클린 아키텍처");
+        assertThat(titles("effective  J")).containsExactly("Effective Java");
+        assertThat(titles("자바")).isEmpty();
+        assertThat(autocomplete.complete("클", 1)).extracting(Book::getTitle).containsExactly("클린 애자일");
+    }
+
+    @Test
+    @DisplayName("인기도가 같으면 제목 순이다")
+    void tiesBrokenByTitle() {
+        assertThat(titles("클린")).containsExactly("클린 아키텍처", "클린 애자일");
+    }
+
+    @Test
+    @DisplayName("삭제하거나 인기도가 내려가면 아래 노드의 제목으로 목록을 다시 채운다")
+    void refillsAfterRemovalAndDecrease() {
+        // given
+        autocomplete.setPopularity("978-1234567897", 5);
+        autocomplete.setPopularity("978-0987654328", 3);
+
+        // when & then
+        autocomplete.onRemoved("9781234567897");
+        assertThat(titles("클린")).containsExactly("클린 아키텍처", "클린 애자일");
+
+        autocomplete.setPopularity("978-0987654328", 0);
+        autocomplete.setPopularity("978-1111111113", 1);
+        assertThat(titles("클린")).containsExactly("클린 애자일", "클린 아키텍처");
+    }
+
+    @Test
+    @DisplayName("무작위 등록/삭제/인기도 변경 후에도 전수 계산과 같다")
+    void matchesBruteForce() {
+        // given
+        TitleAutocomplete large = new TitleAutocomplete(5);
+        Map<String, Book> books = new HashMap<>();
+        Map<String, Long> popularity = new HashMap<>();
+        Random random = new Random(5);
+        String[] words = {"자바", "자바스크립트", "클린", "코드", "코틀린", "테스트", "테크닉"};
+
+        // when
+        for (int step = 0; step < 3_000; step++) {
+            String isbn = isbn(random.nextInt(300));
+            int action = random.nextInt(10);
+            if (action < 5) {
+                String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                Book book = new Book(isbn, title, "저자");
+                large.add(book);
+                books.put(isbn, book);
+                popularity.putIfAbsent(isbn, 0L);
+            } else if (action < 7) {
+                large.onRemoved(isbn);
+                books.remove(isbn);
+                popularity.remove(isbn);
+            } else if (books.containsKey(isbn)) {
+                long value = random.nextInt(20);
+                large.setPopularity(isbn, value);
+                popularity.put(isbn, value);
+            }
+        }
+
+        // then
+        for (String prefix : List.of("", "자", "자바", "자바 ", "자바스", "클린 코", "코", "테크닉 테")) {
+            List<String> expected = books.values().stream()
+                .filter(book -> book.getTitle().toLowerCase(Locale.ROOT).startsWith(prefix))
+                .sorted(Comparator.comparingLong((Book book) -> popularity.get(book.getIsbn())).reversed()
+                    .thenComparing(Book::getTitle)
+                    .thenComparingLong(Book::getIsbnKey))
+                .limit(5)
+                .map(Book::getIsbn)
+                .collect(Collectors.toList());
+            assertThat(large.complete(prefix, 5)).extracting(Book::getIsbn).as(prefix).isEqualTo(expected);
+        }
+    }
+
+    private List<String> titles(String prefix) {
+        List<String> titles = new ArrayList<>();
+        for (Book book : autocomplete.complete(prefix, 10)) {
+            titles.add(book.getTitle());
+        }
+        return titles;
+    }
+
+    private static String isbn(int serial) {
+        String body = String.format("978%09d", serial);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        return body + (10 - sum % 10) % 10;
+    }
+}
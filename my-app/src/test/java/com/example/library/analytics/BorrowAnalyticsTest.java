@@ -0,0 +1,98 @@
+// src/test/java/com/example/library/analytics/BorrowAnalyticsTest.java
+package com.example.library.analytics;
+
+import com.example.library.model.Book;
+import com.example.library.model.Member;
+import com.example.library.repository.*;
+import com.example.library.service.LibraryService;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * BorrowAnalytics 테스트 클래스
+ * ------------------------------
+ * - LibraryService 대출 이벤트로 기간별 인기 도서 / 다대출 회원이 집계되는지 검증
+ * - 주간 기간 경계(월요일 시작)와 보관 기간 밖 이벤트 처리 검증
+ */
+@DisplayName("📊 대출 통계 테스트")
+class BorrowAnalyticsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 13);
+
+    private BorrowAnalytics analytics;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        analytics = new BorrowAnalytics(7, 2, 100, 0.01, 0.01);
+        System.out.println("\n▶ [테스트 시작]: " + testInfo.getDisplayName());
+    }
+
+    @Test
+    @DisplayName("✅ LibraryService 대출이 주간 인기 도서 / 다대출 회원에 반영된다")
+    void feedsFromLibraryService() {
+        // Given
+        InMemoryBookRepository books = new InMemoryBookRepository();
+        InMemoryMemberRepository members = new InMemoryMemberRepository();
+        InMemoryLoanRepository loans = new InMemoryLoanRepository();
+        LibraryService libraryService = new LibraryService(books, members, loans);
+        libraryService.addLoanEventListener(analytics);
+        books.save(new Book("클린 코드", "로버트 C. 마틴", "ISBN-1"));
+        books.save(new Book("리팩터링", "마틴 파울러", "ISBN-2"));
+        members.save(new Member("M001", "김개발"));
+        members.save(new Member("M002", "박테스트"));
+
+        // When: ISBN-1 은 3번, ISBN-2 는 1번 대출 / M001 이 3번 대출
+        libraryService.borrowBook("ISBN-1", "M001", MONDAY);
+        libraryService.returnBook("ISBN-1", MONDAY.plusDays(1));
+        libraryService.borrowBook("ISBN-1", "M002", MONDAY.plusDays(1));
+        libraryService.returnBook("ISBN-1", MONDAY.plusDays(2));
+        libraryService.borrowBook("ISBN-1", "M001", MONDAY.plusDays(2));
+        libraryService.borrowBook("ISBN-2", "M001", MONDAY.plusDays(6));
+
+        // Then
+        assertThat(analytics.topTitles(2, MONDAY.plusDays(3)))
+                .extracting(HeavyHitter::getKey, HeavyHitter::getCount)
+                .containsExactly(tuple("ISBN-1", 3L), tuple("ISBN-2", 1L));
+        assertThat(analytics.topBorrowers(1, MONDAY))
+                .extracting(HeavyHitter::getKey, HeavyHitter::getCount)
+                .containsExactly(tuple("M001", 3L));
+        assertThat(analytics.estimateTitleCount("ISBN-1", MONDAY)).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("✅ 기간은 월요일부터 windowDays 일 단위로 나뉜다")
+    void windowsAlignToMonday() {
+        // When
+        analytics.record("ISBN-1", "M001", MONDAY.plusDays(6)); // 일요일
+        analytics.record("ISBN-2", "M001", MONDAY.plusDays(7)); // 다음 주 월요일
+
+        // Then
+        assertThat(analytics.windowStart(MONDAY.plusDays(6))).isEqualTo(MONDAY);
+        assertThat(analytics.topTitles(5, MONDAY)).extracting(HeavyHitter::getKey).containsExactly("ISBN-1");
+        assertThat(analytics.topTitles(5, MONDAY.plusDays(7))).extracting(HeavyHitter::getKey).containsExactly("ISBN-2");
+        assertThat(analytics.windowTotals()).containsEntry(MONDAY, 1L).containsEntry(MONDAY.plusDays(7), 1L);
+    }
+
+    @Test
+    @DisplayName("✅ 보관 기간 수를 넘는 오래된 기간은 버린다")
+    void oldWindowsAreDiscarded() {
+        // Given
+        analytics.record("ISBN-1", "M001", MONDAY);
+        analytics.record("ISBN-1", "M001", MONDAY.plusDays(7));
+        analytics.record("ISBN-1", "M001", MONDAY.plusDays(14)); // 첫 주 제거
+
+        // When
+        analytics.record("ISBN-9", "M009", MONDAY.plusDays(1)); // 이미 버려진 주간
+
+        // Then
+        List<HeavyHitter> firstWeek = analytics.topTitles(5, MONDAY);
+        assertThat(firstWeek).isEmpty();
+        assertThat(analytics.getDroppedCount()).isEqualTo(1);
+        assertThat(analytics.windowTotals()).hasSize(2);
+    }
+}
@@ -0,0 +1,151 @@
+// src/test/java/com/example/library/analytics/StreamingSketchAccuracyTest.java
+package com.example.library.analytics;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 스트리밍 스케치 정확도 테스트
+ * ------------------------------
+ * - 인기 편중(Zipf) 대출 스트림을 만들어 정확한 집계값(HashMap)과 비교
+ * - SpaceSavingTopK : error ≤ N / m, 실제 횟수 ∈ [count - error, count], N / m 초과 키는 반드시 추적
+ * - CountMinSketch  : 과소 추정 없음, 대부분(1 - delta 이상)의 키에서 오차 ≤ epsilon × N
+ */
+@DisplayName("📈 스트리밍 스케치 정확도 테스트")
+class StreamingSketchAccuracyTest {
+
+    private static final int DISTINCT_KEYS = 5_000;
+    private static final int EVENTS = 200_000;
+
+    private List<String> stream;
+    private Map<String, Long> exact;
+
+    @BeforeEach
+    void setUp() {
+        // 고정 seed 의 Zipf(s = 1.1) 스트림 → 실행마다 같은 데이터
+        Random random = new Random(42);
+        double[] cumulative = new double[DISTINCT_KEYS];
+        double sum = 0;
+        for (int rank = 1; rank <= DISTINCT_KEYS; rank++) {
+            sum += 1.0 / Math.pow(rank, 1.1);
+            cumulative[rank - 1] = sum;
+        }
+        stream = new ArrayList<>(EVENTS);
+        exact = new HashMap<>();
+        for (int i = 0; i < EVENTS; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            String key = "ISBN-" + (index < 0 ? -index - 1 : index);
+            stream.add(key);
+            exact.merge(key, 1L, Long::sum);
+        }
+    }
+
+    @Test
+    @DisplayName("✅ Space-Saving 추정값은 실제 횟수를 오차 범위 안에서 감싼다")
+    void spaceSavingBounds() {
+        // Given
+        int capacity = 200;
+        SpaceSavingTopK topK = new SpaceSavingTopK(capacity);
+
+        // When
+        stream.forEach(topK::add);
+        List<HeavyHitter> top = topK.top(capacity);
+
+        // Then
+        long bound = EVENTS / capacity;
+        assertThat(topK.maxError()).isLessThanOrEqualTo(bound);
+        for (HeavyHitter hitter : top) {
+            long actual = exact.getOrDefault(hitter.getKey(), 0L);
+            assertThat(hitter.getError()).isLessThanOrEqualTo(bound);
+            assertThat(actual).isBetween(hitter.getGuaranteedCount(), hitter.getCount());
+        }
+        Set<String> tracked = new HashSet<>();
+        top.forEach(hitter -> tracked.add(hitter.getKey()));
+        exact.forEach((key, count) -> {
+            if (count > bound) {
+                assertThat(tracked).contains(key); // N / m 초과 키는 반드시 추적
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("✅ Space-Saving 상위 10개는 실제 상위 10개와 같다")
+    void spaceSavingTopTenMatchesExact() {
+        // Given
+        SpaceSavingTopK topK = new SpaceSavingTopK(500);
+        stream.forEach(topK::add);
+
+        // When
+        List<String> estimated = new ArrayList<>();
+        topK.top(10).forEach(hitter -> estimated.add(hitter.getKey()));
+
+        // Then
+        List<String> actual = exact.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+        assertThat(estimated).containsExactlyElementsOf(actual);
+    }
+
+    @Test
+    @DisplayName("✅ Count-Min 추정값은 과소 추정하지 않고 대부분 epsilon × N 이내다")
+    void countMinBounds() {
+        // Given
+        double epsilon = 0.001;
+        double delta = 0.01;
+        CountMinSketch sketch = new CountMinSketch(epsilon, delta);
+
+        // When
+        stream.forEach(key -> sketch.add(key, 1));
+
+        // Then
+        long allowed = (long) Math.ceil(epsilon * EVENTS);
+        int withinBound = 0;
+        for (Map.Entry<String, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertThat(estimate).isGreaterThanOrEqualTo(entry.getValue());
+            if (estimate - entry.getValue() <= allowed) {
+                withinBound++;
+            }
+        }
+        assertThat((double) withinBound / exact.size()).isGreaterThanOrEqualTo(1 - delta);
+        assertThat(sketch.getTotalCount()).isEqualTo(EVENTS);
+    }
+
+    @Test
+    @DisplayName("✅ String.hashCode 가 같은 키도 Count-Min 의 모든 행에서 충돌하지는 않는다")
+    void countMinSeparatesHashCodeCollisions() {
+        // Given : "Aa" 와 "BB" 처럼 두 글자 단위로 바꿔 끼운 키는 hashCode 가 모두 같다
+        CountMinSketch sketch = new CountMinSketch(0.001, 0.01);
+        List<String> colliding = new ArrayList<>(List.of(""));
+        for (int round = 0; round < 4; round++) {
+            List<String> next = new ArrayList<>();
+            for (String prefix : colliding) {
+                next.add(prefix + "Aa");
+                next.add(prefix + "BB");
+            }
+            colliding = next;
+        }
+        String heavy = colliding.get(0);
+
+        // When
+        sketch.add(heavy, 10_000);
+
+        // Then
+        assertThat(colliding).allMatch(key -> key.hashCode() == heavy.hashCode());
+        assertThat(sketch.estimate(heavy)).isEqualTo(10_000);
+        assertThat(colliding.subList(1, colliding.size())).allMatch(key -> sketch.estimate(key) == 0);
+    }
+
+    @Test
+    @DisplayName("❌ 잘못된 설정값이면 예외가 발생한다")
+    void invalidParameters() {
+        assertThatThrownBy(() -> new SpaceSavingTopK(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(0.01, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,200 @@
+// src/test/java/com/example/library/repository/TieredLoanRepositoryTest.java
+package com.example.library.repository;
+
+import com.example.library.model.Book;
+import com.example.library.model.Member;
+import com.example.library.model.Loan;
+import com.example.library.service.LibraryService;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * TieredLoanRepository / ColdLoanSegment 테스트 클래스
+ * ------------------------------
+ * - 반납된 대출이 segmentSize 단위로 cold 세그먼트로 이동하는지 검증
+ * - getMemberLoans 가 hot / cold 계층을 합쳐 전체 이력을 돌려주는지 검증
+ * - 세그먼트 인코딩 크기(대출 1건당 byte)와 이력 조회 지연 시간을 측정해 출력
+ */
+@DisplayName("🧊 대출 이력 계층화 테스트")
+class TieredLoanRepositoryTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    private InMemoryBookRepository bookRepository;
+    private InMemoryMemberRepository memberRepository;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        bookRepository = new InMemoryBookRepository();
+        memberRepository = new InMemoryMemberRepository();
+        for (int i = 0; i < 50; i++) {
+            bookRepository.save(new Book("도서" + i, "저자" + (i % 7), "ISBN-" + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            memberRepository.save(new Member("M" + i, "회원" + i));
+        }
+        System.out.println("\n▶ [테스트 시작]: " + testInfo.getDisplayName());
+    }
+
+    @Test
+    @DisplayName("✅ 반납된 대출은 세그먼트로 이동하고 이력 조회 시 합쳐진다")
+    void returnedLoansMoveToColdTier() {
+        // Given
+        TieredLoanRepository loanRepository = new TieredLoanRepository(4, null);
+        LibraryService libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+
+        // When: M0 이 5권 대출/반납 + 1권 대출 중
+        for (int i = 0; i < 5; i++) {
+            libraryService.borrowBook("ISBN-" + i, "M0", BASE_DATE.plusDays(i));
+            libraryService.returnBook("ISBN-" + i, BASE_DATE.plusDays(i + 3));
+        }
+        libraryService.borrowBook("ISBN-9", "M0", BASE_DATE.plusDays(10));
+
+        // Then
+        assertThat(loanRepository.getColdSegmentCount()).isEqualTo(1);
+        assertThat(loanRepository.getColdLoanCount()).isEqualTo(4);
+        assertThat(loanRepository.getHotLoanCount()).isEqualTo(2); // 대기 중 반납 1 + 활성 1
+
+        List<Loan> history = libraryService.getMemberLoans("M0");
+        assertThat(history).hasSize(6);
+        assertThat(history).extracting(loan -> loan.getBook().getIsbn())
+                .containsExactly("ISBN-0", "ISBN-1", "ISBN-2", "ISBN-3", "ISBN-4", "ISBN-9");
+        Loan cold = history.get(2);
+        assertThat(cold.isReturned()).isTrue();
+        assertThat(cold.getLoanDate()).isEqualTo(BASE_DATE.plusDays(2));
+        assertThat(cold.getReturnDate()).isEqualTo(BASE_DATE.plusDays(5));
+        assertThat(cold.getBook().getTitle()).isEqualTo("도서2");
+        assertThat(cold.getMember().getName()).isEqualTo("회원0");
+
+        assertThat(libraryService.getOverdueBooks(BASE_DATE.plusDays(40))).hasSize(1);
+        assertThat(loanRepository.findActiveLoanByBookIsbn("ISBN-9")).isPresent();
+    }
+
+    @Test
+    @DisplayName("✅ 디스크 세그먼트도 같은 이력을 돌려준다")
+    void spilledSegmentsAreReadBack(@TempDir Path directory) {
+        // Given
+        TieredLoanRepository loanRepository = new TieredLoanRepository(3, directory);
+        LibraryService libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            String memberId = "M" + (i % 2);
+            libraryService.borrowBook("ISBN-" + i, memberId, BASE_DATE.plusDays(i));
+            libraryService.returnBook("ISBN-" + i, BASE_DATE.plusDays(i + 1));
+        }
+
+        // Then
+        assertThat(loanRepository.getColdSegmentCount()).isEqualTo(2);
+        assertThat(directory.toFile().list()).hasSize(2);
+        assertThat(libraryService.getMemberLoans("M1"))
+                .extracting(loan -> loan.getBook().getIsbn())
+                .containsExactly("ISBN-1", "ISBN-3", "ISBN-5");
+        assertThat(libraryService.getMemberLoans("M9")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 세그먼트 파일 저장에 실패해도 반납은 완료되고 메모리 세그먼트로 조회된다")
+    void failedSpillKeepsSegmentInMemory(@TempDir Path directory) throws IOException {
+        // Given: 세그먼트 디렉터리 자리에 일반 파일이 있어 세그먼트를 쓸 수 없다
+        Path spillDirectory = directory.resolve("segments");
+        TieredLoanRepository loanRepository = new TieredLoanRepository(3, spillDirectory);
+        LibraryService libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+        Files.delete(spillDirectory);
+        Files.createFile(spillDirectory);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            libraryService.borrowBook("ISBN-" + i, "M1", BASE_DATE.plusDays(i));
+            libraryService.returnBook("ISBN-" + i, BASE_DATE.plusDays(i + 1));
+        }
+
+        // Then
+        assertThat(loanRepository.getColdSegmentCount()).isEqualTo(1);
+        assertThat(loanRepository.getSpillFailureCount()).isEqualTo(1);
+        assertThat(libraryService.getMemberLoans("M1"))
+                .extracting(loan -> loan.getBook().getIsbn())
+                .containsExactly("ISBN-0", "ISBN-1", "ISBN-2");
+
+        // When: 디렉터리를 되돌리면 다음 flush 에서 다시 저장한다
+        Files.delete(spillDirectory);
+        Files.createDirectory(spillDirectory);
+        loanRepository.flush();
+
+        // Then
+        assertThat(spillDirectory.toFile().list()).hasSize(1);
+        assertThat(loanRepository.getSpillFailureCount()).isEqualTo(1);
+        assertThat(libraryService.getMemberLoans("M1")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("✅ 세그먼트를 저장/복원해도 내용이 같다")
+    void segmentRoundTrip() throws IOException {
+        // Given
+        Member member = memberRepository.findById("M3").get();
+        Loan loan = new Loan(bookRepository.findByIsbn("ISBN-7").get(), member, BASE_DATE);
+        loan.returnBook(BASE_DATE.plusDays(20));
+        ColdLoanSegment segment = ColdLoanSegment.seal(List.of(loan));
+
+        // When
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        segment.writeTo(new DataOutputStream(bytes));
+        ColdLoanSegment restored = ColdLoanSegment.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // Then
+        Loan decoded = restored.findByMemberId("M3").get(0);
+        assertThat(decoded.getBook().getIsbn()).isEqualTo("ISBN-7");
+        assertThat(decoded.getReturnDate()).isEqualTo(BASE_DATE.plusDays(20));
+        assertThat(decoded.calculateLateFee(decoded.getReturnDate())).isEqualTo(600);
+    }
+
+    @Test
+    @DisplayName("❌ 반납되지 않은 대출은 세그먼트에 담을 수 없다")
+    void activeLoanCannotBeSealed() {
+        Loan active = new Loan(bookRepository.findByIsbn("ISBN-1").get(),
+                memberRepository.findById("M1").get(), BASE_DATE);
+
+        assertThatThrownBy(() -> ColdLoanSegment.seal(List.of(active)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("반납된 대출만 세그먼트에 담을 수 있습니다");
+    }
+
+    @Test
+    @DisplayName("📏 세그먼트 인코딩 크기와 이력 조회 지연 시간 측정")
+    void measuresFootprintAndLatency() {
+        // Given: 회원 10명 × 2,000건 반납 이력
+        TieredLoanRepository loanRepository = new TieredLoanRepository(4_096, null);
+        int loans = 20_000;
+        for (int i = 0; i < loans; i++) {
+            Member member = memberRepository.findById("M" + (i % 10)).get();
+            Book book = bookRepository.findByIsbn("ISBN-" + (i % 50)).get();
+            Loan loan = new Loan(book, member, BASE_DATE.plusDays(i / 10));
+            loan.returnBook(loan.getLoanDate().plusDays(7 + i % 10));
+            loanRepository.save(loan);
+        }
+        loanRepository.flush();
+
+        // When
+        long started = System.nanoTime();
+        List<Loan> history = loanRepository.findByMember(memberRepository.findById("M4").get());
+        long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+        // Then
+        double bytesPerLoan = (double) loanRepository.getColdEncodedBytes() / loans;
+        System.out.printf("cold segments=%d, bytes/loan=%.2f, history(%d건) 조회=%dµs%n",
+                loanRepository.getColdSegmentCount(), bytesPerLoan, history.size(), elapsedMicros);
+        assertThat(history).hasSize(2_000);
+        assertThat(loanRepository.getHotLoanCount()).isZero();
+        assertThat(bytesPerLoan).isLessThan(8); // Loan 객체 + LocalDate 3개 ≈ 100 byte 이상
+    }
+}
@@ -0,0 +1,220 @@
+// src/test/java/com/example/library/scale/LibraryDatasetGenerator.java
+package com.example.library.scale;
+
+import com.example.library.model.Book;
+import com.example.library.model.Loan;
+import com.example.library.model.Member;
+import com.example.library.repository.BookRepository;
+import com.example.library.repository.LoanRepository;
+import com.example.library.repository.MemberRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * LibraryDatasetGenerator 클래스
+ * ------------------------------
+ * - 실제 운영 규모를 흉내 내는 도서관 데이터(Book, Member, Loan)를 seed 기반으로 결정적으로 생성
+ *   → 같은 설정 + 같은 seed 이면 항상 같은 데이터
+ * - 도서 인기도는 Zipf 분포 (소수 인기 도서에 대출 집중)
+ * - 회원 대출 빈도도 Zipf 분포 (소수 다대출 회원 + 긴 꼬리의 가끔 오는 회원)
+ * - 과거 이력(반납 완료 대출)과 현재 활성 대출을 함께 생성
+ *   · 활성 대출은 Book.available / Member.borrowedBooksCount 제약을 지키도록 Book/Member 상태까지 갱신
+ */
+public class LibraryDatasetGenerator {
+    private static final String[] TITLE_WORDS = {
+        "클린", "코드", "자바", "리팩터링", "패턴", "설계", "테스트", "주도", "개발", "아키텍처",
+        "알고리즘", "데이터", "시스템", "분산", "네트워크", "운영체제", "컴파일러", "보안", "웹", "모던"
+    };
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"개발", "테스트", "자바", "코드", "설계", "서버", "지원", "민수", "서연", "하준"};
+    private static final int ACTIVE_WINDOW_DAYS = 30; // 활성 대출은 이력 기간 직후 30일 안에 시작
+
+    private int bookCount = 10_000;
+    private int memberCount = 5_000;
+    private int historicalLoanCount = 50_000;
+    private int activeLoanCount = 2_000;
+    private double titleSkew = 1.0;   // 도서 인기 편중 (Zipf 지수)
+    private double memberSkew = 0.8;  // 회원 대출 편중 (Zipf 지수)
+    private LocalDate historyStart = LocalDate.of(2024, 1, 1);
+    private int historyDays = 365;
+    private long seed = 42L;
+
+    // ===== 설정 (builder 스타일) =====
+
+    public LibraryDatasetGenerator books(int count) {
+        this.bookCount = count;
+        return this;
+    }
+
+    public LibraryDatasetGenerator members(int count) {
+        this.memberCount = count;
+        return this;
+    }
+
+    public LibraryDatasetGenerator historicalLoans(int count) {
+        this.historicalLoanCount = count;
+        return this;
+    }
+
+    public LibraryDatasetGenerator activeLoans(int count) {
+        this.activeLoanCount = count;
+        return this;
+    }
+
+    public LibraryDatasetGenerator skew(double titleSkew, double memberSkew) {
+        this.titleSkew = titleSkew;
+        this.memberSkew = memberSkew;
+        return this;
+    }
+
+    public LibraryDatasetGenerator history(LocalDate start, int days) {
+        this.historyStart = start;
+        this.historyDays = days;
+        return this;
+    }
+
+    public LibraryDatasetGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * 설정대로 데이터 생성
+     */
+    public Dataset generate() {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Book> books = new ArrayList<>(bookCount);
+        for (int i = 0; i < bookCount; i++) {
+            books.add(new Book(title(i, random), author(random), isbn(i)));
+        }
+        List<Member> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new Member(String.format("M%08d", i), name(random)));
+        }
+
+        // 인기 순위 → 실제 도서/회원 번호 (ID 순서와 인기 순서를 분리)
+        List<Book> booksByPopularity = new ArrayList<>(books);
+        Collections.shuffle(booksByPopularity, new Random(seed));
+        List<Member> membersByActivity = new ArrayList<>(members);
+        Collections.shuffle(membersByActivity, new Random(seed + 1));
+        ZipfSampler titleSampler = new ZipfSampler(bookCount, titleSkew);
+        ZipfSampler memberSampler = new ZipfSampler(memberCount, memberSkew);
+
+        List<Loan> loans = new ArrayList<>(historicalLoanCount + activeLoanCount);
+        for (int i = 0; i < historicalLoanCount; i++) {
+            Book book = booksByPopularity.get(titleSampler.sample(random));
+            Member member = membersByActivity.get(memberSampler.sample(random));
+            LocalDate loanDate = historyStart.plusDays(random.nextInt(historyDays));
+            Loan loan = new Loan(book, member, loanDate);
+            loan.returnBook(loanDate.plusDays(1 + random.nextInt(20))); // 일부는 14일 초과 → 연체 반납
+            loans.add(loan);
+        }
+
+        // 활성 대출 : 대출 가능 도서 + 한도 미만 회원만 (시도 횟수 제한)
+        LocalDate today = historyStart.plusDays(historyDays + ACTIVE_WINDOW_DAYS);
+        int created = 0;
+        for (int attempt = 0; created < activeLoanCount && attempt < activeLoanCount * 20; attempt++) {
+            Book book = booksByPopularity.get(titleSampler.sample(random));
+            Member member = membersByActivity.get(memberSampler.sample(random));
+            if (!book.isAvailable() || !member.canBorrow()) {
+                continue;
+            }
+            book.borrow();
+            member.borrowBook();
+            loans.add(new Loan(book, member, today.minusDays(random.nextInt(ACTIVE_WINDOW_DAYS))));
+            created++;
+        }
+
+        return new Dataset(books, members, loans, booksByPopularity, membersByActivity,
+                titleSampler, memberSampler, today);
+    }
+
+    // ===== Private Helper Methods =====
+
+    private static String title(int index, SplittableRandom random) {
+        String first = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+        String second = TITLE_WORDS[random.nextInt(TITLE_WORDS.length)];
+        return first + " " + second + " " + (index + 1);
+    }
+
+    private static String author(SplittableRandom random) {
+        // 저자 수는 도서 수보다 훨씬 적게 (성 10 × 이름 10 × 번호 50 = 5,000명)
+        return FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)]
+                + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)]
+                + random.nextInt(50);
+    }
+
+    private static String name(SplittableRandom random) {
+        return FAMILY_NAMES[random.nextInt(FAMILY_NAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+    }
+
+    /** 978-89 접두어 + 일련번호 + 올바른 ISBN-13 체크 숫자 */
+    static String isbn(int index) {
+        String body = String.format("97889%07d", index);
+        int sum = 0;
+        for (int i = 0; i < body.length(); i++) {
+            sum += (body.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        int check = (10 - sum % 10) % 10;
+        return body.substring(0, 3) + "-" + body.substring(3, 5) + "-" + body.substring(5) + "-" + check;
+    }
+
+    /**
+     * 생성된 데이터 묶음
+     * - 워크로드 드라이버가 같은 인기 분포로 요청을 만들 수 있도록 표본기도 함께 보관
+     */
+    public static class Dataset {
+        private final List<Book> books;
+        private final List<Member> members;
+        private final List<Loan> loans;
+        private final List<Book> booksByPopularity;
+        private final List<Member> membersByActivity;
+        private final ZipfSampler titleSampler;
+        private final ZipfSampler memberSampler;
+        private final LocalDate today;
+
+        Dataset(List<Book> books, List<Member> members, List<Loan> loans,
+                List<Book> booksByPopularity, List<Member> membersByActivity,
+                ZipfSampler titleSampler, ZipfSampler memberSampler, LocalDate today) {
+            this.books = books;
+            this.members = members;
+            this.loans = loans;
+            this.booksByPopularity = booksByPopularity;
+            this.membersByActivity = membersByActivity;
+            this.titleSampler = titleSampler;
+            this.memberSampler = memberSampler;
+            this.today = today;
+        }
+
+        /**
+         * Repository 구현체에 전체 데이터 저장
+         */
+        public void loadInto(BookRepository bookRepository, MemberRepository memberRepository,
+                             LoanRepository loanRepository) {
+            books.forEach(bookRepository::save);
+            members.forEach(memberRepository::save);
+            loans.forEach(loanRepository::save);
+        }
+
+        /** 인기 분포를 따르는 도서 1권 */
+        public Book samplePopularBook(SplittableRandom random) {
+            return booksByPopularity.get(titleSampler.sample(random));
+        }
+
+        /** 활동량 분포를 따르는 회원 1명 */
+        public Member sampleActiveMember(SplittableRandom random) {
+            return membersByActivity.get(memberSampler.sample(random));
+        }
+
+        public List<Book> getBooks() { return books; }
+        public List<Member> getMembers() { return members; }
+        public List<Loan> getLoans() { return loans; }
+        public LocalDate getToday() { return today; }
+    }
+}
@@ -0,0 +1,159 @@
+// src/test/java/com/example/library/scale/LibraryDatasetGeneratorTest.java
+package com.example.library.scale;
+
+import com.example.library.model.Book;
+import com.example.library.model.Loan;
+import com.example.library.model.Member;
+import com.example.library.repository.InMemoryBookRepository;
+import com.example.library.repository.InMemoryMemberRepository;
+import com.example.library.repository.TieredLoanRepository;
+import com.example.library.scale.LibraryDatasetGenerator.Dataset;
+import com.example.library.scale.WorkloadReport.Operation;
+import com.example.library.service.LibraryService;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LibraryDatasetGenerator / LibraryWorkloadDriver 테스트 클래스
+ * ------------------------------
+ * - 같은 seed 면 같은 데이터가 생성되는지 검증
+ * - Zipf 편중(인기 도서 / 다대출 회원)이 실제로 나타나는지 검증
+ * - 활성 대출이 도서 대출 가능 여부 / 회원 대출 한도 제약을 지키는지 검증
+ * - 작은 규모로 워크로드 드라이버를 실행해 보고서 집계를 검증
+ *   (대규모 실행은 LibraryScaleTest, @Tag("scale"))
+ */
+@DisplayName("🏭 합성 데이터 생성기 테스트")
+class LibraryDatasetGeneratorTest {
+
+    private LibraryDatasetGenerator generator;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        generator = new LibraryDatasetGenerator()
+                .books(2_000)
+                .members(500)
+                .historicalLoans(20_000)
+                .activeLoans(300)
+                .seed(2025L);
+        System.out.println("\n▶ [테스트 시작]: " + testInfo.getDisplayName());
+    }
+
+    @Test
+    @DisplayName("✅ 같은 seed 면 같은 데이터가 생성된다")
+    void sameSeedProducesSameDataset() {
+        // When
+        Dataset first = generator.generate();
+        Dataset second = generator.generate();
+        Dataset other = generator.seed(7L).generate();
+
+        // Then
+        assertThat(describe(second)).isEqualTo(describe(first));
+        assertThat(describe(other)).isNotEqualTo(describe(first));
+    }
+
+    @Test
+    @DisplayName("✅ 대출은 소수 인기 도서와 다대출 회원에 몰린다")
+    void loansAreSkewed() {
+        // When
+        Dataset dataset = generator.generate();
+
+        // Then: 상위 1% 도서가 전체 대출의 20% 이상 (균등 분포라면 약 1%)
+        Map<String, Long> perBook = dataset.getLoans().stream()
+                .collect(Collectors.groupingBy(loan -> loan.getBook().getIsbn(), Collectors.counting()));
+        assertThat(topShare(perBook, 20)).isGreaterThan(0.20);
+
+        // 상위 10% 회원이 전체 대출의 30% 이상
+        Map<String, Long> perMember = dataset.getLoans().stream()
+                .collect(Collectors.groupingBy(loan -> loan.getMember().getMemberId(), Collectors.counting()));
+        assertThat(topShare(perMember, 50)).isGreaterThan(0.30);
+    }
+
+    @Test
+    @DisplayName("✅ 활성 대출은 도서/회원 제약을 지킨다")
+    void activeLoansRespectConstraints() {
+        // When
+        Dataset dataset = generator.generate();
+
+        // Then
+        List<Loan> active = dataset.getLoans().stream().filter(loan -> !loan.isReturned())
+                .collect(Collectors.toList());
+        assertThat(active).hasSize(300);
+        assertThat(active).extracting(loan -> loan.getBook().getIsbn()).doesNotHaveDuplicates();
+        assertThat(active).allSatisfy(loan -> {
+            assertThat(loan.getBook().isAvailable()).isFalse();
+            assertThat(loan.getLoanDate()).isBeforeOrEqualTo(dataset.getToday());
+        });
+
+        Map<Member, Long> perMember = active.stream()
+                .collect(Collectors.groupingBy(Loan::getMember, Collectors.counting()));
+        assertThat(dataset.getMembers()).allSatisfy(member ->
+                assertThat(member.getBorrowedBooksCount())
+                        .isEqualTo(perMember.getOrDefault(member, 0L).intValue())
+                        .isLessThanOrEqualTo(3));
+        assertThat(dataset.getBooks()).extracting(Book::getIsbn).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("✅ 생성된 ISBN 은 ISBN-13 체크 숫자가 올바르다")
+    void generatedIsbnHasValidCheckDigit() {
+        assertThat(LibraryDatasetGenerator.isbn(0)).isEqualTo("978-89-0000000-9");
+        assertThat(LibraryDatasetGenerator.isbn(123_456)).hasSize(16).startsWith("978-89-0123456-");
+    }
+
+    @Test
+    @DisplayName("🚀 워크로드 드라이버는 요청을 모두 처리하고 보고서를 만든다")
+    void workloadDriverReportsAllOperations() throws InterruptedException {
+        // Given
+        Dataset dataset = generator.generate();
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryMemberRepository memberRepository = new InMemoryMemberRepository();
+        TieredLoanRepository loanRepository = new TieredLoanRepository();
+        dataset.loadInto(bookRepository, memberRepository, loanRepository);
+        LibraryService libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+
+        // When: 단일 스레드 → 경합 없이 결과가 결정적
+        WorkloadReport report = new LibraryWorkloadDriver(libraryService, dataset)
+                .operations(2_000)
+                .targetRate(20_000)
+                .threads(1)
+                .mix(40, 30, 30)
+                .run();
+
+        // Then
+        System.out.println(report);
+        assertThat(report.getTotalOperations()).isEqualTo(2_000);
+        assertThat(report.getTotalErrors()).isZero();
+        assertThat(report.get(Operation.BORROW).getCount()).isBetween(700L, 900L);
+        assertThat(report.get(Operation.BORROW).getRejected()).isPositive(); // 인기 도서 경합
+        assertThat(report.get(Operation.RETURN).getRejected()).isZero();
+        assertThat(report.get(Operation.QUERY).percentile(50))
+                .isLessThanOrEqualTo(report.get(Operation.QUERY).percentile(99))
+                .isLessThanOrEqualTo(report.get(Operation.QUERY).max());
+        assertThat(report.getThroughput()).isPositive();
+    }
+
+    // ===== Private Helper Methods =====
+
+    /** 데이터셋 비교용 요약 문자열 */
+    private static List<String> describe(Dataset dataset) {
+        List<String> lines = new ArrayList<>();
+        dataset.getBooks().forEach(book -> lines.add(book.getIsbn() + "|" + book.getTitle() + "|" + book.getAuthor()));
+        dataset.getMembers().forEach(member -> lines.add(member.getMemberId() + "|" + member.getName()));
+        dataset.getLoans().forEach(loan -> lines.add(loan.getBook().getIsbn() + "|" + loan.getMember().getMemberId()
+                + "|" + loan.getLoanDate() + "|" + loan.getReturnDate()));
+        return lines;
+    }
+
+    /** 상위 top 개 키가 전체에서 차지하는 비율 */
+    private static double topShare(Map<String, Long> counts, int top) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        long head = counts.values().stream().sorted(Comparator.reverseOrder()).limit(top)
+                .mapToLong(Long::longValue).sum();
+        return (double) head / total;
+    }
+}
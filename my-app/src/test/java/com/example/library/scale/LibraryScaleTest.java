@@ -0,0 +1,61 @@
+// src/test/java/com/example/library/scale/LibraryScaleTest.java
+package com.example.library.scale;
+
+import com.example.library.repository.InMemoryBookRepository;
+import com.example.library.repository.InMemoryMemberRepository;
+import com.example.library.repository.TieredLoanRepository;
+import com.example.library.scale.LibraryDatasetGenerator.Dataset;
+import com.example.library.service.LibraryService;
+
+import org.junit.jupiter.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 운영 규모 부하 테스트
+ * ------------------------------
+ * - 도서 100만 권 / 회원 30만 명 / 대출 이력 200만 건 + 활성 대출 5만 건을 생성해 적재
+ * - 대출 / 반납 / 조회 혼합 요청을 목표 속도로 흘려보내고 처리량, 지연 시간 백분위를 출력
+ * - 실행 시간과 메모리(-Xmx2g 이상 권장)가 커서 기본 빌드에서는 제외됨
+ *   → mvn test -Dgroups=scale -Dtest.excludedGroups=
+ */
+@Tag("scale")
+@DisplayName("🏋️ 운영 규모 부하 테스트")
+class LibraryScaleTest {
+
+    @Test
+    @DisplayName("🚀 수백만 건 데이터에서 혼합 워크로드 실행")
+    void mixedWorkloadAtProductionScale() throws InterruptedException {
+        // Given
+        long started = System.nanoTime();
+        Dataset dataset = new LibraryDatasetGenerator()
+                .books(1_000_000)
+                .members(300_000)
+                .historicalLoans(2_000_000)
+                .activeLoans(50_000)
+                .seed(20250101L)
+                .generate();
+        InMemoryBookRepository bookRepository = new InMemoryBookRepository();
+        InMemoryMemberRepository memberRepository = new InMemoryMemberRepository();
+        TieredLoanRepository loanRepository = new TieredLoanRepository();
+        dataset.loadInto(bookRepository, memberRepository, loanRepository);
+        System.out.printf("데이터 생성/적재 %dms (cold 세그먼트 %d개, 대출 %d건)%n",
+                (System.nanoTime() - started) / 1_000_000,
+                loanRepository.getColdSegmentCount(), dataset.getLoans().size());
+
+        LibraryService libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+
+        // When
+        WorkloadReport report = new LibraryWorkloadDriver(libraryService, dataset)
+                .operations(100_000)
+                .targetRate(5_000)
+                .threads(8)
+                .mix(30, 30, 40)
+                .run();
+
+        // Then
+        System.out.println(report);
+        assertThat(report.getTotalOperations()).isEqualTo(100_000);
+        assertThat(report.getThroughput()).isPositive();
+    }
+}
@@ -0,0 +1,206 @@
+// src/test/java/com/example/library/scale/LibraryWorkloadDriver.java
+package com.example.library.scale;
+
+import com.example.library.model.Loan;
+import com.example.library.scale.LibraryDatasetGenerator.Dataset;
+import com.example.library.scale.WorkloadReport.Operation;
+import com.example.library.scale.WorkloadReport.OperationStats;
+import com.example.library.service.LibraryService;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LibraryWorkloadDriver 클래스
+ * ------------------------------
+ * - LibraryService 에 대출 / 반납 / 이력 조회가 섞인 요청을 목표 속도(ops/s)로 흘려보내는 부하 드라이버
+ * - open-loop 방식 : i 번째 요청은 "시작 시각 + i × 간격" 에 시작되어야 하며,
+ *   서비스가 느려져도 요청 발생 속도는 줄이지 않음
+ *   → 지연 시간도 예정 시각부터 측정하여 밀린 대기 시간까지 포함 (coordinated omission 방지)
+ * - 요청 대상 도서/회원은 Dataset 의 Zipf 분포를 그대로 따름 (인기 도서 경합 재현)
+ * - 반납은 데이터셋의 활성 대출 + 드라이버가 대출에 성공한 도서 중 오래된 것부터 처리
+ * - 같은 seed 면 같은 요청 순서 (스레드 실행 순서에 따른 성공/거절 결과는 달라질 수 있음)
+ */
+public class LibraryWorkloadDriver {
+    private final LibraryService libraryService;
+    private final Dataset dataset;
+
+    private double targetRate = 1_000;  // 초당 요청 수
+    private int operations = 10_000;    // 전체 요청 수
+    private int threads = 4;
+    private int borrowWeight = 30;
+    private int returnWeight = 30;
+    private int queryWeight = 40;
+    private long seed = 7L;
+
+    public LibraryWorkloadDriver(LibraryService libraryService, Dataset dataset) {
+        this.libraryService = libraryService;
+        this.dataset = dataset;
+    }
+
+    // ===== 설정 (builder 스타일) =====
+
+    public LibraryWorkloadDriver targetRate(double opsPerSecond) {
+        if (opsPerSecond <= 0) {
+            throw new IllegalArgumentException("목표 속도는 0보다 커야 합니다");
+        }
+        this.targetRate = opsPerSecond;
+        return this;
+    }
+
+    public LibraryWorkloadDriver operations(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("요청 수는 1 이상이어야 합니다");
+        }
+        this.operations = count;
+        return this;
+    }
+
+    public LibraryWorkloadDriver threads(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("스레드 수는 1 이상이어야 합니다");
+        }
+        this.threads = count;
+        return this;
+    }
+
+    /** 요청 비율 (가중치) : 대출 / 반납 / 조회 */
+    public LibraryWorkloadDriver mix(int borrow, int giveBack, int query) {
+        if (borrow < 0 || giveBack < 0 || query < 0 || borrow + giveBack + query == 0) {
+            throw new IllegalArgumentException("요청 비율이 올바르지 않습니다");
+        }
+        this.borrowWeight = borrow;
+        this.returnWeight = giveBack;
+        this.queryWeight = query;
+        return this;
+    }
+
+    public LibraryWorkloadDriver seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * 부하 실행 후 결과 보고서 반환 (모든 요청이 끝날 때까지 대기)
+     */
+    public WorkloadReport run() throws InterruptedException {
+        // 요청마다 결과를 자기 칸에만 기록 → 집계용 락/경합 없음
+        long[] latencies = new long[operations];
+        Operation[] kinds = new Operation[operations];
+        byte[] outcomes = new byte[operations]; // 0 성공, 1 거절, 2 오류
+
+        ConcurrentLinkedDeque<String> borrowed = new ConcurrentLinkedDeque<>();
+        for (Loan loan : dataset.getLoans()) {
+            if (!loan.isReturned()) {
+                borrowed.add(loan.getBook().getIsbn());
+            }
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDate today = dataset.getToday();
+        long intervalNanos = (long) (1_000_000_000L / targetRate);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < operations; i++) {
+                long intended = start + i * intervalNanos;
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                int index = i;
+                Operation kind = pickOperation(random);
+                String isbn = dataset.samplePopularBook(random).getIsbn();
+                String memberId = dataset.sampleActiveMember(random).getMemberId();
+                kinds[index] = kind;
+                executor.execute(() -> {
+                    outcomes[index] = execute(kind, isbn, memberId, today, borrowed);
+                    latencies[index] = System.nanoTime() - intended;
+                });
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        return new WorkloadReport(elapsed, targetRate, summarize(latencies, kinds, outcomes));
+    }
+
+    // ===== Private Helper Methods =====
+
+    private Operation pickOperation(SplittableRandom random) {
+        int value = random.nextInt(borrowWeight + returnWeight + queryWeight);
+        if (value < borrowWeight) {
+            return Operation.BORROW;
+        }
+        return value < borrowWeight + returnWeight ? Operation.RETURN : Operation.QUERY;
+    }
+
+    /** 요청 1건 처리 → 0 성공, 1 비즈니스 거절, 2 오류 */
+    private byte execute(Operation kind, String isbn, String memberId, LocalDate today,
+                         ConcurrentLinkedDeque<String> borrowed) {
+        try {
+            switch (kind) {
+                case BORROW:
+                    libraryService.borrowBook(isbn, memberId, today);
+                    borrowed.addLast(isbn);
+                    break;
+                case RETURN:
+                    String returning = borrowed.pollFirst();
+                    if (returning == null) {
+                        return 1; // 반납할 대출이 없음
+                    }
+                    libraryService.returnBook(returning, today);
+                    break;
+                default:
+                    libraryService.getMemberLoans(memberId);
+            }
+            return 0;
+        } catch (RuntimeException e) {
+            return isBusinessRejection(e) ? (byte) 1 : (byte) 2;
+        }
+    }
+
+    /** 도메인 예외(com.example.library.exception)는 거절, 그 외는 오류로 분류 */
+    private static boolean isBusinessRejection(RuntimeException e) {
+        return e.getClass().getPackageName().equals("com.example.library.exception");
+    }
+
+    private static Map<Operation, OperationStats> summarize(long[] latencies, Operation[] kinds, byte[] outcomes) {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            int count = 0;
+            long rejected = 0;
+            long errors = 0;
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] == operation) {
+                    count++;
+                }
+            }
+            long[] values = new long[count];
+            int position = 0;
+            for (int i = 0; i < kinds.length; i++) {
+                if (kinds[i] != operation) {
+                    continue;
+                }
+                values[position++] = latencies[i];
+                if (outcomes[i] == 1) {
+                    rejected++;
+                } else if (outcomes[i] == 2) {
+                    errors++;
+                }
+            }
+            stats.put(operation, new OperationStats(values, rejected, errors));
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,130 @@
+// src/test/java/com/example/library/scale/WorkloadReport.java
+package com.example.library.scale;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * WorkloadReport 클래스
+ * ------------------------------
+ * - LibraryWorkloadDriver 1회 실행 결과 요약
+ * - 전체 처리량(ops/s) + 요청 종류별 건수 / 거절 / 오류 / 지연 시간 백분위(p50, p95, p99, max)
+ * - 지연 시간은 "요청이 시작됐어야 할 시각" 기준으로 측정된 값 (밀린 대기 시간 포함)
+ */
+public class WorkloadReport {
+
+    /** 요청 종류 */
+    public enum Operation {
+        BORROW, RETURN, QUERY
+    }
+
+    private final Duration elapsed;
+    private final double targetRate;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    WorkloadReport(Duration elapsed, double targetRate, Map<Operation, OperationStats> stats) {
+        this.elapsed = elapsed;
+        this.targetRate = targetRate;
+        this.stats.putAll(stats);
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public double getTargetRate() {
+        return targetRate;
+    }
+
+    /** 전체 처리 건수 (성공 + 거절 + 오류) */
+    public long getTotalOperations() {
+        return stats.values().stream().mapToLong(OperationStats::getCount).sum();
+    }
+
+    public long getTotalRejected() {
+        return stats.values().stream().mapToLong(OperationStats::getRejected).sum();
+    }
+
+    public long getTotalErrors() {
+        return stats.values().stream().mapToLong(OperationStats::getErrors).sum();
+    }
+
+    /** 실제 처리량 (ops/s) */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1_000_000_000.0;
+        return seconds == 0 ? 0 : getTotalOperations() / seconds;
+    }
+
+    public OperationStats get(Operation operation) {
+        return stats.getOrDefault(operation, OperationStats.EMPTY);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(String.format(
+                "목표 %.0f ops/s, 실제 %.0f ops/s (%d건, %dms, 거절 %d, 오류 %d)",
+                targetRate, getThroughput(), getTotalOperations(), elapsed.toMillis(),
+                getTotalRejected(), getTotalErrors()));
+        for (Operation operation : Operation.values()) {
+            builder.append(System.lineSeparator()).append("  ").append(operation).append(' ').append(get(operation));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 요청 종류별 통계 (지연 시간 단위 : ns)
+     */
+    public static class OperationStats {
+        static final OperationStats EMPTY = new OperationStats(new long[0], 0, 0);
+
+        private final long[] sortedLatencies;
+        private final long rejected;
+        private final long errors;
+
+        OperationStats(long[] latencies, long rejected, long errors) {
+            this.sortedLatencies = latencies.clone();
+            Arrays.sort(this.sortedLatencies);
+            this.rejected = rejected;
+            this.errors = errors;
+        }
+
+        public long getCount() {
+            return sortedLatencies.length;
+        }
+
+        /** 비즈니스 규칙으로 거절된 건수 (대출 불가 도서, 대출 한도 초과 등) */
+        public long getRejected() {
+            return rejected;
+        }
+
+        /** 예상하지 못한 예외로 실패한 건수 */
+        public long getErrors() {
+            return errors;
+        }
+
+        /**
+         * 백분위 지연 시간 (nearest-rank)
+         * @param percentile 0 초과 100 이하
+         */
+        public long percentile(double percentile) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length);
+            return sortedLatencies[Math.max(0, Math.min(rank, sortedLatencies.length) - 1)];
+        }
+
+        public long max() {
+            return sortedLatencies.length == 0 ? 0 : sortedLatencies[sortedLatencies.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d건 (거절 %d, 오류 %d) p50=%dµs p95=%dµs p99=%dµs max=%dµs",
+                    getCount(), rejected, errors,
+                    percentile(50) / 1_000, percentile(95) / 1_000, percentile(99) / 1_000, max() / 1_000);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+// src/test/java/com/example/library/scale/ZipfSampler.java
+package com.example.library.scale;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * ZipfSampler 클래스
+ * ------------------------------
+ * - 0 ~ n-1 순위를 Zipf 분포(P(rank) ∝ 1 / (rank + 1)^exponent)로 뽑는 표본기
+ * - 누적 확률표를 한 번 만들어 두고 이진 탐색으로 추출 → 1회 O(log n)
+ * - exponent 가 클수록 상위 순위(인기 도서, 다대출 회원)에 더 몰림
+ * - 난수는 호출하는 쪽이 넘겨주므로 seed 가 같으면 항상 같은 순서로 추출됨
+ */
+public class ZipfSampler {
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("표본 범위는 1 이상이어야 합니다");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("지수는 0 이상이어야 합니다");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cumulative[rank] /= sum; // 0 ~ 1 로 정규화
+        }
+    }
+
+    /**
+     * 순위 1개 추출 (0 이 가장 인기)
+     */
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index < 0 ? -index - 1 : index;
+        return Math.min(rank, cumulative.length - 1);
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -0,0 +1,165 @@
+// src/test/java/com/example/library/service/LoanReconciliationServiceTest.java
+package com.example.library.service;
+
+import com.example.library.model.Book;
+import com.example.library.model.Member;
+import com.example.library.model.Loan;
+import com.example.library.repository.*;
+
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * LoanReconciliationService 테스트 클래스
+ * ------------------------------
+ * - 활성 대출 기준으로 Member.borrowedBooksCount / Book.available 불일치를 찾아내는지 검증
+ * - repair 옵션으로 불일치를 복구하는지 검증
+ * - chunk 크기를 작게 잡아 Fork/Join 분할/병합 경로도 함께 검증
+ */
+@DisplayName("🧮 대출 정합성 검증 테스트")
+class LoanReconciliationServiceTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 15);
+
+    private InMemoryBookRepository bookRepository;
+    private InMemoryMemberRepository memberRepository;
+    private InMemoryLoanRepository loanRepository;
+    private LibraryService libraryService;
+    private LoanReconciliationService reconciliationService;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        bookRepository = new InMemoryBookRepository();
+        memberRepository = new InMemoryMemberRepository();
+        loanRepository = new InMemoryLoanRepository();
+        libraryService = new LibraryService(bookRepository, memberRepository, loanRepository);
+        reconciliationService = new LoanReconciliationService(
+                bookRepository, memberRepository, loanRepository, ForkJoinPool.commonPool(), 2);
+
+        for (int i = 1; i <= 10; i++) {
+            bookRepository.save(new Book("도서" + i, "저자" + i, "ISBN-" + i));
+        }
+        for (int i = 1; i <= 5; i++) {
+            memberRepository.save(new Member("M00" + i, "회원" + i));
+        }
+
+        System.out.println("\n▶ [테스트 시작]: " + testInfo.getDisplayName());
+    }
+
+    @Test
+    @DisplayName("✅ 서비스를 통해 대출/반납한 상태는 일치한다")
+    void consistentStateHasNoDrift() {
+        // Given
+        libraryService.borrowBook("ISBN-1", "M001", BASE_DATE);
+        libraryService.borrowBook("ISBN-2", "M001", BASE_DATE);
+        libraryService.borrowBook("ISBN-3", "M002", BASE_DATE);
+        libraryService.returnBook("ISBN-2", BASE_DATE.plusDays(2));
+
+        // When
+        ReconciliationReport report = reconciliationService.reconcile(false);
+
+        // Then
+        assertThat(report.isConsistent()).isTrue();
+        assertThat(report.getActiveLoanCount()).isEqualTo(2);
+        assertThat(report.getScannedMemberCount()).isEqualTo(5);
+        assertThat(report.getScannedBookCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("❌ 어긋난 회원 대출 권수와 도서 상태를 찾아낸다")
+    void detectsDrift() {
+        // Given: 대출 저장 전에 장애가 난 것처럼 Member/Book 값만 바뀐 상태
+        libraryService.borrowBook("ISBN-1", "M001", BASE_DATE);
+        memberRepository.findById("M002").get().borrowBook();
+        bookRepository.findByIsbn("ISBN-5").get().borrow();
+
+        // When
+        ReconciliationReport report = reconciliationService.reconcile(false);
+
+        // Then
+        assertThat(report.isConsistent()).isFalse();
+        assertThat(report.getMemberDrifts())
+                .extracting("memberId", "recorded", "expected", "repaired")
+                .containsExactly(tuple("M002", 1, 0, false));
+        assertThat(report.getBookDrifts())
+                .extracting("isbn", "recordedAvailable", "activeLoans", "repaired")
+                .containsExactly(tuple("ISBN-5", false, 0, false));
+        assertThat(memberRepository.findById("M002").get().getBorrowedBooksCount()).isEqualTo(1); // 보고만 함
+    }
+
+    @Test
+    @DisplayName("✅ repair 옵션이면 활성 대출 기준으로 복구한다")
+    void repairsDrift() {
+        // Given: 대출은 저장됐지만 회원/도서 갱신이 유실된 상태
+        Book book = bookRepository.findByIsbn("ISBN-7").get();
+        Member member = memberRepository.findById("M003").get();
+        loanRepository.save(new Loan(book, member, BASE_DATE));
+
+        // When
+        ReconciliationReport report = reconciliationService.reconcile(true);
+
+        // Then
+        assertThat(report.getRepairedCount()).isEqualTo(2);
+        assertThat(member.getBorrowedBooksCount()).isEqualTo(1);
+        assertThat(book.isAvailable()).isFalse();
+        assertThat(reconciliationService.reconcile(false).isConsistent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("❌ 같은 도서의 중복 활성 대출과 저장소에 없는 회원의 대출을 보고한다")
+    void reportsDuplicateAndOrphanLoans() {
+        // Given
+        libraryService.borrowBook("ISBN-1", "M001", BASE_DATE);
+        Book book = bookRepository.findByIsbn("ISBN-1").get();
+        Member member2 = memberRepository.findById("M002").get();
+        member2.borrowBook();
+        loanRepository.save(new Loan(book, member2, BASE_DATE.plusDays(1))); // 중복 대출
+        Member ghost = new Member("GHOST", "탈퇴회원");
+        Book other = bookRepository.findByIsbn("ISBN-9").get();
+        other.borrow();
+        loanRepository.save(new Loan(other, ghost, BASE_DATE));           // 회원 없음
+
+        // When
+        ReconciliationReport report = reconciliationService.reconcile(true);
+
+        // Then
+        assertThat(report.getBookDrifts())
+                .extracting("isbn", "activeLoans", "repaired")
+                .containsExactly(tuple("ISBN-1", 2, false));
+        assertThat(report.getMemberDrifts()).isEmpty();
+        assertThat(report.getOrphanMemberLoanCount()).isEqualTo(1);
+        assertThat(report.getOrphanBookLoanCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 많은 회원/도서도 chunk 병렬 비교로 정확히 집계한다")
+    void largeDatasetIsAggregatedCorrectly() {
+        // Given
+        InMemoryBookRepository books = new InMemoryBookRepository();
+        InMemoryMemberRepository members = new InMemoryMemberRepository();
+        InMemoryLoanRepository loans = new InMemoryLoanRepository();
+        LibraryService service = new LibraryService(books, members, loans);
+        int memberCount = 20_000;
+        for (int i = 0; i < memberCount; i++) {
+            members.save(new Member("M" + i, "회원" + i));
+            books.save(new Book("도서" + i, "저자", "ISBN-" + i));
+        }
+        for (int i = 0; i < memberCount; i += 3) {
+            service.borrowBook("ISBN-" + i, "M" + i, BASE_DATE.plusDays(i % 30));
+        }
+        members.findById("M6").get().restoreBorrowedBooksCount(0);
+
+        // When
+        ReconciliationReport report = new LoanReconciliationService(
+                books, members, loans, ForkJoinPool.commonPool(), 1_024).reconcile(false);
+
+        // Then
+        assertThat(report.getActiveLoanCount()).isEqualTo(loans.size());
+        assertThat(report.getMemberDrifts()).extracting("memberId").containsExactly("M6");
+        assertThat(report.getBookDrifts()).isEmpty();
+    }
+}
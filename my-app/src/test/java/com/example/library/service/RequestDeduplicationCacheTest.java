@@ -0,0 +1,325 @@
+// src/test/java/com/example/library/service/RequestDeduplicationCacheTest.java
+package com.example.library.service;
+
+import com.example.library.model.Book;
+import com.example.library.model.Member;
+import com.example.library.model.Loan;
+import com.example.library.repository.*;
+import com.example.library.exception.*;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RequestDeduplicationCache 테스트 클래스
+ * ------------------------------
+ * - 요청 ID 기반 중복 제거 캐시의 보관/만료/한도 동작 검증
+ * - LibraryService 의 멱등 대출/반납이 재시도를 흡수하는지 검증 (InMemory 저장소 사용)
+ */
+@DisplayName("🔁 요청 ID 중복 제거 테스트")
+class RequestDeduplicationCacheTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 15);
+
+    private MutableClock clock;
+    private RequestDeduplicationCache cache;
+
+    private InMemoryBookRepository bookRepository;
+    private InMemoryMemberRepository memberRepository;
+    private InMemoryLoanRepository loanRepository;
+    private LibraryService libraryService;
+
+    @BeforeEach
+    void setUp(TestInfo testInfo) {
+        clock = new MutableClock(Instant.parse("2025-01-15T09:00:00Z"));
+        cache = new RequestDeduplicationCache(3, Duration.ofMinutes(5), clock);
+
+        bookRepository = new InMemoryBookRepository();
+        memberRepository = new InMemoryMemberRepository();
+        loanRepository = new InMemoryLoanRepository();
+        libraryService = new LibraryService(bookRepository, memberRepository, loanRepository, cache);
+
+        bookRepository.save(new Book("클린 코드", "로버트 C. 마틴", "978-89-6626-311-3"));
+        bookRepository.save(new Book("리팩터링", "마틴 파울러", "978-89-6626-312-4"));
+        memberRepository.save(new Member("M001", "김개발"));
+
+        System.out.println("\n▶ [테스트 시작]: " + testInfo.getDisplayName());
+    }
+
+    @Nested
+    @DisplayName("캐시 동작")
+    class CacheBehaviorTest {
+
+        @Test
+        @DisplayName("✅ 같은 요청 ID는 작업을 한 번만 실행하고 같은 결과를 반환한다")
+        void sameRequestIdExecutesOnce() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            Loan loan = sampleLoan();
+
+            // When
+            Loan first = cache.execute("REQ-1", () -> { calls.incrementAndGet(); return loan; });
+            Loan second = cache.execute("REQ-1", () -> { calls.incrementAndGet(); return sampleLoan(); });
+
+            // Then
+            assertThat(second).isSameAs(first);
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("✅ 보관 기간이 지나면 다시 실행한다")
+        void expiredEntryIsExecutedAgain() {
+            // Given
+            AtomicInteger calls = new AtomicInteger();
+            cache.execute("REQ-1", () -> { calls.incrementAndGet(); return sampleLoan(); });
+
+            // When
+            clock.advance(Duration.ofMinutes(5));
+            cache.execute("REQ-1", () -> { calls.incrementAndGet(); return sampleLoan(); });
+
+            // Then
+            assertThat(calls).hasValue(2);
+        }
+
+        @Test
+        @DisplayName("✅ 최대 보관 건수를 넘으면 가장 오래된 항목부터 제거한다")
+        void boundedBySize() {
+            // When
+            for (int i = 1; i <= 5; i++) {
+                cache.execute("REQ-" + i, RequestDeduplicationCacheTest.this::sampleLoan);
+            }
+
+            // Then
+            assertThat(cache.size()).isEqualTo(3);
+            AtomicInteger calls = new AtomicInteger();
+            cache.execute("REQ-1", () -> { calls.incrementAndGet(); return sampleLoan(); }); // 제거됨 → 재실행
+            cache.execute("REQ-5", () -> { calls.incrementAndGet(); return sampleLoan(); }); // 보관 중
+            assertThat(calls).hasValue(1);
+        }
+
+        @Test
+        @DisplayName("✅ 처리 중인 요청은 한도나 보관 기간을 넘어도 제거하지 않는다")
+        void inFlightEntryIsNotEvicted() throws Exception {
+            // Given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            Loan loan = sampleLoan();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<Loan> first = executor.submit(() -> cache.execute("REQ-1", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                    return loan;
+                }));
+                started.await();
+
+                // When : 처리 중에 한도(3건)를 넘기고 보관 기간도 지난다
+                for (int i = 2; i <= 5; i++) {
+                    cache.execute("REQ-" + i, RequestDeduplicationCacheTest.this::sampleLoan);
+                }
+                int sizeOverLimit = cache.size();
+                clock.advance(Duration.ofMinutes(6));
+                cache.execute("REQ-6", RequestDeduplicationCacheTest.this::sampleLoan);
+                int sizeAfterExpiry = cache.size();
+
+                // 재시도가 최초 처리 완료를 기다리기 시작한 뒤에 최초 처리를 끝낸다
+                Thread retrying = Thread.currentThread();
+                executor.submit(() -> {
+                    while (retrying.getState() != Thread.State.WAITING) {
+                        Thread.onSpinWait();
+                    }
+                    release.countDown();
+                });
+                Loan retried = cache.execute("REQ-1", () -> {
+                    calls.incrementAndGet();
+                    return sampleLoan();
+                });
+
+                // Then
+                assertThat(sizeOverLimit).isEqualTo(3);   // REQ-1(처리 중), REQ-4, REQ-5
+                assertThat(sizeAfterExpiry).isEqualTo(2); // REQ-1(처리 중), REQ-6
+                assertThat(retried).isSameAs(loan);
+                assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(loan);
+                assertThat(calls).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("❌ 실패한 요청은 기록하지 않아 재시도 시 다시 실행한다")
+        void failedRequestIsNotCached() {
+            // Given
+            assertThatThrownBy(() -> cache.execute("REQ-1", () -> {
+                throw new BookNotFoundException("도서를 찾을 수 없습니다: X");
+            })).isInstanceOf(BookNotFoundException.class);
+
+            // When
+            Loan loan = sampleLoan();
+            Loan result = cache.execute("REQ-1", () -> loan);
+
+            // Then
+            assertThat(result).isSameAs(loan);
+        }
+
+        @Test
+        @DisplayName("✅ 처리 중인 요청과 같은 ID가 들어오면 완료를 기다려 같은 결과를 받는다")
+        void concurrentDuplicateWaitsForFirst() throws Exception {
+            // Given
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger calls = new AtomicInteger();
+            Loan loan = sampleLoan();
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                Future<Loan> first = executor.submit(() -> cache.execute("REQ-1", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    awaitQuietly(release);
+                    return loan;
+                }));
+                started.await();
+                Future<Loan> retry = executor.submit(() -> cache.execute("REQ-1", () -> {
+                    calls.incrementAndGet();
+                    return sampleLoan();
+                }));
+
+                // When
+                release.countDown();
+
+                // Then
+                assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(loan);
+                assertThat(retry.get(5, TimeUnit.SECONDS)).isSameAs(loan);
+                assertThat(calls).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("LibraryService 멱등 대출/반납")
+    class IdempotentServiceTest {
+
+        @Test
+        @DisplayName("✅ 대출 재시도는 중복 대출 없이 최초 Loan 을 반환한다")
+        void retriedBorrowReturnsOriginalLoan() {
+            // When
+            Loan first = libraryService.borrowBook("REQ-100", "978-89-6626-311-3", "M001", BASE_DATE);
+            Loan retry = libraryService.borrowBook("REQ-100", "978-89-6626-311-3", "M001", BASE_DATE);
+
+            // Then
+            assertThat(retry).isSameAs(first);
+            assertThat(memberRepository.findById("M001").get().getBorrowedBooksCount()).isEqualTo(1);
+            assertThat(loanRepository.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("❌ 다른 요청 ID로 같은 도서를 대출하면 기존처럼 예외가 발생한다")
+        void differentRequestIdIsValidated() {
+            // Given
+            libraryService.borrowBook("REQ-100", "978-89-6626-311-3", "M001", BASE_DATE);
+
+            // When & Then
+            assertThatThrownBy(() ->
+                    libraryService.borrowBook("REQ-101", "978-89-6626-311-3", "M001", BASE_DATE))
+                    .isInstanceOf(BookNotAvailableException.class);
+        }
+
+        @Test
+        @DisplayName("✅ 반납 재시도는 최초 반납 결과를 반환한다")
+        void retriedReturnReturnsOriginalLoan() {
+            // Given
+            libraryService.borrowBook("REQ-100", "978-89-6626-311-3", "M001", BASE_DATE);
+
+            // When
+            Loan first = libraryService.returnBook("REQ-200", "978-89-6626-311-3", BASE_DATE.plusDays(3));
+            Loan retry = libraryService.returnBook("REQ-200", "978-89-6626-311-3", BASE_DATE.plusDays(3));
+
+            // Then
+            assertThat(retry).isSameAs(first);
+            assertThat(first.isReturned()).isTrue();
+            assertThat(memberRepository.findById("M001").get().getBorrowedBooksCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("✅ 대출과 반납의 요청 ID가 같아도 서로의 결과를 섞지 않는다")
+        void borrowAndReturnKeysAreSeparated() {
+            // Given
+            Loan borrowed = libraryService.borrowBook("REQ-1", "978-89-6626-311-3", "M001", BASE_DATE);
+
+            // When
+            Loan returned = libraryService.returnBook("REQ-1", "978-89-6626-311-3", BASE_DATE.plusDays(1));
+
+            // Then
+            assertThat(returned.isReturned()).isTrue();
+            assertThat(returned).isSameAs(borrowed);
+            assertThat(bookRepository.findByIsbn("978-89-6626-311-3").get().isAvailable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("❌ 요청 ID가 없으면 예외가 발생한다")
+        void requestIdIsRequired() {
+            assertThatThrownBy(() ->
+                    libraryService.borrowBook(" ", "978-89-6626-311-3", "M001", BASE_DATE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("요청 ID는 필수입니다");
+        }
+    }
+
+    // ===== Test Helper Methods =====
+
+    private Loan sampleLoan() {
+        return new Loan(new Book("테스트 책", "저자", "ISBN-001"), new Member("M999", "테스트"), BASE_DATE);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 테스트에서 시간을 직접 앞당길 수 있는 시계 */
+    private static final class MutableClock extends Clock {
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}